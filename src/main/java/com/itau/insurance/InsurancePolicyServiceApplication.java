@@ -2,8 +2,18 @@ package com.itau.insurance;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC só existe no profile reactive e é configurado em ReactiveConfig
+@SpringBootApplication(exclude = {
+		R2dbcAutoConfiguration.class,
+		R2dbcDataAutoConfiguration.class,
+		R2dbcRepositoriesAutoConfiguration.class,
+		R2dbcTransactionManagerAutoConfiguration.class
+})
 public class InsurancePolicyServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,132 @@
+package com.itau.insurance.application.rules;
+
+import com.itau.insurance.config.ApprovalRulesProperties;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.InvalidApprovalRulesException;
+import com.itau.insurance.exceptions.InvalidRiskClassificationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decide a aprovação de uma solicitação a partir de limites pré-compilados por categoria e classificação.
+ * A avaliação não aloca: a busca da categoria ignora maiúsculas/minúsculas sem criar strings e os limites
+ * já são {@link BigDecimal}. Novas regras são compiladas fora do caminho de avaliação e trocadas atomicamente.
+ */
+@Slf4j
+@Component
+public class ApprovalRuleEngine {
+
+    private final AtomicReference<CompiledRules> rules = new AtomicReference<>();
+
+    public ApprovalRuleEngine(ApprovalRulesProperties properties) {
+        rules.set(compile(properties));
+    }
+
+    public boolean shouldApprove(RiskClassification classification, String category, BigDecimal insuredAmount) {
+        if (classification == null) {
+            throw new InvalidRiskClassificationException("Classificação de risco não informada pela análise de fraude");
+        }
+
+        return insuredAmount.compareTo(rules.get().limitsFor(category)[classification.ordinal()]) <= 0;
+    }
+
+    public ApprovalRulesProperties currentRules() {
+        return copyOf(rules.get().source);
+    }
+
+    public void reload(ApprovalRulesProperties properties) {
+        rules.set(compile(properties));
+        log.info("Regras de aprovação recarregadas: {}", properties.getClassifications());
+    }
+
+    private static CompiledRules compile(ApprovalRulesProperties properties) {
+        Map<RiskClassification, ApprovalRulesProperties.Limits> source = properties.getClassifications();
+        RiskClassification[] classifications = RiskClassification.values();
+        BigDecimal[] defaults = new BigDecimal[classifications.length];
+
+        for (RiskClassification classification : classifications) {
+            ApprovalRulesProperties.Limits configured = source == null ? null : source.get(classification);
+            if (configured == null || configured.getDefaultLimit() == null) {
+                throw new InvalidApprovalRulesException("Limite padrão não configurado para a classificação " + classification);
+            }
+            defaults[classification.ordinal()] = requirePositive(classification, "padrão", configured.getDefaultLimit());
+        }
+
+        // Uma linha por categoria conhecida, com o limite de cada classificação (indexado pelo ordinal);
+        // classificações sem regra para a categoria herdam o limite padrão.
+        Map<String, BigDecimal[]> byCategory = new HashMap<>();
+        for (RiskClassification classification : classifications) {
+            Map<String, BigDecimal> categories = source.get(classification).getCategories();
+            if (categories == null) {
+                continue;
+            }
+            categories.forEach((category, limit) -> byCategory
+                    .computeIfAbsent(category.toUpperCase(Locale.ROOT), key -> defaults.clone())
+                    [classification.ordinal()] = requirePositive(classification, category, limit));
+        }
+
+        return new CompiledRules(byCategory, byCategory.keySet().toArray(String[]::new), defaults, copyOf(properties));
+    }
+
+    private static BigDecimal requirePositive(RiskClassification classification, String category, BigDecimal limit) {
+        if (limit == null || limit.signum() < 0) {
+            throw new InvalidApprovalRulesException(
+                    "Limite inválido para " + classification + "/" + category + ": " + limit);
+        }
+        return limit;
+    }
+
+    private static ApprovalRulesProperties copyOf(ApprovalRulesProperties properties) {
+        Map<RiskClassification, ApprovalRulesProperties.Limits> copy = new EnumMap<>(RiskClassification.class);
+        properties.getClassifications().forEach((classification, limits) -> copy.put(classification,
+                new ApprovalRulesProperties.Limits(limits.getDefaultLimit(),
+                        limits.getCategories() == null ? new HashMap<>() : new HashMap<>(limits.getCategories()))));
+        return new ApprovalRulesProperties(copy);
+    }
+
+    private record CompiledRules(Map<String, BigDecimal[]> byCategory, String[] categories,
+                                 BigDecimal[] defaults, ApprovalRulesProperties source) {
+
+        // Categorias chegam normalmente em maiúsculas e acertam o mapa usando o hash já calculado da string;
+        // as demais são comparadas com equalsIgnoreCase, sem criar uma cópia em maiúsculas.
+        BigDecimal[] limitsFor(String category) {
+            if (category == null) {
+                return defaults;
+            }
+
+            BigDecimal[] limits = byCategory.get(category);
+            if (limits != null) {
+                return limits;
+            }
+
+            for (String known : categories) {
+                if (matchesIgnoringCase(known, category)) {
+                    return byCategory.get(known);
+                }
+            }
+            return defaults;
+        }
+
+        // known já está em maiúsculas; letras ASCII são comparadas com um XOR de bit, o restante cai no equalsIgnoreCase
+        private static boolean matchesIgnoringCase(String known, String category) {
+            if (known.length() != category.length()) {
+                return false;
+            }
+            for (int i = 0; i < known.length(); i++) {
+                char expected = known.charAt(i);
+                char actual = category.charAt(i);
+                if (expected != actual && !(expected >= 'A' && expected <= 'Z' && (actual ^ 0x20) == expected)) {
+                    return expected > 0x7F && known.equalsIgnoreCase(category);
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.itau.insurance.application.usecases;
 
+import com.itau.insurance.config.CacheConfig;
 import com.itau.insurance.domain.enums.RequestStatus;
 import com.itau.insurance.exceptions.BusinessException;
 import com.itau.insurance.exceptions.NotFoundException;
@@ -8,7 +9,9 @@ import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
 import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -20,10 +23,21 @@ public class CancelPolicyUseCase {
     private final PolicyRequestRepository repository;
     private final EventPublisher eventPublisher;
 
+    @CacheEvict(cacheNames = CacheConfig.POLICIES_CACHE, key = "#policyId")
+    @Transactional
     public PolicyRequestEntity execute(UUID policyId) {
         PolicyRequestEntity policy = repository.findById(policyId)
                 .orElseThrow(() -> new NotFoundException("Solicitação não encontrada: " + policyId));
 
+        cancel(policy);
+
+        PolicyRequestEntity saved = repository.save(policy);
+        eventPublisher.publishPolicyEvent(saved);
+
+        return saved;
+    }
+
+    static void cancel(PolicyRequestEntity policy) {
         if (isFinalStatus(policy.getStatus())) {
             throw new BusinessException("Solicitação não pode ser cancelada pois está em status final: " + policy.getStatus());
         }
@@ -35,13 +49,9 @@ public class CancelPolicyUseCase {
                 .status(RequestStatus.CANCELLED)
                 .timestamp(LocalDateTime.now())
                 .build());
-
-        eventPublisher.publishPolicyEvent(policy);
-
-        return repository.save(policy);
     }
 
-    private boolean isFinalStatus(RequestStatus status) {
+    private static boolean isFinalStatus(RequestStatus status) {
         return status == RequestStatus.APPROVED || status == RequestStatus.REJECTED;
     }
 }
@@ -0,0 +1,160 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.messaging.EventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.PolicyBatchItemResultDTO;
+import com.itau.insurance.interfaces.dto.PolicyBatchResponseDTO;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class CreatePolicyBatchUseCase {
+
+    private final PolicyRequestRepository repository;
+    private final EventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CreatePolicyBatchUseCase(PolicyRequestRepository repository,
+                                    EventPublisher eventPublisher,
+                                    EntityManager entityManager,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${policy.batch.chunk-size:500}") int chunkSize) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public PolicyBatchResponseDTO execute(List<PolicyRequestEntity> requests) {
+        List<PolicyBatchItemResultDTO> results = new ArrayList<>(requests.size());
+        List<PolicyRequestEntity> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+
+        for (int i = 0; i < requests.size(); i++) {
+            PolicyRequestEntity request = requests.get(i);
+            String error = validate(request);
+
+            if (error != null) {
+                results.add(PolicyBatchItemResultDTO.failed(i, error));
+                continue;
+            }
+
+            markAsReceived(request);
+            chunk.add(request);
+            chunkIndexes.add(i);
+
+            if (chunk.size() == chunkSize) {
+                results.addAll(persistChunk(chunk, chunkIndexes));
+                chunk.clear();
+                chunkIndexes.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(persistChunk(chunk, chunkIndexes));
+        }
+
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        int created = (int) results.stream().filter(r -> r.getId() != null).count();
+
+        return PolicyBatchResponseDTO.builder()
+                .total(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .items(results)
+                .build();
+    }
+
+    private List<PolicyBatchItemResultDTO> persistChunk(List<PolicyRequestEntity> chunk, List<Integer> indexes) {
+        List<PolicyBatchItemResultDTO> results = new ArrayList<>(chunk.size());
+
+        try {
+            // apólices e eventos do outbox de cada lote são gravados na mesma transação
+            List<PolicyRequestEntity> saved = transactionTemplate.execute(status -> {
+                List<PolicyRequestEntity> persisted = repository.saveAll(chunk);
+                eventPublisher.publishPolicyEvents(persisted);
+                return persisted;
+            });
+
+            for (int i = 0; i < saved.size(); i++) {
+                results.add(PolicyBatchItemResultDTO.created(indexes.get(i), saved.get(i).getId()));
+            }
+        } catch (Exception e) {
+            log.warn("Falha ao persistir lote de {} solicitações, tentando item a item: {}", chunk.size(), e.getMessage());
+            entityManager.clear();
+            results.clear();
+
+            // isola os itens com erro para que o restante do lote seja aproveitado
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(persistSingle(chunk.get(i), indexes.get(i)));
+            }
+        } finally {
+            // evita que o contexto de persistência cresça durante toda a requisição
+            entityManager.clear();
+        }
+
+        return results;
+    }
+
+    private PolicyBatchItemResultDTO persistSingle(PolicyRequestEntity request, int index) {
+        try {
+            // ids e versão atribuídos na tentativa em lote não chegaram a ser persistidos; com a versão preenchida
+            // o Spring Data trataria a apólice como existente e faria merge (cópia) em vez de persist
+            request.setId(null);
+            request.setVersion(null);
+            request.getHistory().forEach(history -> history.setId(null));
+            PolicyRequestEntity saved = transactionTemplate.execute(status -> {
+                PolicyRequestEntity persisted = repository.save(request);
+                eventPublisher.publishPolicyEvent(persisted);
+                return persisted;
+            });
+            return PolicyBatchItemResultDTO.created(index, saved.getId());
+        } catch (Exception e) {
+            return PolicyBatchItemResultDTO.failed(index, "Erro ao criar a solicitação de apólice: " + e.getMessage());
+        }
+    }
+
+    static void markAsReceived(PolicyRequestEntity request) {
+        request.setStatus(RequestStatus.RECEIVED);
+        request.setCreatedAt(LocalDateTime.now());
+
+        if (request.getHistory() == null) {
+            request.setHistory(new ArrayList<>());
+        }
+
+        request.getHistory().add(StatusHistoryEntity.builder()
+                .status(RequestStatus.RECEIVED)
+                .timestamp(request.getCreatedAt())
+                .build());
+    }
+
+    static String validate(PolicyRequestEntity request) {
+        if (request == null) {
+            return "A solicitação de apólice está nula";
+        }
+        if (request.getCustomerId() == null
+                || request.getProductId() == null
+                || request.getCategory() == null
+                || request.getSalesChannel() == null
+                || request.getPaymentMethod() == null
+                || request.getTotalMonthlyPremiumAmount() == null
+                || request.getInsuredAmount() == null) {
+            return "Campos obrigatórios ausentes na solicitação de apólice";
+        }
+        return null;
+    }
+}
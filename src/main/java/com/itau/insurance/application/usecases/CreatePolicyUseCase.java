@@ -8,6 +8,7 @@ import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -19,6 +20,7 @@ public class CreatePolicyUseCase {
     private final PolicyRequestRepository repository;
     private final EventPublisher eventPublisher;
 
+    @Transactional
     public UUID execute(PolicyRequestEntity request) {
         try {
             if (request == null) {
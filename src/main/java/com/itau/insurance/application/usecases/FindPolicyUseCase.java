@@ -1,32 +1,155 @@
 package com.itau.insurance.application.usecases;
 
+import com.itau.insurance.config.CacheConfig;
 import com.itau.insurance.exceptions.PolicyNotFoundException;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
-import lombok.RequiredArgsConstructor;
+import com.itau.insurance.infrastructure.streaming.PolicyStatusChangedEvent;
+import com.itau.insurance.interfaces.dto.PolicyFields;
+import com.itau.insurance.interfaces.dto.PolicyPageCursor;
+import com.itau.insurance.interfaces.dto.PolicyPageResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class FindPolicyUseCase {
 
     private final PolicyRequestRepository repository;
+    private final Cache cache;
+    private final int maxPageSize;
 
+    public FindPolicyUseCase(PolicyRequestRepository repository,
+                             CacheManager cacheManager,
+                             @Value("${policy.pagination.max-limit:200}") int maxPageSize) {
+        this.repository = repository;
+        this.cache = cacheManager.getCache(CacheConfig.POLICIES_CACHE);
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.POLICIES_CACHE, key = "#id")
     public PolicyRequestEntity findById(UUID id) {
-        return repository.findById(id)
+        return load(id);
+    }
+
+    /**
+     * Entidade completa pelo cache, desde que não esteja atrás da versão já lida do banco (leitura condicional).
+     * Uma carga iniciada antes de uma gravação pode repor a entidade antiga no cache depois do evict; sem esta
+     * verificação o ETag servido só convergiria no fim do TTL. Nesse caso a entidade é recarregada e substitui a do cache.
+     */
+    @Transactional(readOnly = true)
+    public PolicyRequestEntity findById(UUID id, long currentVersion) {
+        PolicyRequestEntity cached = cache.get(id, PolicyRequestEntity.class);
+        if (cached != null && !isBehind(cached, currentVersion)) {
+            return cached;
+        }
+
+        PolicyRequestEntity loaded = load(id);
+        cache.put(id, loaded);
+        return loaded;
+    }
+
+    static boolean isBehind(PolicyRequestEntity policy, long currentVersion) {
+        return policy.getVersion() == null || policy.getVersion() < currentVersion;
+    }
+
+    private PolicyRequestEntity load(UUID id) {
+        PolicyRequestEntity policy = repository.findById(id)
+                .orElseThrow(() -> new PolicyNotFoundException(id));
+
+        // a entidade fica em cache fora da sessão, então todas as coleções precisam estar carregadas
+        repository.fetchCoverages(List.of(id));
+        repository.fetchAssistances(List.of(id));
+
+        return policy;
+    }
+
+    /**
+     * Leitura projetada para {@code ?fields=}: busca só a linha da apólice e as coleções selecionadas, sem passar
+     * pelo cache (que guarda a entidade completa).
+     */
+    @Transactional(readOnly = true)
+    public PolicyResponseDTO findById(UUID id, PolicyFields fields) {
+        PolicyRequestEntity policy = repository.findWithoutCollectionsById(id)
+                .orElseThrow(() -> new PolicyNotFoundException(id));
+
+        loadCollections(List.of(id), fields);
+
+        return PolicyResponseDTO.of(policy, fields);
+    }
+
+    /**
+     * Versão atual da apólice, sem carregar a entidade; usada para responder 304 a leituras condicionais.
+     */
+    @Transactional(readOnly = true)
+    public long findVersion(UUID id) {
+        return repository.findVersionById(id)
                 .orElseThrow(() -> new PolicyNotFoundException(id));
     }
 
-    public List<PolicyRequestEntity> findByCustomerId(UUID customerId) {
-        List<PolicyRequestEntity> policies = repository.findByCustomerId(customerId);
+    /**
+     * Última transição da apólice lida do banco, fora do cache; abre o stream SSE da apólice.
+     */
+    @Transactional(readOnly = true)
+    public PolicyStatusEventDTO findCurrentStatus(UUID id) {
+        PolicyRequestEntity policy = repository.findWithoutCollectionsById(id)
+                .orElseThrow(() -> new PolicyNotFoundException(id));
+
+        repository.fetchHistory(List.of(id));
+
+        return PolicyStatusChangedEvent.latestChange(policy);
+    }
+
+    @Transactional(readOnly = true)
+    public PolicyPageResponseDTO findByCustomerId(UUID customerId, String next, int limit, PolicyFields fields) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        // busca um item a mais apenas para saber se existe próxima página
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<PolicyRequestEntity> policies;
+        if (next == null || next.isBlank()) {
+            policies = repository.findFirstPageByCustomerId(customerId, fetchLimit);
 
-        if (policies.isEmpty()) {
-            throw new PolicyNotFoundException("Nenhuma apólice encontrada para o cliente " + customerId);
+            if (policies.isEmpty()) {
+                throw new PolicyNotFoundException("Nenhuma apólice encontrada para o cliente " + customerId);
+            }
+        } else {
+            PolicyPageCursor cursor = PolicyPageCursor.decode(next);
+            policies = repository.findPageByCustomerIdAfter(customerId, cursor.createdAt(), cursor.id(), fetchLimit);
         }
 
-        return policies;
+        boolean hasMore = policies.size() > pageSize;
+        List<PolicyRequestEntity> page = hasMore ? policies.subList(0, pageSize) : policies;
+
+        if (!page.isEmpty()) {
+            loadCollections(page.stream().map(PolicyRequestEntity::getId).toList(), fields);
+        }
+
+        String nextToken = hasMore ? PolicyPageCursor.of(page.get(page.size() - 1)).encode() : null;
+        List<PolicyResponseDTO> items = page.stream().map(policy -> PolicyResponseDTO.of(policy, fields)).toList();
+        return new PolicyPageResponseDTO(items, nextToken);
+    }
+
+    // Quantidade fixa de consultas (uma por coleção selecionada), independente do número de apólices
+    private void loadCollections(List<UUID> ids, PolicyFields fields) {
+        if (fields.includes(PolicyFields.HISTORY)) {
+            repository.fetchHistory(ids);
+        }
+        if (fields.includes(PolicyFields.COVERAGES)) {
+            repository.fetchCoverages(ids);
+        }
+        if (fields.includes(PolicyFields.ASSISTANCES)) {
+            repository.fetchAssistances(ids);
+        }
     }
 }
@@ -0,0 +1,40 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.exceptions.PolicyCreationException;
+import com.itau.insurance.infrastructure.messaging.ReactiveEventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.reactive.ReactivePolicyRequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCreatePolicyUseCase {
+
+    private final ReactivePolicyRequestRepository repository;
+    private final ReactiveEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+
+    public Mono<UUID> execute(PolicyRequestEntity request) {
+        return Mono.defer(() -> {
+                    String error = CreatePolicyBatchUseCase.validate(request);
+                    if (error != null) {
+                        return Mono.error(new PolicyCreationException(error));
+                    }
+
+                    CreatePolicyBatchUseCase.markAsReceived(request);
+
+                    return repository.insert(request)
+                            .flatMap(saved -> eventPublisher.publishPolicyEvent(saved).thenReturn(saved.getId()))
+                            .as(transactionalOperator::transactional);
+                })
+                .onErrorMap(e -> !(e instanceof PolicyCreationException),
+                        e -> new PolicyCreationException("Erro ao criar a solicitação de apólice", e));
+    }
+}
@@ -0,0 +1,96 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.reactive.ReactivePolicyRequestRepository;
+import com.itau.insurance.infrastructure.streaming.PolicyStatusChangedEvent;
+import com.itau.insurance.interfaces.dto.PolicyFields;
+import com.itau.insurance.interfaces.dto.PolicyResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Leitura reativa que compartilha o cache "policies" com o {@link FindPolicyUseCase}: o cache Caffeine
+ * responde em memória, e só a ausência vai ao banco pelo R2DBC.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveFindPolicyUseCase {
+
+    private final ReactivePolicyRequestRepository repository;
+    private final Cache cache;
+
+    public ReactiveFindPolicyUseCase(ReactivePolicyRequestRepository repository, CacheManager cacheManager) {
+        this.repository = repository;
+        this.cache = cacheManager.getCache(CacheConfig.POLICIES_CACHE);
+    }
+
+    public Mono<PolicyRequestEntity> findById(UUID id) {
+        return Mono.defer(() -> Mono.justOrEmpty(cache.get(id, PolicyRequestEntity.class)))
+                .switchIfEmpty(repository.findById(id).doOnNext(policy -> cache.put(id, policy)))
+                .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException(id)));
+    }
+
+    public Mono<Long> findVersion(UUID id) {
+        return repository.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException(id)));
+    }
+
+    // fora do cache, como no FindPolicyUseCase: abre o stream SSE da apólice
+    public Mono<PolicyStatusEventDTO> findCurrentStatus(UUID id) {
+        return repository.findWithoutCollectionsById(id)
+                .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException(id)))
+                .flatMap(repository::fetchHistory)
+                .mapNotNull(PolicyStatusChangedEvent::latestChange);
+    }
+
+    /**
+     * Leitura projetada para {@code ?fields=}: no cache a entidade já está completa; fora dele, busca só a linha
+     * da apólice e as coleções selecionadas, sem gravar o resultado parcial no cache.
+     */
+    public Mono<PolicyResponseDTO> findById(UUID id, PolicyFields fields) {
+        if (fields.isAll()) {
+            return findById(id).map(policy -> PolicyResponseDTO.of(policy, fields));
+        }
+
+        return Mono.defer(() -> Mono.justOrEmpty(cache.get(id, PolicyRequestEntity.class)))
+                .switchIfEmpty(repository.findWithoutCollectionsById(id).flatMap(policy -> fetchSelected(policy, fields)))
+                .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException(id)))
+                .map(policy -> PolicyResponseDTO.of(policy, fields));
+    }
+
+    /**
+     * Como {@link #findById(UUID, PolicyFields)}, descartando antes a entrada do cache que esteja atrás da versão já
+     * lida do banco (leitura condicional); ver {@link FindPolicyUseCase#findById(UUID, long)}.
+     */
+    public Mono<PolicyResponseDTO> findById(UUID id, PolicyFields fields, long currentVersion) {
+        return Mono.fromRunnable(() -> {
+                    PolicyRequestEntity cached = cache.get(id, PolicyRequestEntity.class);
+                    if (cached != null && FindPolicyUseCase.isBehind(cached, currentVersion)) {
+                        cache.evict(id);
+                    }
+                })
+                .then(findById(id, fields));
+    }
+
+    private Mono<PolicyRequestEntity> fetchSelected(PolicyRequestEntity policy, PolicyFields fields) {
+        Mono<PolicyRequestEntity> loaded = Mono.just(policy);
+        if (fields.includes(PolicyFields.COVERAGES)) {
+            loaded = loaded.flatMap(repository::fetchCoverages);
+        }
+        if (fields.includes(PolicyFields.ASSISTANCES)) {
+            loaded = loaded.flatMap(repository::fetchAssistances);
+        }
+        if (fields.includes(PolicyFields.HISTORY)) {
+            loaded = loaded.flatMap(repository::fetchHistory);
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,54 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.messaging.ReactiveEventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.reactive.ReactivePolicyRequestRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Profile("reactive")
+public class ReactiveUpdatePolicyStatusUseCase {
+
+    private final ReactivePolicyRequestRepository repository;
+    private final ReactiveEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final Cache cache;
+
+    public ReactiveUpdatePolicyStatusUseCase(ReactivePolicyRequestRepository repository,
+                                             ReactiveEventPublisher eventPublisher,
+                                             TransactionalOperator transactionalOperator,
+                                             CacheManager cacheManager) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.transactionalOperator = transactionalOperator;
+        this.cache = cacheManager.getCache(CacheConfig.POLICIES_CACHE);
+    }
+
+    public Mono<PolicyRequestEntity> execute(UUID policyId, boolean paymentConfirmed, boolean subscriptionAuthorized) {
+        return repository.findById(policyId)
+                .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException(policyId)))
+                .flatMap(policy -> {
+                    RequestStatus newStatus = UpdatePolicyStatusUseCase.resolveTransition(
+                            policy.getStatus(), paymentConfirmed, subscriptionAuthorized);
+                    if (newStatus == null) {
+                        return Mono.just(policy); // já finalizada ou sem mudança de status
+                    }
+
+                    UpdatePolicyStatusUseCase.applyTransition(policy, newStatus);
+                    return repository.update(policy)
+                            .flatMap(saved -> eventPublisher.publishPolicyEvent(saved).thenReturn(saved));
+                })
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(saved -> cache.evict(policyId));
+    }
+}
@@ -0,0 +1,72 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.FraudAnalysisException;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
+import com.itau.insurance.infrastructure.messaging.ReactiveEventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.reactive.ReactivePolicyRequestRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Validação síncrona (para o cliente) sem nenhuma thread bloqueada: a análise usa o
+ * {@link FraudApiClient#analyzeAsync(UUID)} e a decisão é gravada numa transação R2DBC aberta só depois da resposta,
+ * desde que a apólice ainda esteja em RECEIVED.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveValidatePolicyUseCase {
+
+    private final ReactivePolicyRequestRepository repository;
+    private final FraudApiClient fraudApiClient;
+    private final ReactiveEventPublisher eventPublisher;
+    private final ApprovalRuleEngine approvalRuleEngine;
+    private final TransactionalOperator transactionalOperator;
+    private final Cache cache;
+
+    public ReactiveValidatePolicyUseCase(ReactivePolicyRequestRepository repository,
+                                         FraudApiClient fraudApiClient,
+                                         ReactiveEventPublisher eventPublisher,
+                                         ApprovalRuleEngine approvalRuleEngine,
+                                         TransactionalOperator transactionalOperator,
+                                         CacheManager cacheManager) {
+        this.repository = repository;
+        this.fraudApiClient = fraudApiClient;
+        this.eventPublisher = eventPublisher;
+        this.approvalRuleEngine = approvalRuleEngine;
+        this.transactionalOperator = transactionalOperator;
+        this.cache = cacheManager.getCache(CacheConfig.POLICIES_CACHE);
+    }
+
+    public Mono<PolicyRequestEntity> execute(UUID policyId) {
+        return repository.existsById(policyId)
+                .flatMap(exists -> exists
+                        ? fraudApiClient.analyzeAsync(policyId)
+                                .onErrorMap(e -> new FraudAnalysisException("Erro ao consultar o serviço de fraude", e))
+                        : Mono.error(new PolicyNotFoundException(policyId)))
+                .flatMap(response -> apply(policyId, response.getClassification()));
+    }
+
+    private Mono<PolicyRequestEntity> apply(UUID policyId, RiskClassification classification) {
+        return repository.findById(policyId)
+                .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException(policyId)))
+                .flatMap(policy -> {
+                    ValidatePolicyUseCase.requireReceived(policy);
+                    ValidatePolicyUseCase.decide(approvalRuleEngine, policy, classification);
+                    return repository.update(policy);
+                })
+                .flatMap(saved -> eventPublisher.publishPolicyEvent(saved).thenReturn(saved))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(saved -> cache.evict(policyId));
+    }
+}
@@ -0,0 +1,297 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.MessagingProperties;
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.exceptions.InvalidDeadLetterReplayException;
+import com.itau.insurance.infrastructure.messaging.DeadLetterRecoverer;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.interfaces.dto.DeadLetterDTO;
+import com.itau.insurance.interfaces.dto.DeadLetterReplayReportDTO;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Devolve mensagens da DLQ à fila de comandos num ritmo controlado, para que a recuperação após um incidente
+ * não inunde os consumidores. As mensagens podem ser filtradas por apólice e pelo tipo da exceção que as levou
+ * à DLQ; no modo dry-run nada é reenviado e o relatório lista o que seria.
+ * <p>
+ * O replay roda em segundo plano, um por vez, e o progresso pode ser consultado enquanto ele acontece. A DLQ é
+ * lida com {@code basic.get}: fora do dry-run, as mensagens fora do filtro são republicadas no fim da própria DLQ
+ * e confirmadas à medida que a varredura avança; como a varredura para na profundidade lida no início, cada
+ * mensagem é inspecionada uma única vez por execução. No dry-run nada é republicado: as mensagens lidas ficam
+ * retidas no canal e voltam às posições originais com um nack no fim, preservando a ordem da DLQ. Cada execução
+ * inspeciona no máximo {@code messaging.dead-letters.replay-scan-limit} mensagens e informa quantas restaram;
+ * execuções seguintes continuam de onde a anterior parou. Uma mensagem só é removida da DLQ depois que o broker
+ * confirma a publicação da cópia.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class ReplayDeadLettersUseCase {
+
+    static final String REPLAY_COUNT_HEADER = "x-dlq-replays";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PolicyMessageCodecs codecs;
+    private final MessagingProperties properties;
+    private final long confirmTimeoutMs;
+    private final Counter replayedCounter;
+
+    private final AtomicReference<Run> current = new AtomicReference<>();
+    private volatile Disposable pipeline;
+
+    public ReplayDeadLettersUseCase(RabbitTemplate rabbitTemplate,
+                                    PolicyMessageCodecs codecs,
+                                    MessagingProperties properties,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${messaging.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.codecs = codecs;
+        this.properties = properties;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.replayedCounter = meterRegistry.counter("policy.dlq.replayed");
+    }
+
+    public DeadLetterReplayReportDTO start(UUID policyId, String errorType, Integer limit, Double ratePerSecond, boolean dryRun) {
+        MessagingProperties.DeadLetters deadLetters = properties.getDeadLetters();
+        int maxMessages = limit != null ? limit : deadLetters.getReplayLimit();
+        double rate = ratePerSecond != null ? ratePerSecond : deadLetters.getReplayRatePerSecond();
+        if (maxMessages <= 0 || rate <= 0) {
+            throw new InvalidDeadLetterReplayException("Limite e taxa do replay devem ser maiores que zero");
+        }
+
+        Run previous = current.get();
+        if (previous != null && previous.isRunning()) {
+            throw new BusinessException("Já existe um replay da DLQ em andamento");
+        }
+
+        Run run = new Run(dryRun);
+        if (!current.compareAndSet(previous, run)) {
+            throw new BusinessException("Já existe um replay da DLQ em andamento");
+        }
+
+        RateLimiter rateLimiter = rateLimiter(rate);
+        pipeline = Mono.fromRunnable(() -> scan(run, policyId, errorType, maxMessages, rateLimiter))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> {
+                    run.finish();
+                    DeadLetterReplayReportDTO report = run.snapshot();
+                    log.info("Replay da DLQ finalizado ({}): {} inspecionadas, {} selecionadas, {} reenviadas, {} restantes (dryRun={})",
+                            signal, report.getInspected(), report.getMatched(), report.getReplayed(), report.getRemaining(), dryRun);
+                })
+                .subscribe(null, e -> log.error("Replay da DLQ interrompido: {}", e.getMessage(), e));
+
+        return run.snapshot();
+    }
+
+    public DeadLetterReplayReportDTO progress() {
+        Run run = current.get();
+        return run == null ? DeadLetterReplayReportDTO.builder().messages(List.of()).build() : run.snapshot();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pipeline != null) {
+            pipeline.dispose();
+        }
+    }
+
+    private void scan(Run run, UUID policyId, String errorType, int maxMessages, RateLimiter rateLimiter) {
+        MessagingProperties.DeadLetters deadLetters = properties.getDeadLetters();
+        rabbitTemplate.execute(channel -> {
+            if (!run.dryRun) {
+                channel.confirmSelect();
+            }
+            // limita a varredura ao que já estava na fila; mensagens que chegarem durante o replay ficam para o próximo
+            long depth = channel.messageCount(deadLetters.getQueue());
+            long scan = Math.min(depth, deadLetters.getReplayScanLimit());
+            long lastHeld = -1;
+            while (run.inspected.get() < scan && run.matched.get() < maxMessages) {
+                GetResponse response = channel.basicGet(deadLetters.getQueue(), false);
+                if (response == null) {
+                    break;
+                }
+                run.inspected.incrementAndGet();
+
+                DeadLetterDTO letter = describe(response);
+                boolean matched = matches(letter, policyId, errorType);
+                if (matched) {
+                    run.matched.incrementAndGet();
+                    run.messages.add(letter);
+                }
+                // no dry-run nada sai da fila: as mensagens ficam retidas no canal e voltam juntas no fim
+                if (run.dryRun) {
+                    lastHeld = response.getEnvelope().getDeliveryTag();
+                    continue;
+                }
+                if (!matched) {
+                    requeue(channel, response);
+                    continue;
+                }
+
+                // sem permissão dentro do timeout o ritmo pedido não está sendo cumprido: o replay é interrompido
+                if (!rateLimiter.acquirePermission()) {
+                    channel.basicNack(response.getEnvelope().getDeliveryTag(), false, true);
+                    run.skipped.incrementAndGet();
+                    log.warn("Replay da DLQ interrompido: permissão do rate limiter não obtida");
+                    break;
+                }
+                replay(channel, response);
+                run.replayed.incrementAndGet();
+            }
+            // nack com requeue devolve as mensagens às posições originais; numa falha o fechamento do canal faz o mesmo
+            if (lastHeld >= 0) {
+                channel.basicNack(lastHeld, true, true);
+            }
+            run.remaining = Math.max(0, depth - run.inspected.get());
+            return null;
+        });
+    }
+
+    private void replay(Channel channel, GetResponse response) throws IOException, InterruptedException, TimeoutException {
+        AMQP.BasicProperties original = response.getProps();
+        channel.basicPublish(properties.getExchange(), properties.getCommands().getRoutingKey(),
+                original.builder().headers(replayHeaders(original.getHeaders())).build(), response.getBody());
+        // sem confirmação a mensagem continua na DLQ: o canal é fechado e ela volta à fila
+        channel.waitForConfirmsOrDie(confirmTimeoutMs);
+        channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+        replayedCounter.increment();
+    }
+
+    // devolve a mensagem ao fim da DLQ sem alterações; um nack com requeue a recolocaria na frente da fila
+    private void requeue(Channel channel, GetResponse response) throws IOException, InterruptedException, TimeoutException {
+        channel.basicPublish("", properties.getDeadLetters().getQueue(), response.getProps(), response.getBody());
+        channel.waitForConfirmsOrDie(confirmTimeoutMs);
+        channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+    }
+
+    // headers de diagnóstico da falha anterior são descartados; o contador de replays acompanha a mensagem
+    private static Map<String, Object> replayHeaders(Map<String, Object> headers) {
+        Map<String, Object> replayed = new HashMap<>();
+        int replays = 0;
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                if (!name.startsWith("x-exception-") && !name.startsWith("x-original-") && !name.equals(REPLAY_COUNT_HEADER)) {
+                    replayed.put(name, value);
+                }
+            });
+            if (headers.get(REPLAY_COUNT_HEADER) instanceof Number count) {
+                replays = count.intValue();
+            }
+        }
+        replayed.put(REPLAY_COUNT_HEADER, replays + 1);
+        return replayed;
+    }
+
+    private DeadLetterDTO describe(GetResponse response) {
+        AMQP.BasicProperties props = response.getProps();
+        Map<String, Object> headers = props.getHeaders() != null ? props.getHeaders() : Map.of();
+
+        UUID policyId = null;
+        try {
+            policyId = codecs.forContentType(props.getContentType()).decodeCommand(response.getBody()).getPolicyId();
+        } catch (Exception e) {
+            log.debug("Mensagem da DLQ sem policyId legível: {}", e.getMessage());
+        }
+
+        return DeadLetterDTO.builder()
+                .messageId(props.getMessageId())
+                .policyId(policyId)
+                .exceptionType(header(headers, DeadLetterRecoverer.EXCEPTION_TYPE_HEADER))
+                .exceptionMessage(header(headers, RepublishMessageRecoverer.X_EXCEPTION_MESSAGE))
+                .build();
+    }
+
+    // errorType aceita o nome completo ou o nome simples da exceção
+    private static boolean matches(DeadLetterDTO letter, UUID policyId, String errorType) {
+        if (policyId != null && !policyId.equals(letter.getPolicyId())) {
+            return false;
+        }
+        if (errorType == null || errorType.isBlank()) {
+            return true;
+        }
+        String type = letter.getExceptionType();
+        return type != null && (type.equals(errorType) || type.endsWith("." + errorType));
+    }
+
+    // headers AMQP chegam como LongString
+    private static String header(Map<String, Object> headers, String name) {
+        Object value = headers.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    RateLimiter rateLimiter(double ratePerSecond) {
+        Duration interval = Duration.ofNanos(Math.max(1L, (long) (1_000_000_000L / ratePerSecond)));
+        return RateLimiter.of("dead-letter-replay", RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(interval)
+                .timeoutDuration(interval.multipliedBy(2))
+                .build());
+    }
+
+    private static final class Run {
+        private final boolean dryRun;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong inspected = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final List<DeadLetterDTO> messages = new CopyOnWriteArrayList<>();
+        private volatile long remaining;
+        private volatile LocalDateTime finishedAt;
+
+        Run(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+
+        boolean isRunning() {
+            return finishedAt == null;
+        }
+
+        void finish() {
+            finishedAt = LocalDateTime.now();
+        }
+
+        DeadLetterReplayReportDTO snapshot() {
+            return DeadLetterReplayReportDTO.builder()
+                    .running(isRunning())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .dryRun(dryRun)
+                    .inspected(inspected.get())
+                    .matched(matched.get())
+                    .replayed(replayed.get())
+                    .skipped(skipped.get())
+                    .remaining(remaining)
+                    .messages(List.copyOf(messages))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.config.ApprovalRulesProperties;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyDecisionView;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.ApprovalSimulationGroupDTO;
+import com.itau.insurance.interfaces.dto.ApprovalSimulationReportDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Reavalia decisões já tomadas com as regras atuais e com um conjunto candidato, contando quantas mudariam.
+ * As decisões são lidas em páginas por id (projeções, sem entidades gerenciadas) e cada página é avaliada
+ * num {@link ForkJoinPool} dedicado enquanto a próxima é buscada na thread chamadora; só os totais por categoria e classificação
+ * ficam em memória, independentemente do volume histórico.
+ */
+@Slf4j
+@Service
+public class SimulateApprovalRulesUseCase {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final PolicyRequestRepository repository;
+    private final ApprovalRuleEngine currentRules;
+    private final ForkJoinPool pool;
+    private final int pageSize;
+    private final int splitThreshold;
+
+    public SimulateApprovalRulesUseCase(PolicyRequestRepository repository,
+                                        ApprovalRuleEngine currentRules,
+                                        @Value("${validation.simulation.parallelism:0}") int parallelism,
+                                        @Value("${validation.simulation.page-size:5000}") int pageSize,
+                                        @Value("${validation.simulation.split-threshold:500}") int splitThreshold) {
+        this.repository = repository;
+        this.currentRules = currentRules;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.pageSize = pageSize;
+        this.splitThreshold = splitThreshold;
+    }
+
+    public ApprovalSimulationReportDTO execute(ApprovalRulesProperties candidateRules) {
+        // compila (e valida) o candidato antes da varredura; as regras atuais são fixadas para a simulação
+        // não misturar versões caso haja uma recarga no meio
+        ApprovalRuleEngine current = new ApprovalRuleEngine(currentRules.currentRules());
+        ApprovalRuleEngine candidate = new ApprovalRuleEngine(candidateRules);
+        long start = System.nanoTime();
+
+        Map<GroupKey, Tally> totals = new HashMap<>();
+        List<PolicyDecisionView> page = repository.findDecisionsAfter(FIRST_ID, Limit.of(pageSize));
+
+        while (!page.isEmpty()) {
+            ForkJoinTask<Map<GroupKey, Tally>> evaluation = pool.submit(new EvaluateTask(page, 0, page.size(), current, candidate));
+
+            // a próxima página é buscada na thread chamadora: JDBC bloqueante fora do pool de avaliação e do commonPool
+            List<PolicyDecisionView> next = page.size() < pageSize
+                    ? List.of()
+                    : repository.findDecisionsAfter(page.get(page.size() - 1).id(), Limit.of(pageSize));
+
+            merge(totals, evaluation.join());
+            page = next;
+        }
+
+        ApprovalSimulationReportDTO report = toReport(totals, (System.nanoTime() - start) / 1_000_000);
+        log.info("Simulação de regras: {} decisões avaliadas, {} passariam a aprovadas e {} a rejeitadas em {} ms",
+                report.getEvaluated(), report.getFlippedToApproved(), report.getFlippedToRejected(), report.getElapsedMillis());
+        return report;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static void merge(Map<GroupKey, Tally> totals, Map<GroupKey, Tally> partial) {
+        partial.forEach((key, tally) -> totals.merge(key, tally, Tally::add));
+    }
+
+    private static ApprovalSimulationReportDTO toReport(Map<GroupKey, Tally> totals, long elapsedMillis) {
+        List<ApprovalSimulationGroupDTO> groups = new ArrayList<>(totals.size());
+        long evaluated = 0;
+        long flippedToApproved = 0;
+        long flippedToRejected = 0;
+
+        for (Map.Entry<GroupKey, Tally> entry : totals.entrySet()) {
+            Tally tally = entry.getValue();
+            evaluated += tally.evaluated;
+            flippedToApproved += tally.flippedToApproved;
+            flippedToRejected += tally.flippedToRejected;
+            groups.add(ApprovalSimulationGroupDTO.builder()
+                    .category(entry.getKey().category())
+                    .riskClassification(entry.getKey().classification())
+                    .evaluated(tally.evaluated)
+                    .approvedByCurrent(tally.approvedByCurrent)
+                    .approvedByCandidate(tally.approvedByCandidate)
+                    .flippedToApproved(tally.flippedToApproved)
+                    .flippedToRejected(tally.flippedToRejected)
+                    .build());
+        }
+
+        groups.sort(Comparator.comparing(ApprovalSimulationGroupDTO::getCategory)
+                .thenComparing(ApprovalSimulationGroupDTO::getRiskClassification));
+
+        return ApprovalSimulationReportDTO.builder()
+                .evaluated(evaluated)
+                .flippedToApproved(flippedToApproved)
+                .flippedToRejected(flippedToRejected)
+                .elapsedMillis(elapsedMillis)
+                .groups(groups)
+                .build();
+    }
+
+    private final class EvaluateTask extends RecursiveTask<Map<GroupKey, Tally>> {
+
+        private final List<PolicyDecisionView> page;
+        private final int from;
+        private final int to;
+        private final ApprovalRuleEngine current;
+        private final ApprovalRuleEngine candidate;
+
+        EvaluateTask(List<PolicyDecisionView> page, int from, int to,
+                     ApprovalRuleEngine current, ApprovalRuleEngine candidate) {
+            this.page = page;
+            this.from = from;
+            this.to = to;
+            this.current = current;
+            this.candidate = candidate;
+        }
+
+        @Override
+        protected Map<GroupKey, Tally> compute() {
+            if (to - from > splitThreshold) {
+                int middle = (from + to) >>> 1;
+                EvaluateTask left = new EvaluateTask(page, from, middle, current, candidate);
+                left.fork();
+                Map<GroupKey, Tally> right = new EvaluateTask(page, middle, to, current, candidate).compute();
+                Map<GroupKey, Tally> result = left.join();
+                merge(result, right);
+                return result;
+            }
+
+            Map<GroupKey, Tally> result = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                PolicyDecisionView decision = page.get(i);
+                boolean approvedByCurrent = current.shouldApprove(
+                        decision.riskClassification(), decision.category(), decision.insuredAmount());
+                boolean approvedByCandidate = candidate.shouldApprove(
+                        decision.riskClassification(), decision.category(), decision.insuredAmount());
+
+                result.computeIfAbsent(new GroupKey(decision.category().toUpperCase(Locale.ROOT), decision.riskClassification()),
+                                key -> new Tally())
+                        .record(approvedByCurrent, approvedByCandidate);
+            }
+            return result;
+        }
+    }
+
+    private record GroupKey(String category, RiskClassification classification) {
+    }
+
+    private static final class Tally {
+        private long evaluated;
+        private long approvedByCurrent;
+        private long approvedByCandidate;
+        private long flippedToApproved;
+        private long flippedToRejected;
+
+        void record(boolean current, boolean candidate) {
+            evaluated++;
+            if (current) {
+                approvedByCurrent++;
+            }
+            if (candidate) {
+                approvedByCandidate++;
+            }
+            if (!current && candidate) {
+                flippedToApproved++;
+            } else if (current && !candidate) {
+                flippedToRejected++;
+            }
+        }
+
+        Tally add(Tally other) {
+            evaluated += other.evaluated;
+            approvedByCurrent += other.approvedByCurrent;
+            approvedByCandidate += other.approvedByCandidate;
+            flippedToApproved += other.flippedToApproved;
+            flippedToRejected += other.flippedToRejected;
+            return this;
+        }
+    }
+}
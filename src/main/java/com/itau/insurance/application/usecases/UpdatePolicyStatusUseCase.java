@@ -1,16 +1,27 @@
 package com.itau.insurance.application.usecases;
 
+import com.itau.insurance.config.CacheConfig;
 import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
 import com.itau.insurance.infrastructure.messaging.EventPublisher;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
 import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UpdatePolicyStatusUseCase {
@@ -18,12 +29,69 @@ public class UpdatePolicyStatusUseCase {
     private final PolicyRequestRepository repository;
     private final EventPublisher eventPublisher;
 
+    @CacheEvict(cacheNames = CacheConfig.POLICIES_CACHE, key = "#policyId")
+    @Transactional
     public PolicyRequestEntity execute(UUID policyId, boolean paymentConfirmed, boolean subscriptionAuthorized) {
         PolicyRequestEntity policy = repository.findById(policyId)
-                .orElseThrow(() -> new RuntimeException("Solicitação não encontrada: " + policyId));
+                .orElseThrow(() -> new PolicyNotFoundException(policyId));
 
-        if (isFinalState(policy.getStatus())) {
-            return policy; // não atualiza se já estiver finalizado
+        RequestStatus newStatus = resolveTransition(policy.getStatus(), paymentConfirmed, subscriptionAuthorized);
+        if (newStatus == null) {
+            return policy; // já finalizada ou sem mudança de status
+        }
+
+        applyTransition(policy, newStatus);
+
+        PolicyRequestEntity saved = repository.save(policy);
+        eventPublisher.publishPolicyEvent(saved);
+
+        return saved;
+    }
+
+    /**
+     * Aplica numa única transação as atualizações recebidas em lote. As atualizações de uma mesma apólice são
+     * reduzidas, na ordem de chegada, à transição efetiva final: gravamos um único registro de histórico e um
+     * único evento por apólice. Apólices inexistentes são ignoradas. A remoção do cache fica a cargo de quem
+     * chama, após o commit.
+     *
+     * @return as apólices que mudaram de status
+     */
+    @Transactional
+    public List<PolicyRequestEntity> executeBatch(List<PolicyStatusUpdateRequestDTO> updates) {
+        Map<UUID, List<PolicyStatusUpdateRequestDTO>> byPolicy = new LinkedHashMap<>();
+        for (PolicyStatusUpdateRequestDTO update : updates) {
+            byPolicy.computeIfAbsent(update.getPolicyId(), id -> new ArrayList<>()).add(update);
+        }
+
+        List<PolicyRequestEntity> changed = new ArrayList<>();
+        for (PolicyRequestEntity policy : repository.fetchHistory(byPolicy.keySet())) {
+            RequestStatus status = policy.getStatus();
+
+            for (PolicyStatusUpdateRequestDTO update : byPolicy.get(policy.getId())) {
+                RequestStatus next = resolveTransition(status, update.isPaymentConfirmed(), update.isSubscriptionAuthorized());
+                if (next != null) {
+                    status = next;
+                }
+            }
+
+            if (status != policy.getStatus()) {
+                applyTransition(policy, status);
+                eventPublisher.publishPolicyEvent(policy);
+                changed.add(policy);
+            }
+        }
+
+        if (changed.size() < byPolicy.size()) {
+            log.debug("Lote de {} atualizações: {} apólices alteradas de {}", updates.size(), changed.size(), byPolicy.size());
+        }
+
+        return repository.saveAll(changed);
+    }
+
+    // null quando a apólice já está finalizada ou o status calculado é o atual
+    static RequestStatus resolveTransition(RequestStatus current, boolean paymentConfirmed, boolean subscriptionAuthorized) {
+        if (isFinalState(current)) {
+            return null;
         }
 
         RequestStatus newStatus;
@@ -35,10 +103,10 @@ public class UpdatePolicyStatusUseCase {
             newStatus = RequestStatus.REJECTED;
         }
 
-        if (policy.getStatus() == newStatus) {
-            return policy; // evita redundância
-        }
+        return current == newStatus ? null : newStatus;
+    }
 
+    static void applyTransition(PolicyRequestEntity policy, RequestStatus newStatus) {
         policy.setStatus(newStatus);
 
         if (isFinalState(newStatus)) {
@@ -49,16 +117,9 @@ public class UpdatePolicyStatusUseCase {
                 .status(newStatus)
                 .timestamp(LocalDateTime.now())
                 .build());
-
-        PolicyRequestEntity saved = repository.save(policy);
-        eventPublisher.publishPolicyEvent(saved, paymentConfirmed, subscriptionAuthorized);
-
-        return saved;
     }
 
-    private boolean isFinalState(RequestStatus status) {
-        return status == RequestStatus.CANCELLED
-                || status == RequestStatus.REJECTED
-                || status == RequestStatus.APPROVED;
+    private static boolean isFinalState(RequestStatus status) {
+        return status != null && status.isFinal();
     }
 }
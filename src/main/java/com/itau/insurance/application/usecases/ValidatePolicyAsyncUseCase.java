@@ -0,0 +1,99 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.util.UUID;
+
+/**
+ * Validação assíncrona: as solicitações entram numa fila limitada e a chamada à API de fraude
+ * é feita sem bloquear threads, com no máximo {@code maxConcurrency} chamadas em andamento.
+ * Apenas a gravação do resultado (JPA) roda em thread bloqueante.
+ */
+@Slf4j
+@Service
+public class ValidatePolicyAsyncUseCase {
+
+    private final PolicyRequestRepository repository;
+    private final FraudApiClient fraudApiClient;
+    private final ValidatePolicyUseCase validatePolicyUseCase;
+    private final Sinks.Many<UUID> queue;
+    private final int maxConcurrency;
+
+    private Disposable pipeline;
+
+    public ValidatePolicyAsyncUseCase(PolicyRequestRepository repository,
+                                      FraudApiClient fraudApiClient,
+                                      ValidatePolicyUseCase validatePolicyUseCase,
+                                      @Value("${validation.async.max-concurrency:32}") int maxConcurrency,
+                                      @Value("${validation.async.queue-capacity:1024}") int queueCapacity) {
+        this.repository = repository;
+        this.fraudApiClient = fraudApiClient;
+        this.validatePolicyUseCase = validatePolicyUseCase;
+        this.maxConcurrency = maxConcurrency;
+        this.queue = Sinks.many().unicast().onBackpressureBuffer(Queues.<UUID>get(queueCapacity).get());
+    }
+
+    @PostConstruct
+    public void start() {
+        pipeline = queue.asFlux()
+                .flatMap(this::validate, maxConcurrency)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pipeline != null) {
+            pipeline.dispose();
+        }
+    }
+
+    public void submit(UUID policyId) {
+        if (!repository.existsById(policyId)) {
+            throw new PolicyNotFoundException(policyId);
+        }
+
+        Sinks.EmitResult result;
+        // o sink exige emissões serializadas; várias threads do Tomcat chamam este método
+        synchronized (queue) {
+            result = queue.tryEmitNext(policyId);
+        }
+
+        if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+            throw new BusinessException("Fila de validação assíncrona cheia, tente novamente mais tarde");
+        }
+        if (result.isFailure()) {
+            throw new BusinessException("Validação assíncrona indisponível: " + result);
+        }
+    }
+
+    private Mono<Void> validate(UUID policyId) {
+        return fraudApiClient.analyzeAsync(policyId)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(response -> {
+                    var updated = validatePolicyUseCase.applyAnalysis(policyId, response.getClassification());
+                    log.info("Solicitação {} validada de forma assíncrona com status {}", policyId, updated.getStatus());
+                })
+                .then()
+                .onErrorResume(BusinessException.class, e -> {
+                    log.warn("Validação assíncrona da solicitação {} descartada: {}", policyId, e.getMessage());
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> {
+                    log.error("Erro na validação assíncrona da solicitação {}: {}", policyId, e.getMessage(), e);
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,202 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.ValidationBatchProgressDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Valida em lote todas as solicitações em RECEIVED (ex.: após indisponibilidade da API de fraude).
+ * Os ids são lidos em páginas por keyset, as análises são feitas com no máximo {@code concurrency}
+ * chamadas em andamento e as decisões são gravadas em transações de até {@code commitSize} apólices.
+ * Apenas uma execução roda por vez; o progresso pode ser consultado enquanto ela acontece.
+ */
+@Slf4j
+@Service
+public class ValidatePolicyBatchUseCase {
+
+    private final PolicyRequestRepository repository;
+    private final FraudApiClient fraudApiClient;
+    private final ValidatePolicyUseCase validatePolicyUseCase;
+    private final CacheManager cacheManager;
+    private final int pageSize;
+    private final int concurrency;
+    private final int commitSize;
+
+    private final AtomicReference<Run> current = new AtomicReference<>();
+    private volatile Disposable pipeline;
+
+    public ValidatePolicyBatchUseCase(PolicyRequestRepository repository,
+                                      FraudApiClient fraudApiClient,
+                                      ValidatePolicyUseCase validatePolicyUseCase,
+                                      CacheManager cacheManager,
+                                      @Value("${validation.batch.page-size:500}") int pageSize,
+                                      @Value("${validation.batch.concurrency:32}") int concurrency,
+                                      @Value("${validation.batch.commit-size:100}") int commitSize) {
+        this.repository = repository;
+        this.fraudApiClient = fraudApiClient;
+        this.validatePolicyUseCase = validatePolicyUseCase;
+        this.cacheManager = cacheManager;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.commitSize = commitSize;
+    }
+
+    public ValidationBatchProgressDTO start() {
+        Run previous = current.get();
+        if (previous != null && previous.isRunning()) {
+            throw new BusinessException("Já existe uma validação em lote em andamento");
+        }
+
+        Run run = new Run();
+        if (!current.compareAndSet(previous, run)) {
+            throw new BusinessException("Já existe uma validação em lote em andamento");
+        }
+
+        log.info("Iniciando validação em lote das solicitações em RECEIVED");
+
+        pipeline = receivedIds()
+                .doOnNext(id -> run.scanned.incrementAndGet())
+                .flatMap(id -> analyze(id, run), concurrency)
+                // backpressure justo: sem demanda (gravação lenta), o lote parcial espera em vez de falhar com Overflow
+                .bufferTimeout(commitSize, Duration.ofSeconds(1), true)
+                .publishOn(Schedulers.boundedElastic())
+                .concatMap(analyses -> Mono.fromRunnable(() -> apply(analyses, run)))
+                .doFinally(signal -> {
+                    run.finish();
+                    log.info("Validação em lote finalizada ({}): {}", signal, run.snapshot());
+                })
+                .subscribe(null, e -> log.error("Validação em lote interrompida: {}", e.getMessage(), e));
+
+        return run.snapshot();
+    }
+
+    public ValidationBatchProgressDTO progress() {
+        Run run = current.get();
+        return run == null ? ValidationBatchProgressDTO.builder().build() : run.snapshot();
+    }
+
+    @Scheduled(cron = "${validation.batch.cron:-}")
+    public void scheduledRun() {
+        try {
+            start();
+        } catch (BusinessException e) {
+            log.info("Validação em lote agendada ignorada: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (pipeline != null) {
+            pipeline.dispose();
+        }
+    }
+
+    private Flux<UUID> receivedIds() {
+        return Mono.fromCallable(() -> repository.findFirstIdsByStatus(RequestStatus.RECEIVED, Limit.of(pageSize)))
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : Mono.fromCallable(() -> repository.findIdsByStatusAfter(
+                                RequestStatus.RECEIVED, page.get(page.size() - 1), Limit.of(pageSize))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(page -> page);
+    }
+
+    private Mono<Map.Entry<UUID, RiskClassification>> analyze(UUID policyId, Run run) {
+        return fraudApiClient.analyzeAsync(policyId)
+                .map(response -> Map.entry(policyId, response.getClassification()))
+                .onErrorResume(e -> {
+                    run.failed.incrementAndGet();
+                    log.warn("Falha ao analisar a solicitação {} na validação em lote: {}", policyId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void apply(List<Map.Entry<UUID, RiskClassification>> analyses, Run run) {
+        Map<UUID, RiskClassification> classifications = analyses.stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        try {
+            List<PolicyRequestEntity> updated = validatePolicyUseCase.applyAnalyses(classifications);
+
+            long validated = updated.stream().filter(p -> p.getStatus() == RequestStatus.VALIDATED).count();
+            run.validated.addAndGet(validated);
+            run.rejected.addAndGet(updated.size() - validated);
+            run.skipped.addAndGet(classifications.size() - updated.size());
+        } catch (Exception e) {
+            run.failed.addAndGet(classifications.size());
+            log.error("Erro ao gravar lote de {} validações: {}", classifications.size(), e.getMessage(), e);
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.POLICIES_CACHE);
+        if (cache != null) {
+            classifications.keySet().forEach(cache::evict);
+        }
+
+        log.info("Validação em lote: {}", run.snapshot());
+    }
+
+    private static final class Run {
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong validated = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        boolean isRunning() {
+            return finishedAt == null;
+        }
+
+        void finish() {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+        }
+
+        ValidationBatchProgressDTO snapshot() {
+            long processed = validated.get() + rejected.get();
+            long endNanos = isRunning() ? System.nanoTime() : finishedNanos;
+            double elapsedSeconds = (endNanos - startedNanos) / 1_000_000_000d;
+
+            return ValidationBatchProgressDTO.builder()
+                    .running(isRunning())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .scanned(scanned.get())
+                    .validated(validated.get())
+                    .rejected(rejected.get())
+                    .skipped(skipped.get())
+                    .failed(failed.get())
+                    .throughputPerSecond(elapsedSeconds > 0 ? processed / elapsedSeconds : 0)
+                    .build();
+        }
+    }
+}
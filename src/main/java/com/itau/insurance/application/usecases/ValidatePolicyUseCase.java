@@ -1,9 +1,11 @@
 package com.itau.insurance.application.usecases;
 
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.config.CacheConfig;
 import com.itau.insurance.domain.enums.RequestStatus;
 import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.BusinessException;
 import com.itau.insurance.exceptions.FraudAnalysisException;
-import com.itau.insurance.exceptions.InvalidRiskClassificationException;
 import com.itau.insurance.exceptions.PolicyNotFoundException;
 import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
 import com.itau.insurance.infrastructure.external.fraud.FraudAnalysisResponse;
@@ -12,10 +14,15 @@ import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
 import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -25,56 +32,91 @@ public class ValidatePolicyUseCase {
     private final FraudApiClient fraudApiClient;
     private final PolicyRequestRepository repository;
     private final EventPublisher eventPublisher;
+    private final ApprovalRuleEngine approvalRuleEngine;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * A consulta à API de fraude acontece fora da transação: a conexão do pool só é tomada para
+     * gravar a decisão, e a concorrência do fluxo não fica limitada ao tamanho do pool. Se a apólice sair de
+     * RECEIVED durante a consulta (ex.: cancelada), a decisão não é gravada e a validação falha com
+     * {@link BusinessException}.
+     */
+    @CacheEvict(cacheNames = CacheConfig.POLICIES_CACHE, key = "#policyId")
     public PolicyRequestEntity execute(UUID policyId) {
-        PolicyRequestEntity policy = repository.findById(policyId)
-                .orElseThrow(() -> new PolicyNotFoundException(policyId));
+        if (!repository.existsById(policyId)) {
+            throw new PolicyNotFoundException(policyId);
+        }
 
+        FraudAnalysisResponse response;
         try {
-            FraudAnalysisResponse response = fraudApiClient.analyze(policy.getId());
+            response = fraudApiClient.analyze(policyId);
+        } catch (Exception ex) {
+            throw new FraudAnalysisException("Erro ao consultar o serviço de fraude", ex);
+        }
 
-            RiskClassification classification = response.getClassification();
-            policy.setStatus(shouldApprove(policy, classification) ? RequestStatus.VALIDATED : RequestStatus.REJECTED);
+        return transactionTemplate.execute(status -> apply(policyId, response.getClassification()));
+    }
 
-            policy.getHistory().add(StatusHistoryEntity.builder()
-                    .status(policy.getStatus())
-                    .timestamp(LocalDateTime.now())
-                    .build());
+    /**
+     * Aplica o resultado de uma análise de fraude já obtida (fluxo assíncrono), sem nova chamada à API externa.
+     * Falha com {@link BusinessException} se a apólice já saiu de RECEIVED.
+     */
+    @CacheEvict(cacheNames = CacheConfig.POLICIES_CACHE, key = "#policyId")
+    @Transactional
+    public PolicyRequestEntity applyAnalysis(UUID policyId, RiskClassification classification) {
+        return apply(policyId, classification);
+    }
 
-            eventPublisher.publishPolicyEvent(policy);
+    /**
+     * Aplica, numa única transação, as classificações de várias apólices (validação em lote).
+     * Apólices que já saíram de RECEIVED desde a consulta à API de fraude são ignoradas.
+     * A remoção do cache fica a cargo de quem chama, após o commit.
+     */
+    @Transactional
+    public List<PolicyRequestEntity> applyAnalyses(Map<UUID, RiskClassification> classifications) {
+        List<PolicyRequestEntity> updated = new ArrayList<>(classifications.size());
 
-            return repository.save(policy);
-        } catch (Exception ex) {
-            throw new FraudAnalysisException("Erro ao consultar o serviço de fraude", ex);
+        for (PolicyRequestEntity policy : repository.fetchHistory(classifications.keySet())) {
+            if (policy.getStatus() == RequestStatus.RECEIVED) {
+                decide(approvalRuleEngine, policy, classifications.get(policy.getId()));
+                updated.add(policy);
+            }
+        }
+
+        List<PolicyRequestEntity> saved = repository.saveAll(updated);
+        eventPublisher.publishPolicyEvents(saved);
+
+        return saved;
+    }
+
+    private PolicyRequestEntity apply(UUID policyId, RiskClassification classification) {
+        PolicyRequestEntity policy = repository.findById(policyId)
+                .orElseThrow(() -> new PolicyNotFoundException(policyId));
+
+        requireReceived(policy);
+        decide(approvalRuleEngine, policy, classification);
+
+        PolicyRequestEntity saved = repository.save(policy);
+        eventPublisher.publishPolicyEvent(saved);
+
+        return saved;
+    }
+
+    // relido na transação que grava a decisão: cancelamentos e outras validações podem ter ocorrido desde a consulta
+    static void requireReceived(PolicyRequestEntity policy) {
+        if (policy.getStatus() != RequestStatus.RECEIVED) {
+            throw new BusinessException("Solicitação não pode ser validada pois está em status: " + policy.getStatus());
         }
     }
 
+    static void decide(ApprovalRuleEngine approvalRuleEngine, PolicyRequestEntity policy, RiskClassification classification) {
+        boolean approved = approvalRuleEngine.shouldApprove(classification, policy.getCategory(), policy.getInsuredAmount());
+        policy.setRiskClassification(classification);
+        policy.setStatus(approved ? RequestStatus.VALIDATED : RequestStatus.REJECTED);
 
-    private boolean shouldApprove(PolicyRequestEntity policy, RiskClassification classification) {
-        BigDecimal value = policy.getInsuredAmount();
-        String category = policy.getCategory().toUpperCase();
-
-        return switch (classification) {
-            case REGULAR -> switch (category) {
-                case "VIDA", "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(500_000)) <= 0;
-                case "AUTO" -> value.compareTo(BigDecimal.valueOf(350_000)) <= 0;
-                default -> value.compareTo(BigDecimal.valueOf(255_000)) <= 0;
-            };
-            case HIGH_RISK -> switch (category) {
-                case "AUTO" -> value.compareTo(BigDecimal.valueOf(250_000)) <= 0;
-                case "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(150_000)) <= 0;
-                default -> value.compareTo(BigDecimal.valueOf(125_000)) <= 0;
-            };
-            case PREFERENTIAL -> switch (category) {
-                case "VIDA" -> value.compareTo(BigDecimal.valueOf(800_000)) <= 0;
-                case "AUTO", "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(450_000)) <= 0;
-                default -> value.compareTo(BigDecimal.valueOf(375_000)) <= 0;
-            };
-            case NO_INFORMATION -> switch (category) {
-                case "VIDA", "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(200_000)) <= 0;
-                case "AUTO" -> value.compareTo(BigDecimal.valueOf(75_000)) <= 0;
-                default -> value.compareTo(BigDecimal.valueOf(55_000)) <= 0;
-            };
-        };
+        policy.getHistory().add(StatusHistoryEntity.builder()
+                .status(policy.getStatus())
+                .timestamp(LocalDateTime.now())
+                .build());
     }
 }
@@ -0,0 +1,9 @@
+package com.itau.insurance.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ApprovalRulesProperties.class)
+public class ApprovalRulesConfig {
+}
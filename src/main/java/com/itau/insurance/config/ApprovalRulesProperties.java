@@ -0,0 +1,55 @@
+package com.itau.insurance.config;
+
+import com.itau.insurance.domain.enums.RiskClassification;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limites de capital segurado aprovados por classificação de risco e categoria ({@code validation.rules.*}).
+ * Os valores padrão reproduzem a tabela original; qualquer entrada pode ser sobrescrita por configuração.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ConfigurationProperties(prefix = "validation.rules")
+public class ApprovalRulesProperties {
+
+    private Map<RiskClassification, Limits> classifications = defaults();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limits {
+        /** Limite aplicado às categorias sem entrada própria. */
+        private BigDecimal defaultLimit;
+        private Map<String, BigDecimal> categories = new HashMap<>();
+    }
+
+    private static Map<RiskClassification, Limits> defaults() {
+        Map<RiskClassification, Limits> defaults = new EnumMap<>(RiskClassification.class);
+        defaults.put(RiskClassification.REGULAR, limits(255_000,
+                "VIDA", 500_000, "RESIDENCIAL", 500_000, "AUTO", 350_000));
+        defaults.put(RiskClassification.HIGH_RISK, limits(125_000,
+                "AUTO", 250_000, "RESIDENCIAL", 150_000));
+        defaults.put(RiskClassification.PREFERENTIAL, limits(375_000,
+                "VIDA", 800_000, "AUTO", 450_000, "RESIDENCIAL", 450_000));
+        defaults.put(RiskClassification.NO_INFORMATION, limits(55_000,
+                "VIDA", 200_000, "RESIDENCIAL", 200_000, "AUTO", 75_000));
+        return defaults;
+    }
+
+    private static Limits limits(long defaultLimit, Object... categoryLimits) {
+        Map<String, BigDecimal> categories = new HashMap<>();
+        for (int i = 0; i < categoryLimits.length; i += 2) {
+            categories.put((String) categoryLimits[i], BigDecimal.valueOf(((Number) categoryLimits[i + 1]).longValue()));
+        }
+        return new Limits(BigDecimal.valueOf(defaultLimit), categories);
+    }
+}
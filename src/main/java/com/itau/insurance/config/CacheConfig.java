@@ -0,0 +1,15 @@
+package com.itau.insurance.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Interceptor de cache por fora do transacional: invalidações ocorrem após o commit
+// e leituras servidas pelo cache não abrem transação.
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    // Tamanho e TTL definidos em spring.cache.caffeine.spec
+    public static final String POLICIES_CACHE = "policies";
+}
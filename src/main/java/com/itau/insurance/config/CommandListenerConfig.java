@@ -0,0 +1,94 @@
+package com.itau.insurance.config;
+
+import com.itau.insurance.infrastructure.messaging.BatchEventConsumer;
+import com.itau.insurance.infrastructure.messaging.CommandShardRouter;
+import com.itau.insurance.infrastructure.messaging.EventConsumer;
+import com.itau.insurance.infrastructure.messaging.PolicyCommandShards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Registra um listener por fila de comandos (um por shard), cada um com concorrência 1 para manter a ordem
+ * por apólice; o paralelismo vem do número de shards (sem sharding, o ajuste adaptativo pode partir de mais
+ * consumidores). Com sharding, registra também o roteador da porta de entrada
+ * (single active consumer: um roteador por vez no cluster) e o que drena a fila de comandos de versões anteriores.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class CommandListenerConfig implements RabbitListenerConfigurer {
+
+    private static final String DEFAULT_FACTORY = "rabbitListenerContainerFactory";
+    private static final String BATCH_FACTORY = "batchRabbitListenerContainerFactory";
+
+    private final PolicyCommandShards shards;
+    private final MessagingProperties properties;
+    private final CommandShardRouter router;
+    private final ObjectProvider<EventConsumer> eventConsumer;
+    private final ObjectProvider<BatchEventConsumer> batchEventConsumer;
+    private final BeanFactory beanFactory;
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        BatchEventConsumer batchConsumer = batchEventConsumer.getIfAvailable();
+        boolean batch = batchConsumer != null;
+
+        MessageListener consumer = batch
+                ? (BatchMessageListener) batchConsumer::receiveEvents
+                : eventConsumer.getObject()::receiveEvent;
+
+        int concurrency = consumerConcurrency();
+        for (String queue : shards.consumerQueues()) {
+            registrar.registerEndpoint(endpoint(endpointId(queue), queue, consumer, concurrency), factory(batch));
+        }
+
+        if (shards.isSharded()) {
+            MessageListener routing = batch
+                    ? (BatchMessageListener) router::route
+                    : message -> router.route(List.of(message));
+            registrar.registerEndpoint(endpoint("policy-commands-router", shards.ingressQueue(), routing, 1), factory(batch));
+            // comandos deixados na fila de comandos antes da porta de entrada com single active consumer
+            registrar.registerEndpoint(endpoint("policy-commands-router-legacy", properties.getCommands().getQueue(), routing, 1),
+                    factory(batch));
+        }
+    }
+
+    /** Id do container que consome a fila de comandos (ou shard) informada. */
+    public static String endpointId(String queue) {
+        return "policy-commands-" + queue;
+    }
+
+    /**
+     * Consumidores iniciais por fila: um por shard; sem sharding e com o ajuste adaptativo ligado, o mínimo
+     * configurado, que é de onde o {@link com.itau.insurance.infrastructure.messaging.AdaptiveConsumerController}
+     * parte ao aumentar ou reduzir consumidores.
+     */
+    int consumerConcurrency() {
+        MessagingProperties.Adaptive adaptive = properties.getConsumer().getAdaptive();
+        return adaptive.isEnabled() && !shards.isSharded() ? Math.max(1, adaptive.getMinConsumers()) : 1;
+    }
+
+    private SimpleRabbitListenerEndpoint endpoint(String id, String queue, MessageListener listener, int concurrency) {
+        SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+        endpoint.setId(id);
+        endpoint.setQueueNames(queue);
+        endpoint.setConcurrency(String.valueOf(concurrency));
+        endpoint.setMessageListener(listener);
+        return endpoint;
+    }
+
+    private RabbitListenerContainerFactory<?> factory(boolean batch) {
+        return beanFactory.getBean(batch ? BATCH_FACTORY : DEFAULT_FACTORY, RabbitListenerContainerFactory.class);
+    }
+}
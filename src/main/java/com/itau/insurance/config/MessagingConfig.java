@@ -0,0 +1,62 @@
+package com.itau.insurance.config;
+
+import com.itau.insurance.infrastructure.messaging.BatchEventConsumer;
+import com.itau.insurance.infrastructure.messaging.EventConsumer;
+import com.itau.insurance.infrastructure.messaging.transport.InProcessDeadLetterRecoverer;
+import com.itau.insurance.infrastructure.messaging.transport.InProcessMessageTransport;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propriedades de mensageria e o transporte em memória ({@code messaging.transport=in-process}). A topologia e os
+ * listeners do RabbitMQ ficam em {@link RabbitMQConfig} e {@link CommandListenerConfig}, ativos no modo padrão.
+ */
+@Configuration
+@EnableConfigurationProperties(MessagingProperties.class)
+public class MessagingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.transport", havingValue = "in-process")
+    public InProcessDeadLetterRecoverer inProcessDeadLetterRecoverer(MeterRegistry meterRegistry) {
+        return new InProcessDeadLetterRecoverer(meterRegistry);
+    }
+
+    /**
+     * Os comandos de status, que sem broker chegam pelo {@code InProcessCommandGateway} ({@code POST /events/status}),
+     * vão para o mesmo consumidor do modo RabbitMQ (em lote ou não, conforme {@code messaging.consumer.batch.enabled});
+     * uma única thread consumidora já preserva a ordem por apólice, então não há shards. Os eventos de domínio
+     * relayados do outbox não têm consumidor num nó único e são descartados, contados em
+     * {@code messaging.in_process.unrouted}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "messaging.transport", havingValue = "in-process")
+    public InProcessMessageTransport inProcessMessageTransport(MessagingProperties properties,
+                                                               InProcessDeadLetterRecoverer recoverer,
+                                                               MeterRegistry meterRegistry,
+                                                               ObjectProvider<EventConsumer> eventConsumer,
+                                                               ObjectProvider<BatchEventConsumer> batchEventConsumer) {
+        MessagingProperties.InProcess config = properties.getInProcess();
+        InProcessMessageTransport transport = new InProcessMessageTransport(config.getCapacity(),
+                config.getMaxBatchSize(), config.getMaxAttempts(), config.getRetryBackoffMs(), recoverer);
+
+        String commands = properties.getCommands().getRoutingKey();
+        BatchEventConsumer batchConsumer = batchEventConsumer.getIfAvailable();
+        if (batchConsumer != null) {
+            transport.subscribeBatch(commands, batchConsumer::receiveEvents);
+        } else {
+            transport.subscribe(commands, eventConsumer.getObject()::receiveEvent);
+        }
+
+        Gauge.builder("messaging.in_process.pending", transport, InProcessMessageTransport::pending)
+                .register(meterRegistry);
+        FunctionCounter.builder("messaging.in_process.unrouted", transport, InProcessMessageTransport::unrouted)
+                .register(meterRegistry);
+        return transport;
+    }
+}
@@ -0,0 +1,96 @@
+package com.itau.insurance.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Topologia de mensageria ({@code messaging.*}). Comandos (atualizações de pagamento/subscrição vindas de
+ * sistemas externos) e eventos de domínio (transições publicadas por este serviço) usam o mesmo exchange
+ * topic, mas routing keys distintas, de modo que a fila de comandos nunca recebe os eventos que publicamos.
+ */
+@Data
+@ConfigurationProperties(prefix = "messaging")
+public class MessagingProperties {
+
+    /** Transporte das mensagens: {@code rabbitmq} ou {@code in-process} (nó único, sem broker). */
+    private String transport = "rabbitmq";
+    private String exchange = "policy.exchange";
+    private Commands commands = new Commands();
+    private Events events = new Events();
+    private DeadLetters deadLetters = new DeadLetters();
+    private InProcess inProcess = new InProcess();
+    private Consumer consumer = new Consumer();
+
+    @Data
+    public static class Commands {
+        private String queue = "policy.queue";
+        private String routingKey = "policy.status.updated";
+        /**
+         * Número de filas shard de comandos. Com mais de um shard, a fila de comandos vira porta de entrada e as
+         * mensagens são redistribuídas por hash do policyId; cada shard tem um único consumidor ativo.
+         */
+        private int shards = 1;
+        /**
+         * Porta de entrada com sharding: fila com single active consumer, para que um único roteador no cluster
+         * redistribua os comandos aos shards na ordem de chegada. Nome próprio porque a fila de comandos, já
+         * declarada sem esse argumento nos brokers existentes, não pode ser redeclarada com ele.
+         */
+        private String ingressQueue = "policy.queue.ingress";
+    }
+
+    @Data
+    public static class Events {
+        /** Prefixo das routing keys por transição: policy.created, policy.validated, policy.approved... */
+        private String routingKeyPrefix = "policy.";
+        /** Filas de consumidores de eventos de domínio e os padrões (topic) que cada uma assina. */
+        private Map<String, List<String>> subscriptions = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class DeadLetters {
+        private String queue = "policy.dlq";
+        /** Mensagens por segundo devolvidas à fila de comandos quando o replay não informa a taxa. */
+        private double replayRatePerSecond = 20;
+        /** Máximo de mensagens reenviadas por replay quando a requisição não informa o limite. */
+        private int replayLimit = 500;
+        /** Máximo de mensagens inspecionadas por replay; limita a duração da requisição em DLQs grandes. */
+        private int replayScanLimit = 5000;
+    }
+
+    @Data
+    public static class InProcess {
+        /** Posições do ring buffer, arredondadas para a próxima potência de dois. */
+        private int capacity = 8192;
+        private int maxBatchSize = 100;
+        private int maxAttempts = 3;
+        private long retryBackoffMs = 500;
+    }
+
+    @Data
+    public static class Consumer {
+        private Adaptive adaptive = new Adaptive();
+    }
+
+    /**
+     * Limites do ajuste de prefetch e consumidores das filas de comandos ({@code messaging.consumer.adaptive}).
+     * Com shards, cada fila tem um único consumidor ativo e só o prefetch é ajustado.
+     */
+    @Data
+    public static class Adaptive {
+        private boolean enabled = false;
+        /** Latência média por mensagem acima da qual o controlador reduz prefetch e consumidores. */
+        private long targetLatencyMs = 20;
+        /** Mensagens acumuladas nas filas de comandos a partir das quais o controlador amplia prefetch e consumidores. */
+        private long backlogThreshold = 1000;
+        private int minPrefetch = 10;
+        private int maxPrefetch = 500;
+        private int minConsumers = 1;
+        private int maxConsumers = 1;
+        /** Intervalo mínimo entre reinícios dos containers, necessários para aplicar um novo prefetch. */
+        private long restartCooldownMs = 30000;
+    }
+}
@@ -1,34 +1,187 @@
 package com.itau.insurance.config;
 
+import com.itau.insurance.infrastructure.messaging.AdaptiveConsumerController;
+import com.itau.insurance.infrastructure.messaging.DeadLetterRecoverer;
+import com.itau.insurance.infrastructure.messaging.NonRetryableFailures;
+import com.itau.insurance.infrastructure.messaging.PolicyCommandShards;
+import com.itau.insurance.infrastructure.messaging.StatusUpdateLatency;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.RabbitRetryTemplateCustomizer;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.policy.SimpleRetryPolicy;
 
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
 @Configuration
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "rabbitmq", matchIfMissing = true)
 public class RabbitMQConfig {
 
     @Bean
-    public TopicExchange policyExchange() {
-        return new TopicExchange("policy.exchange");
+    public TopicExchange policyExchange(MessagingProperties properties) {
+        return new TopicExchange(properties.getExchange());
     }
 
     @Bean
-    public Queue policyQueue() {
-        return QueueBuilder.durable("policy.queue")
+    public Queue policyQueue(MessagingProperties properties) {
+        return QueueBuilder.durable(properties.getCommands().getQueue())
                 .withArgument("x-dead-letter-exchange", "")
-                .withArgument("x-dead-letter-routing-key", "policy.dlq")
+                .withArgument("x-dead-letter-routing-key", properties.getDeadLetters().getQueue())
                 .build();
     }
 
     @Bean
-    public Queue deadLetterQueue() {
-        return new Queue("policy.dlq");
+    public Queue deadLetterQueue(MessagingProperties properties) {
+        return new Queue(properties.getDeadLetters().getQueue());
+    }
+
+    /**
+     * Destino dos comandos que esgotam as tentativas de {@code spring.rabbitmq.listener.simple.retry}: o Spring Boot
+     * aplica este recoverer aos containers; o consumidor em lote o usa diretamente para as apólices que falharem.
+     */
+    @Bean
+    public DeadLetterRecoverer deadLetterRecoverer(RabbitTemplate rabbitTemplate, MessagingProperties properties) {
+        return new DeadLetterRecoverer(rabbitTemplate, properties.getDeadLetters().getQueue());
+    }
+
+    /**
+     * Falhas permanentes ({@link NonRetryableFailures}) vão direto ao {@link DeadLetterRecoverer}, sem repetir;
+     * as demais seguem {@code spring.rabbitmq.listener.simple.retry}.
+     */
+    @Bean
+    public RabbitRetryTemplateCustomizer nonRetryableFailuresCustomizer(RabbitProperties rabbitProperties) {
+        int maxAttempts = rabbitProperties.getListener().getSimple().getRetry().getMaxAttempts();
+        return (target, retryTemplate) -> {
+            if (target == RabbitRetryTemplateCustomizer.Target.LISTENER) {
+                retryTemplate.setRetryPolicy(
+                        new SimpleRetryPolicy(maxAttempts, NonRetryableFailures.retryableExceptions(), true, true));
+            }
+        };
+    }
+
+    /**
+     * Container do modo em lote: entrega ao listener até {@code batchSize} mensagens de uma vez.
+     * Com ack automático, o lote só é confirmado depois que o listener retorna, ou seja, após o commit.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "messaging.consumer.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${messaging.consumer.batch.size:100}") int batchSize,
+            @Value("${messaging.consumer.batch.receive-timeout-ms:200}") long receiveTimeoutMs) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        return factory;
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "messaging.consumer.adaptive.enabled", havingValue = "true")
+    public AdaptiveConsumerController adaptiveConsumerController(
+            RabbitListenerEndpointRegistry registry,
+            AmqpAdmin amqpAdmin,
+            PolicyCommandShards shards,
+            MessagingProperties properties,
+            StatusUpdateLatency latency,
+            MeterRegistry meterRegistry,
+            @Value("${messaging.consumer.batch.enabled:false}") boolean batch,
+            @Value("${messaging.consumer.batch.size:100}") int batchSize,
+            @Value("${spring.rabbitmq.listener.simple.prefetch:250}") int prefetch) {
+        // prefetch inicial: o do container em lote (batchSize) ou o da factory padrão
+        return new AdaptiveConsumerController(registry, amqpAdmin, shards, properties, latency, meterRegistry,
+                batch ? batchSize : prefetch, batch ? batchSize : 0);
+    }
 
+    /**
+     * Entrada dos comandos, que assina apenas a routing key de comandos, nunca os eventos de domínio. Sem sharding é
+     * a própria fila de comandos; com sharding é uma fila com single active consumer, de modo que, com várias
+     * instâncias, só um roteador por vez a consome e os comandos de uma apólice chegam ao shard na ordem de chegada.
+     */
+    @Bean
+    public Declarables commandIngress(Queue policyQueue, TopicExchange policyExchange, PolicyCommandShards shards,
+                                      MessagingProperties properties) {
+        String routingKey = properties.getCommands().getRoutingKey();
+        if (!shards.isSharded()) {
+            return new Declarables(BindingBuilder.bind(policyQueue).to(policyExchange).with(routingKey));
+        }
+
+        Queue ingress = QueueBuilder.durable(shards.ingressQueue())
+                .singleActiveConsumer()
+                .withArgument("x-dead-letter-exchange", "")
+                .withArgument("x-dead-letter-routing-key", properties.getDeadLetters().getQueue())
+                .build();
+        return new Declarables(ingress, BindingBuilder.bind(ingress).to(policyExchange).with(routingKey));
+    }
+
+    /**
+     * Com sharding, remove o binding da fila de comandos deixado por versões anteriores (declarações não removem
+     * bindings existentes no broker); sem isso, cada comando seria copiado também para ela. O que já estava na
+     * fila é drenado pelo roteador (ver {@link CommandListenerConfig}).
+     */
+    @Bean
+    public ApplicationRunner legacyCommandBindingCleanup(AmqpAdmin amqpAdmin, PolicyCommandShards shards,
+                                                         MessagingProperties properties) {
+        return args -> {
+            if (!shards.isSharded()) {
+                return;
+            }
+            try {
+                amqpAdmin.removeBinding(new Binding(properties.getCommands().getQueue(), Binding.DestinationType.QUEUE,
+                        properties.getExchange(), properties.getCommands().getRoutingKey(), null));
+            } catch (Exception e) {
+                log.warn("Não foi possível remover o binding antigo da fila de comandos: {}", e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Filas shard de comandos ({@code messaging.commands.shards > 1}). Single active consumer garante um único
+     * consumidor por shard mesmo com várias instâncias do serviço; as demais ficam de reserva.
+     */
+    @Bean
+    public Declarables commandShards(TopicExchange policyExchange, PolicyCommandShards shards, MessagingProperties properties) {
+        List<Declarable> declarables = new ArrayList<>();
+        if (shards.isSharded()) {
+            for (int shard = 0; shard < shards.count(); shard++) {
+                Queue queue = QueueBuilder.durable(shards.queueName(shard))
+                        .singleActiveConsumer()
+                        .withArgument("x-dead-letter-exchange", "")
+                        .withArgument("x-dead-letter-routing-key", properties.getDeadLetters().getQueue())
+                        .build();
+                declarables.add(queue);
+                declarables.add(BindingBuilder.bind(queue).to(policyExchange).with(shards.routingKey(shard)));
+            }
+        }
+        return new Declarables(declarables);
+    }
 
     @Bean
-    public Binding binding(Queue policyQueue, TopicExchange policyExchange) {
-        return BindingBuilder.bind(policyQueue).to(policyExchange).with("policy.status.updated");
+    public Declarables eventSubscriptions(TopicExchange policyExchange, MessagingProperties properties) {
+        List<Declarable> declarables = new ArrayList<>();
+        properties.getEvents().getSubscriptions().forEach((queueName, patterns) -> {
+            Queue queue = QueueBuilder.durable(queueName).build();
+            declarables.add(queue);
+            patterns.forEach(pattern -> declarables.add(BindingBuilder.bind(queue).to(policyExchange).with(pattern)));
+        });
+        return new Declarables(declarables);
     }
 }
@@ -0,0 +1,86 @@
+package com.itau.insurance.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Pilha reativa (profile reactive): servidor Netty, pool R2DBC para o fluxo de apólices e uma transação
+ * reativa própria. O R2DBC fica fora da autoconfiguração (ver {@code InsurancePolicyServiceApplication}) e o
+ * pool não é publicado como bean: um {@link ConnectionFactory} no contexto desligaria o DataSource JDBC, e um
+ * gerenciador de transação reativo deixaria ambíguo o {@code @Transactional} dos fluxos JPA, que continuam ativos.
+ * Controllers que continuam bloqueantes (regras, DLQ, lote de validação) rodam fora do event loop.
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactiveConfig implements WebFluxConfigurer, DisposableBean {
+
+    private final ConnectionPool connectionPool;
+    private final int blockingConcurrency;
+
+    public ReactiveConfig(R2dbcProperties properties,
+                          @Value("${reactive.blocking-concurrency:64}") int blockingConcurrency) {
+        this.connectionPool = connectionPool(properties);
+        this.blockingConcurrency = blockingConcurrency;
+    }
+
+    // Tomcat também está no classpath (pilha servlet padrão); o bean explícito garante o Netty
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("webflux-blocking-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(blockingConcurrency);
+        configurer.setExecutor(executor);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static ConnectionPool connectionPool(R2dbcProperties properties) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+
+        R2dbcProperties.Pool pool = properties.getPool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .name("r2dbc-policies")
+                .build());
+    }
+}
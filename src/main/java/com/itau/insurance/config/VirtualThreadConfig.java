@@ -0,0 +1,39 @@
+package com.itau.insurance.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ThreadFactory;
+
+// Modo de threads virtuais (spring.threads.virtual.enabled=true): o Boot já coloca as requisições
+// do Tomcat e os containers dos @RabbitListener em threads virtuais; aqui o boundedElastic do
+// Reactor, usado pela validação assíncrona/em lote e pela espera das chamadas à API de fraude,
+// passa a criar uma thread virtual por tarefa no lugar do pool de threads de plataforma.
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig implements InitializingBean, DisposableBean {
+
+    @Override
+    public void afterPropertiesSet() {
+        Schedulers.setFactory(new Schedulers.Factory() {
+            @Override
+            public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap, ThreadFactory threadFactory, int ttlSeconds) {
+                return newThreadPerTaskBoundedElastic(threadCap, queuedTaskCap,
+                        Thread.ofVirtual().name("bounded-elastic-vt-", 0).factory());
+            }
+        });
+        log.info("Modo de threads virtuais ativo: Tomcat, listeners do RabbitMQ e boundedElastic do Reactor");
+    }
+
+    @Override
+    public void destroy() {
+        Schedulers.resetFactory();
+    }
+}
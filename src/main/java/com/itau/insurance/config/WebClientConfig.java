@@ -1,14 +1,37 @@
 package com.itau.insurance.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient webClient(@Value("${external.fraud-api.connect-timeout:2s}") Duration connectTimeout,
+                               @Value("${external.fraud-api.response-timeout:3s}") Duration responseTimeout,
+                               @Value("${external.fraud-api.max-connections:100}") int maxConnections,
+                               @Value("${external.fraud-api.pending-acquire-timeout:1s}") Duration pendingAcquireTimeout) {
+        // pool dedicado e limitado: lentidão na API de fraude não consome conexões sem limite
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("fraud-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 2)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 }
@@ -1,5 +1,10 @@
 package com.itau.insurance.domain.enums;
 
 public enum RequestStatus {
-    RECEIVED, VALIDATED, PENDING, APPROVED, REJECTED, CANCELLED
-}
\ No newline at end of file
+    RECEIVED, VALIDATED, PENDING, APPROVED, REJECTED, CANCELLED;
+
+    // estados dos quais a solicitação não sai mais
+    public boolean isFinal() {
+        return this == APPROVED || this == REJECTED || this == CANCELLED;
+    }
+}
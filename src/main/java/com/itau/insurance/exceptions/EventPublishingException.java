@@ -0,0 +1,7 @@
+package com.itau.insurance.exceptions;
+
+public class EventPublishingException extends RuntimeException {
+    public EventPublishingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
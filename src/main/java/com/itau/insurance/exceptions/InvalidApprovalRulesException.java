@@ -0,0 +1,7 @@
+package com.itau.insurance.exceptions;
+
+public class InvalidApprovalRulesException extends BusinessException {
+    public InvalidApprovalRulesException(String message) {
+        super(message);
+    }
+}
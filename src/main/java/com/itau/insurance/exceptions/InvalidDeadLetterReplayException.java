@@ -0,0 +1,7 @@
+package com.itau.insurance.exceptions;
+
+public class InvalidDeadLetterReplayException extends BusinessException {
+    public InvalidDeadLetterReplayException(String message) {
+        super(message);
+    }
+}
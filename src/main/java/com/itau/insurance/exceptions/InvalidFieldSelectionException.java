@@ -0,0 +1,7 @@
+package com.itau.insurance.exceptions;
+
+public class InvalidFieldSelectionException extends RuntimeException {
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.itau.insurance.exceptions;
+
+public class InvalidPageTokenException extends RuntimeException {
+    public InvalidPageTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.itau.insurance.exceptions;
+
+public class InvalidStatusEventException extends RuntimeException {
+    public InvalidStatusEventException(String message) {
+        super(message);
+    }
+}
@@ -1,26 +1,109 @@
 package com.itau.insurance.infrastructure.external.fraud;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.itau.insurance.domain.enums.RiskClassification;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class FraudApiClient {
 
+    static final String RESILIENCE_INSTANCE = "fraudApi";
+
     private final WebClient webClient;
+    private final String fraudApiBaseUrl;
+    private final Duration callTimeout;
+    private final boolean fallbackEnabled;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter upstreamCalls;
+    private final Counter fallbacks;
+
+    // Guarda o futuro da análise por apólice: chamadas concorrentes para a mesma chave
+    // aguardam a mesma requisição em andamento, e o resultado é reaproveitado até expirar.
+    private final AsyncCache<UUID, FraudAnalysisResponse> analyses;
 
-    @Value("${external.fraud-api.base-url}")
-    private String fraudApiBaseUrl;
+    public FraudApiClient(WebClient webClient,
+                          MeterRegistry meterRegistry,
+                          CircuitBreakerRegistry circuitBreakerRegistry,
+                          BulkheadRegistry bulkheadRegistry,
+                          @Value("${external.fraud-api.base-url}") String fraudApiBaseUrl,
+                          @Value("${external.fraud-api.call-timeout:4s}") Duration callTimeout,
+                          @Value("${external.fraud-api.fallback.enabled:false}") boolean fallbackEnabled,
+                          @Value("${external.fraud-api.cache.ttl:1m}") Duration cacheTtl,
+                          @Value("${external.fraud-api.cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.webClient = webClient;
+        this.fraudApiBaseUrl = fraudApiBaseUrl;
+        this.callTimeout = callTimeout;
+        this.fallbackEnabled = fallbackEnabled;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE);
+        this.upstreamCalls = Counter.builder("fraud.api.upstream.calls")
+                .description("Chamadas efetivamente enviadas à API de fraude")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("fraud.api.fallbacks")
+                .description("Análises resolvidas como NO_INFORMATION com o circuito aberto")
+                .register(meterRegistry);
+        this.analyses = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaximumSize)
+                .recordStats()
+                .<UUID, FraudAnalysisResponse>buildAsync(), "fraudAnalysis");
+    }
 
     public FraudAnalysisResponse analyze(UUID policyId) {
+        return analyzeAsync(policyId).block(); // Bloco pois não estamos usando WebFlux
+    }
+
+    public Mono<FraudAnalysisResponse> analyzeAsync(UUID policyId) {
+        // suppressCancel: o cancelamento de um assinante não pode abortar a chamada compartilhada
+        return Mono.fromFuture(() -> analyses.get(policyId, (id, executor) -> fetch(id).toFuture()), true)
+                .onErrorResume(CallNotPermittedException.class, e -> fallback(policyId, e));
+    }
+
+    private Mono<FraudAnalysisResponse> fetch(UUID policyId) {
         return webClient.get()
                 .uri(fraudApiBaseUrl + "/fraud/" + policyId)
                 .retrieve()
                 .bodyToMono(FraudAnalysisResponse.class)
-                .block(); // Bloco pois não estamos usando WebFlux
+                .doOnSubscribe(subscription -> upstreamCalls.increment())
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .timeout(callTimeout)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    // O fallback não passa pelo cache: assim que o circuito fechar, a análise real volta a ser usada.
+    private Mono<FraudAnalysisResponse> fallback(UUID policyId, CallNotPermittedException cause) {
+        if (!fallbackEnabled) {
+            return Mono.error(cause);
+        }
+
+        log.warn("Circuito da API de fraude aberto, classificando apólice {} como NO_INFORMATION", policyId);
+        fallbacks.increment();
+
+        return Mono.just(FraudAnalysisResponse.builder()
+                .orderId(policyId)
+                .analyzedAt(LocalDateTime.now())
+                .classification(RiskClassification.NO_INFORMATION)
+                .build());
     }
 }
@@ -0,0 +1,102 @@
+package com.itau.insurance.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.itau.insurance.infrastructure.persistence.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Índice dos eventos já aplicados, para descartar reentregas do RabbitMQ e reenvios de {@code POST /events/status}
+ * sem ir ao banco. Os ids ficam em memória por uma janela de tempo, com tamanho máximo; opcionalmente também são
+ * gravados em {@code processed_events}, consultada apenas quando o id não está em memória (ex.: após um restart).
+ * <p>
+ * Quem processa consulta {@link #isDuplicate} antes e chama {@link #markProcessed} somente depois do commit.
+ * Uma falha entre os dois leva a reprocessar o evento, o que a máquina de estados já trata como transição repetida.
+ */
+@Slf4j
+@Component
+public class ProcessedEventRegistry {
+
+    public static final String SOURCE_AMQP = "amqp";
+    public static final String SOURCE_HTTP = "http";
+
+    private final Cache<String, Boolean> recent;
+    private final ProcessedEventRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final boolean persistenceEnabled;
+    private final Duration persistenceRetention;
+
+    public ProcessedEventRegistry(ProcessedEventRepository repository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${messaging.idempotency.window:PT10M}") Duration window,
+                                  @Value("${messaging.idempotency.maximum-size:100000}") long maximumSize,
+                                  @Value("${messaging.idempotency.persistence.enabled:false}") boolean persistenceEnabled,
+                                  @Value("${messaging.idempotency.persistence.retention:P7D}") Duration persistenceRetention) {
+        this.recent = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.persistenceEnabled = persistenceEnabled;
+        this.persistenceRetention = persistenceRetention;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, recent, "processedEvents");
+    }
+
+    /**
+     * Indica se o evento já foi aplicado, contabilizando a duplicata por origem. Eventos sem id nunca são duplicatas.
+     */
+    public boolean isDuplicate(String eventId, String source) {
+        if (eventId == null || eventId.isBlank()) {
+            return false;
+        }
+
+        boolean duplicate = recent.getIfPresent(eventId) != null;
+        if (!duplicate && persistenceEnabled && repository.existsById(eventId)) {
+            recent.put(eventId, Boolean.TRUE);
+            duplicate = true;
+        }
+
+        if (duplicate) {
+            meterRegistry.counter("policy.events.duplicates", "source", source).increment();
+            log.info("Evento {} já processado, ignorando ({})", eventId, source);
+        }
+        return duplicate;
+    }
+
+    public void markProcessed(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return;
+        }
+
+        recent.put(eventId, Boolean.TRUE);
+        if (persistenceEnabled) {
+            try {
+                repository.insertIgnoringDuplicate(eventId, LocalDateTime.now());
+            } catch (Exception e) {
+                // o evento já foi aplicado; sem o registro, uma reentrega após restart apenas repete a transição
+                log.warn("Erro ao registrar evento processado {}: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(cron = "${messaging.idempotency.persistence.purge-cron:0 0 * * * *}")
+    public void purgeExpired() {
+        if (!persistenceEnabled) {
+            return;
+        }
+
+        int removed = repository.deleteProcessedBefore(LocalDateTime.now().minus(persistenceRetention));
+        log.debug("{} registros de eventos processados removidos", removed);
+    }
+}
@@ -0,0 +1,227 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.config.CommandListenerConfig;
+import com.itau.insurance.config.MessagingProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ajusta periodicamente o prefetch e o número de consumidores das filas de comandos a partir da latência média
+ * do {@code UpdatePolicyStatusUseCase} ({@link StatusUpdateLatency}) e da profundidade das filas, dentro dos limites
+ * de {@code messaging.consumer.adaptive}:
+ * <ul>
+ *     <li>latência acima do alvo: o banco está lento, então o prefetch cai pela metade e sai um consumidor,
+ *     reduzindo o backlog sem ack retido no consumidor;</li>
+ *     <li>latência saudável e backlog acima do limite: o prefetch dobra e entra um consumidor;</li>
+ *     <li>filas vazias: sai um consumidor, até o mínimo.</li>
+ * </ul>
+ * Consumidores são ajustados com o container rodando; o prefetch só vale para consumidores novos, então os containers
+ * são reiniciados para aplicá-lo, no máximo uma vez por {@code restart-cooldown-ms}. Com shards, cada fila tem um único
+ * consumidor ativo (a ordem por apólice depende disso) e só o prefetch é ajustado. As decisões são expostas em
+ * {@code messaging.consumer.adaptive.*}.
+ */
+@Slf4j
+public class AdaptiveConsumerController {
+
+    private final RabbitListenerEndpointRegistry registry;
+    private final AmqpAdmin amqpAdmin;
+    private final StatusUpdateLatency latency;
+    private final MessagingProperties.Adaptive config;
+    private final MeterRegistry meterRegistry;
+    private final List<String> containerIds = new ArrayList<>();
+    private final List<String> queues = new ArrayList<>();
+    private final int minConsumers;
+    private final int maxConsumers;
+    private final int batchSize;
+    private final long restartCooldownNanos;
+
+    private volatile int prefetch;
+    private volatile int consumers;
+    private volatile double latencyMs = Double.NaN;
+    private volatile long queueDepth;
+
+    private long lastCount;
+    private double lastTotalTimeMs;
+    private long lastRestartNanos;
+
+    /**
+     * @param initialPrefetch prefetch com que os containers foram criados
+     * @param batchSize tamanho do lote do consumidor, ou zero fora do modo em lote
+     */
+    public AdaptiveConsumerController(RabbitListenerEndpointRegistry registry,
+                                      AmqpAdmin amqpAdmin,
+                                      PolicyCommandShards shards,
+                                      MessagingProperties properties,
+                                      StatusUpdateLatency latency,
+                                      MeterRegistry meterRegistry,
+                                      int initialPrefetch,
+                                      int batchSize) {
+        this.registry = registry;
+        this.amqpAdmin = amqpAdmin;
+        this.latency = latency;
+        this.config = properties.getConsumer().getAdaptive();
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.restartCooldownNanos = TimeUnit.MILLISECONDS.toNanos(config.getRestartCooldownMs());
+
+        shards.consumerQueues().forEach(queue -> containerIds.add(CommandListenerConfig.endpointId(queue)));
+        queues.addAll(shards.consumerQueues());
+        if (shards.isSharded()) {
+            queues.add(shards.ingressQueue());
+            queues.add(properties.getCommands().getQueue());
+        }
+
+        // single active consumer: consumidores extras num shard ficariam ociosos
+        this.minConsumers = shards.isSharded() ? 1 : Math.max(1, config.getMinConsumers());
+        this.maxConsumers = shards.isSharded() ? 1 : Math.max(minConsumers, config.getMaxConsumers());
+        this.prefetch = initialPrefetch;
+        // os containers sobem com esse número de consumidores (CommandListenerConfig#consumerConcurrency)
+        this.consumers = minConsumers;
+        this.lastRestartNanos = System.nanoTime() - restartCooldownNanos;
+    }
+
+    // fora do construtor: os gauges guardam referência ao controlador, que só deve escapar depois de construído
+    @PostConstruct
+    public void registerGauges() {
+        Gauge.builder("messaging.consumer.adaptive.prefetch", this, controller -> controller.prefetch).register(meterRegistry);
+        Gauge.builder("messaging.consumer.adaptive.consumers", this, controller -> controller.consumers).register(meterRegistry);
+        Gauge.builder("messaging.consumer.adaptive.latency", this, controller -> controller.latencyMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("messaging.consumer.adaptive.queue.depth", this, controller -> controller.queueDepth).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.consumer.adaptive.interval-ms:5000}")
+    public void adjust() {
+        try {
+            latencyMs = sampleLatency();
+            queueDepth = sampleQueueDepth();
+            apply(decide(latencyMs, queueDepth));
+        } catch (Exception e) {
+            log.warn("Erro no ajuste adaptativo dos consumidores de comandos: {}", e.getMessage());
+        }
+    }
+
+    Decision decide(double latencyMs, long queueDepth) {
+        if (latencyMs > config.getTargetLatencyMs()) {
+            return new Decision(Math.max(config.getMinPrefetch(), prefetch / 2), Math.max(minConsumers, consumers - 1), "latency");
+        }
+        if (queueDepth > config.getBacklogThreshold()) {
+            return new Decision(Math.min(config.getMaxPrefetch(), prefetch * 2), Math.min(maxConsumers, consumers + 1), "backlog");
+        }
+        if (queueDepth == 0) {
+            return new Decision(prefetch, Math.max(minConsumers, consumers - 1), "idle");
+        }
+        return new Decision(prefetch, consumers, "steady");
+    }
+
+    void apply(Decision decision) {
+        int previousPrefetch = prefetch;
+        int previousConsumers = consumers;
+        List<MessageListenerContainer> containers = containers();
+
+        if (decision.consumers() != previousConsumers) {
+            containers.forEach(container -> resize(container, previousConsumers, decision.consumers()));
+            consumers = decision.consumers();
+        }
+
+        long now = System.nanoTime();
+        if (decision.prefetch() != previousPrefetch && now - lastRestartNanos >= restartCooldownNanos) {
+            containers.forEach(container -> applyPrefetch(container, decision.prefetch()));
+            prefetch = decision.prefetch();
+            lastRestartNanos = now;
+        }
+
+        if (prefetch != previousPrefetch || consumers != previousConsumers) {
+            meterRegistry.counter("messaging.consumer.adaptive.adjustments", "reason", decision.reason()).increment();
+            log.info("Consumidores de comandos ajustados ({}): prefetch {} -> {}, consumidores {} -> {}, latência {} ms, fila {}",
+                    decision.reason(), previousPrefetch, prefetch, previousConsumers, consumers,
+                    String.format("%.1f", latencyMs), queueDepth);
+        }
+    }
+
+    int prefetch() {
+        return prefetch;
+    }
+
+    int consumers() {
+        return consumers;
+    }
+
+    private double sampleLatency() {
+        long count = latency.count();
+        double totalTimeMs = latency.totalTimeMs();
+        long processed = count - lastCount;
+        double average = processed > 0 ? (totalTimeMs - lastTotalTimeMs) / processed : Double.NaN;
+        lastCount = count;
+        lastTotalTimeMs = totalTimeMs;
+        return average;
+    }
+
+    private long sampleQueueDepth() {
+        long depth = 0;
+        for (String queue : queues) {
+            Properties queueProperties = amqpAdmin.getQueueProperties(queue);
+            if (queueProperties != null && queueProperties.get(RabbitAdmin.QUEUE_MESSAGE_COUNT) instanceof Number count) {
+                depth += count.longValue();
+            }
+        }
+        return depth;
+    }
+
+    private List<MessageListenerContainer> containers() {
+        List<MessageListenerContainer> containers = new ArrayList<>(containerIds.size());
+        for (String id : containerIds) {
+            MessageListenerContainer container = registry.getListenerContainer(id);
+            if (container != null) {
+                containers.add(container);
+            }
+        }
+        return containers;
+    }
+
+    // o máximo nunca pode ficar abaixo do número atual de consumidores: a ordem das chamadas depende do sentido
+    private static void resize(MessageListenerContainer container, int current, int target) {
+        if (container instanceof SimpleMessageListenerContainer simple) {
+            if (target > current) {
+                simple.setMaxConcurrentConsumers(target);
+                simple.setConcurrentConsumers(target);
+            } else {
+                simple.setConcurrentConsumers(target);
+                simple.setMaxConcurrentConsumers(target);
+            }
+        }
+    }
+
+    private void applyPrefetch(MessageListenerContainer container, int newPrefetch) {
+        if (!(container instanceof AbstractMessageListenerContainer listenerContainer)) {
+            return;
+        }
+        listenerContainer.setPrefetchCount(newPrefetch);
+        // em lote o container busca max(prefetch, batchSize) mensagens; o lote acompanha o prefetch para baixo
+        if (batchSize > 0 && container instanceof SimpleMessageListenerContainer simple) {
+            simple.setBatchSize(Math.min(batchSize, newPrefetch));
+        }
+        if (container.isRunning()) {
+            container.stop();
+            container.start();
+        }
+    }
+
+    record Decision(int prefetch, int consumers, String reason) {
+    }
+}
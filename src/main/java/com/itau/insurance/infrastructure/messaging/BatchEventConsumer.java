@@ -0,0 +1,118 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.application.usecases.UpdatePolicyStatusUseCase;
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.infrastructure.idempotency.ProcessedEventRegistry;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Consome as atualizações de status em lotes e as aplica numa única transação via
+ * {@link UpdatePolicyStatusUseCase#executeBatch}. Se o lote falhar, cada apólice é reprocessada
+ * em sua própria transação, para que uma atualização problemática não bloqueie as demais; as mensagens ilegíveis
+ * e as das apólices que falharem de novo vão para a DLQ pelo {@link DeadLetterRecoverer} (ou para o recoverer do
+ * transporte em memória). Eventos já processados, segundo o {@link ProcessedEventRegistry}, são descartados antes
+ * de chegar ao banco.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "messaging.consumer.batch.enabled", havingValue = "true")
+public class BatchEventConsumer {
+
+    private final UpdatePolicyStatusUseCase updatePolicyStatusUseCase;
+    private final PolicyMessageCodecs codecs;
+    private final CacheManager cacheManager;
+    private final ProcessedEventRegistry processedEvents;
+    private final MessageRecoverer deadLetterRecoverer;
+    private final StatusUpdateLatency latency;
+
+    public void receiveEvents(List<Message> messages) {
+        List<PolicyStatusUpdateRequestDTO> updates = new ArrayList<>(messages.size());
+        Map<PolicyStatusUpdateRequestDTO, Received> received = new IdentityHashMap<>(messages.size());
+        Set<String> seen = new HashSet<>();
+        for (Message message : messages) {
+            try {
+                PolicyStatusUpdateRequestDTO update = codecs.forContentType(message.getMessageProperties().getContentType())
+                        .decodeCommand(message.getBody());
+                String eventId = EventConsumer.eventIdOf(update, message);
+                // duplicatas dentro do próprio lote também são descartadas
+                if ((eventId != null && !seen.add(eventId))
+                        || processedEvents.isDuplicate(eventId, ProcessedEventRegistry.SOURCE_AMQP)) {
+                    continue;
+                }
+                updates.add(update);
+                received.put(update, new Received(message, eventId));
+            } catch (Exception e) {
+                log.error("Erro ao processar evento recebido: {}", new String(message.getBody(), StandardCharsets.UTF_8), e);
+                deadLetterRecoverer.recover(message, e);
+            }
+        }
+
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            updatePolicyStatusUseCase.executeBatch(updates);
+            markProcessed(updates, received);
+            log.info("Lote de {} eventos processado com sucesso", updates.size());
+        } catch (Exception e) {
+            log.warn("Falha ao processar lote de {} eventos, reprocessando por apólice: {}", updates.size(), e.getMessage());
+            processPerPolicy(updates, received);
+        }
+        latency.record(System.nanoTime() - start, updates.size());
+
+        evict(updates);
+    }
+
+    private void processPerPolicy(List<PolicyStatusUpdateRequestDTO> updates, Map<PolicyStatusUpdateRequestDTO, Received> received) {
+        Map<UUID, List<PolicyStatusUpdateRequestDTO>> byPolicy = new LinkedHashMap<>();
+        for (PolicyStatusUpdateRequestDTO update : updates) {
+            byPolicy.computeIfAbsent(update.getPolicyId(), id -> new ArrayList<>()).add(update);
+        }
+
+        byPolicy.forEach((policyId, policyUpdates) -> {
+            try {
+                updatePolicyStatusUseCase.executeBatch(policyUpdates);
+                markProcessed(policyUpdates, received);
+            } catch (Exception e) {
+                log.error("Erro ao processar {} eventos da apólice {}", policyUpdates.size(), policyId, e);
+                policyUpdates.forEach(update -> deadLetterRecoverer.recover(received.get(update).message(), e));
+            }
+        });
+    }
+
+    private void markProcessed(List<PolicyStatusUpdateRequestDTO> updates, Map<PolicyStatusUpdateRequestDTO, Received> received) {
+        updates.forEach(update -> processedEvents.markProcessed(received.get(update).eventId()));
+    }
+
+    private void evict(List<PolicyStatusUpdateRequestDTO> updates) {
+        Cache cache = cacheManager.getCache(CacheConfig.POLICIES_CACHE);
+        if (cache != null) {
+            updates.forEach(update -> cache.evict(update.getPolicyId()));
+        }
+    }
+
+    private record Received(Message message, String eventId) {
+    }
+}
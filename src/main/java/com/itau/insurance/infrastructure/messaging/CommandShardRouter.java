@@ -0,0 +1,64 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.config.MessagingProperties;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redistribui os comandos que chegam na porta de entrada (routing key publicada pelos sistemas externos)
+ * para o shard da apólice. A porta de entrada tem single active consumer, então com várias instâncias só um
+ * roteador a consome e os comandos de uma apólice chegam ao shard na ordem em que foram publicados. O envio é
+ * confirmado pelo broker antes do ack da entrada, então nenhuma mensagem se perde entre a entrada e o shard.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class CommandShardRouter {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PolicyMessageCodecs codecs;
+    private final PolicyCommandShards shards;
+    private final String exchange;
+    private final long confirmTimeoutMs;
+
+    public CommandShardRouter(RabbitTemplate rabbitTemplate,
+                              PolicyMessageCodecs codecs,
+                              PolicyCommandShards shards,
+                              MessagingProperties properties,
+                              @Value("${messaging.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.codecs = codecs;
+        this.shards = shards;
+        this.exchange = properties.getExchange();
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    public void route(List<Message> messages) {
+        rabbitTemplate.invoke(operations -> {
+            for (Message message : messages) {
+                operations.send(exchange, routingKeyOf(message), message);
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+
+    String routingKeyOf(Message message) {
+        try {
+            return shards.routingKeyFor(codecs.forContentType(message.getMessageProperties().getContentType())
+                    .decodeCommand(message.getBody())
+                    .getPolicyId());
+        } catch (Exception e) {
+            // mensagens ilegíveis seguem para o shard 0, onde o consumidor registra o erro como sempre fez
+            log.warn("Comando sem policyId legível, encaminhando ao shard 0: {}", e.getMessage());
+            return shards.routingKey(0);
+        }
+    }
+}
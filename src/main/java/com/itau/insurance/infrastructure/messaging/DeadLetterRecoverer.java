@@ -0,0 +1,43 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publica na DLQ os comandos que esgotaram as tentativas, com os headers de diagnóstico do
+ * {@link RepublishMessageRecoverer} ({@code x-exception-message}, {@code x-exception-stacktrace},
+ * {@code x-original-routingKey}...) e mais {@code x-exception-type}, usado para filtrar o replay.
+ */
+public class DeadLetterRecoverer extends RepublishMessageRecoverer implements MessageBatchRecoverer {
+
+    public static final String EXCEPTION_TYPE_HEADER = "x-exception-type";
+
+    public DeadLetterRecoverer(AmqpTemplate template, String deadLetterQueue) {
+        // exchange default: a routing key é o próprio nome da fila
+        super(template, "", deadLetterQueue);
+    }
+
+    @Override
+    public void recover(List<Message> messages, Throwable cause) {
+        messages.forEach(message -> recover(message, cause));
+    }
+
+    @Override
+    protected Map<? extends String, ? extends Object> additionalHeaders(Message message, Throwable cause) {
+        return Map.of(EXCEPTION_TYPE_HEADER, rootCause(cause).getClass().getName());
+    }
+
+    // o container embrulha a falha do listener; o tipo relevante para o filtro é o da exceção original
+    private static Throwable rootCause(Throwable cause) {
+        while (cause instanceof ListenerExecutionFailedException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
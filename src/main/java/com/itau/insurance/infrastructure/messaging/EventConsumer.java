@@ -1,36 +1,54 @@
 package com.itau.insurance.infrastructure.messaging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.insurance.application.usecases.UpdatePolicyStatusUseCase;
+import com.itau.insurance.infrastructure.idempotency.ProcessedEventRegistry;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
 import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * Aplica um comando por mensagem. Falhas são propagadas ao container, que repete conforme
+ * {@code spring.rabbitmq.listener.simple.retry} e, esgotadas as tentativas, envia a mensagem à DLQ
+ * pelo {@link DeadLetterRecoverer}.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "messaging.consumer.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class EventConsumer {
 
     private final UpdatePolicyStatusUseCase updatePolicyStatusUseCase;
-    private final ObjectMapper objectMapper;
+    private final PolicyMessageCodecs codecs;
+    private final ProcessedEventRegistry processedEvents;
+    private final StatusUpdateLatency latency;
 
-    @RabbitListener(queues = "policy.queue")
-    public void receiveEvent(String messageJson) {
-        try {
-            PolicyStatusUpdateRequestDTO event = objectMapper.readValue(messageJson, PolicyStatusUpdateRequestDTO.class);
+    public void receiveEvent(Message message) {
+        PolicyStatusUpdateRequestDTO event = codecs.forContentType(message.getMessageProperties().getContentType())
+                .decodeCommand(message.getBody());
 
-            updatePolicyStatusUseCase.execute(
-                    event.getPolicyId(),
-                    event.isPaymentConfirmed(),
-                    event.isSubscriptionAuthorized()
-            );
+        String eventId = eventIdOf(event, message);
+        if (processedEvents.isDuplicate(eventId, ProcessedEventRegistry.SOURCE_AMQP)) {
+            return;
+        }
 
-            log.info("Evento processado com sucesso para policyId {}", event.getPolicyId());
+        long start = System.nanoTime();
+        updatePolicyStatusUseCase.execute(
+                event.getPolicyId(),
+                event.isPaymentConfirmed(),
+                event.isSubscriptionAuthorized()
+        );
+        latency.record(System.nanoTime() - start, 1);
 
-        } catch (Exception e) {
-            log.error("Erro ao processar evento recebido: {}", messageJson, e);
-        }
+        processedEvents.markProcessed(eventId);
+        log.info("Evento processado com sucesso para policyId {}", event.getPolicyId());
+    }
+
+    // eventId do payload; produtores antigos, sem o campo, ainda podem identificar a mensagem pelo message-id AMQP
+    static String eventIdOf(PolicyStatusUpdateRequestDTO command, Message message) {
+        return command.getEventId() != null ? command.getEventId().toString() : message.getMessageProperties().getMessageId();
     }
 }
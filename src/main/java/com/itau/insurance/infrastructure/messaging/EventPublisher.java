@@ -1,43 +1,101 @@
 package com.itau.insurance.infrastructure.messaging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.config.MessagingProperties;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.exceptions.EventPublishingException;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodec;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.infrastructure.persistence.entity.OutboxEventEntity;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
-import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
+import com.itau.insurance.infrastructure.persistence.generator.UuidV7Generator;
+import com.itau.insurance.infrastructure.persistence.repository.OutboxEventRepository;
+import com.itau.insurance.infrastructure.streaming.PolicyStatusChangedEvent;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-@Slf4j
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registra os eventos no outbox dentro da transação de quem chama; o envio ao broker é feito pelo {@link OutboxRelay}.
+ * Cada transição vira um {@link PolicyStatusEventDTO} com routing key própria ({@code policy.created},
+ * {@code policy.validated}, {@code policy.approved}...), distinta da routing key de comandos. As mesmas transições
+ * seguem como {@link PolicyStatusChangedEvent} para os streams SSE, entregues apenas se a transação for commitada.
+ */
 @Component
-@RequiredArgsConstructor
 public class EventPublisher {
 
-    private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxEventRepository outboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PolicyMessageCodec codec;
+    private final String exchange;
+    private final Map<RequestStatus, String> routingKeys = new EnumMap<>(RequestStatus.class);
 
-    @Value("${messaging.exchange}")
-    private String exchange;
+    public EventPublisher(OutboxEventRepository outboxRepository, ApplicationEventPublisher applicationEventPublisher,
+                          PolicyMessageCodecs codecs, MessagingProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.codec = codecs.outbound();
+        this.exchange = properties.getExchange();
 
-    @Value("${messaging.routing-key}")
-    private String routingKey;
+        String prefix = properties.getEvents().getRoutingKeyPrefix();
+        for (RequestStatus status : RequestStatus.values()) {
+            String transition = status == RequestStatus.RECEIVED ? "created" : status.name().toLowerCase(Locale.ROOT);
+            routingKeys.put(status, prefix + transition);
+        }
+    }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishPolicyEvent(PolicyRequestEntity entity) {
-        publishPolicyEvent(entity, false, false);
+        outboxRepository.save(toOutboxEvent(entity));
+        applicationEventPublisher.publishEvent(PolicyStatusChangedEvent.of(List.of(entity)));
     }
 
-    public void publishPolicyEvent(PolicyRequestEntity entity, boolean paymentConfirmed, boolean subscriptionAuthorized) {
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishPolicyEvents(List<PolicyRequestEntity> entities) {
+        List<OutboxEventEntity> events = new ArrayList<>(entities.size());
+        for (PolicyRequestEntity entity : entities) {
+            events.add(toOutboxEvent(entity));
+        }
+        outboxRepository.saveAll(events);
+        applicationEventPublisher.publishEvent(PolicyStatusChangedEvent.of(entities));
+    }
+
+    String routingKeyFor(RequestStatus status) {
+        return routingKeys.get(status);
+    }
+
+    /**
+     * Monta o registro de outbox do estado atual da apólice, sem gravá-lo; usado também pelo {@link ReactiveEventPublisher}.
+     */
+    public OutboxEventEntity toOutboxEvent(PolicyRequestEntity entity) {
+        LocalDateTime now = LocalDateTime.now();
+        PolicyStatusEventDTO event = PolicyStatusEventDTO.builder()
+                .eventId(UuidV7Generator.nextUuid())
+                .policyId(entity.getId())
+                .customerId(entity.getCustomerId())
+                .status(entity.getStatus())
+                .timestamp(now)
+                .build();
+
         try {
-            PolicyStatusUpdateRequestDTO event = new PolicyStatusUpdateRequestDTO();
-            event.setPolicyId(entity.getId());
-            event.setPaymentConfirmed(paymentConfirmed);
-            event.setSubscriptionAuthorized(subscriptionAuthorized);
-
-            String json = objectMapper.writeValueAsString(event);
-            rabbitTemplate.convertAndSend("policy.exchange", "policy.routing.key", json);
-        } catch (Exception e) {
-            log.error("Erro ao publicar evento: {}", e.getMessage(), e);
+            return OutboxEventEntity.builder()
+                    .exchange(exchange)
+                    .routingKey(routingKeyFor(entity.getStatus()))
+                    .contentType(codec.contentType())
+                    .payload(codec.encodeEvent(event))
+                    .createdAt(now)
+                    .build();
+        } catch (MessageConversionException e) {
+            throw new EventPublishingException("Erro ao serializar evento da apólice " + entity.getId(), e);
         }
     }
 }
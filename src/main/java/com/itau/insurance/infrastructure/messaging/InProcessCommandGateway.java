@@ -0,0 +1,50 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.config.MessagingProperties;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodec;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.infrastructure.messaging.transport.InProcessMessageTransport;
+import com.itau.insurance.infrastructure.messaging.transport.TransportMessage;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Porta de entrada dos comandos de status sem broker: sem RabbitMQ não há produtores externos, então os comandos
+ * recebidos por {@code POST /events/status} entram no {@link InProcessMessageTransport} com a routing key de
+ * comandos e seguem pelo mesmo consumidor (retry, deduplicação e lote) do modo RabbitMQ.
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "in-process")
+public class InProcessCommandGateway {
+
+    private final InProcessMessageTransport transport;
+    private final PolicyMessageCodec codec;
+    private final String exchange;
+    private final String routingKey;
+
+    public InProcessCommandGateway(InProcessMessageTransport transport, PolicyMessageCodecs codecs,
+                                   MessagingProperties properties) {
+        this.transport = transport;
+        this.codec = codecs.outbound();
+        this.exchange = properties.getExchange();
+        this.routingKey = properties.getCommands().getRoutingKey();
+    }
+
+    /**
+     * Enfileira o comando; o {@code messageId} identifica o evento quando o comando não traz {@code eventId}
+     * (ex.: header Idempotency-Key). Retorna assim que o transporte assume a mensagem.
+     */
+    public void send(PolicyStatusUpdateRequestDTO command, String messageId) {
+        Message message = MessageBuilder.withBody(codec.encodeCommand(command))
+                .setContentType(codec.contentType())
+                .setMessageId(messageId)
+                .build();
+
+        transport.publish(List.of(new TransportMessage(exchange, routingKey, message)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Falhas permanentes no processamento de um comando: repetir não muda o resultado (mensagem ilegível, apólice
+ * inexistente), então a mensagem vai direto ao recoverer, sem consumir as tentativas e o backoff do retry.
+ * Usado pelo retry dos listeners RabbitMQ e pelo transporte em memória.
+ */
+public final class NonRetryableFailures {
+
+    static final List<Class<? extends Throwable>> TYPES = List.of(
+            MessageConversionException.class,
+            PolicyNotFoundException.class);
+
+    private NonRetryableFailures() {
+    }
+
+    // o container e o transporte embrulham a falha do listener: a causa é percorrida até a exceção original
+    public static boolean isNonRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> type : TYPES) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Classificação no formato do {@code SimpleRetryPolicy}: {@code false} para as falhas permanentes. */
+    public static Map<Class<? extends Throwable>, Boolean> retryableExceptions() {
+        Map<Class<? extends Throwable>, Boolean> retryable = new HashMap<>();
+        TYPES.forEach(type -> retryable.put(type, false));
+        return retryable;
+    }
+}
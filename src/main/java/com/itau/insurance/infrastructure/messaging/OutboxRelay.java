@@ -0,0 +1,82 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.infrastructure.messaging.transport.MessageTransport;
+import com.itau.insurance.infrastructure.messaging.transport.TransportMessage;
+import com.itau.insurance.infrastructure.persistence.entity.OutboxEventEntity;
+import com.itau.insurance.infrastructure.persistence.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drena o outbox em lotes: publica cada lote pelo {@link MessageTransport}, que só retorna depois de assumir
+ * as mensagens (publisher confirms no RabbitMQ), e só então remove as linhas, na mesma transação que as bloqueou.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository repository;
+    private final MessageTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository repository,
+                       MessageTransport transport,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${messaging.outbox.batch-size:200}") int batchSize) {
+        this.repository = repository;
+        this.transport = transport;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.outbox.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            // as linhas continuam no outbox e serão reenviadas na próxima execução
+            log.error("Erro ao publicar eventos do outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEventEntity> batch = repository.findNextBatch(Limit.of(batchSize));
+
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            transport.publish(batch.stream()
+                    .map(event -> new TransportMessage(event.getExchange(), event.getRoutingKey(), toMessage(event)))
+                    .toList());
+
+            repository.deleteAllByIdInBatch(batch.stream().map(OutboxEventEntity::getId).toList());
+            log.debug("{} eventos publicados a partir do outbox", batch.size());
+            return batch.size();
+        });
+
+        return relayed == null ? 0 : relayed;
+    }
+
+    private Message toMessage(OutboxEventEntity event) {
+        return MessageBuilder.withBody(event.getPayload())
+                .setContentType(event.getContentType())
+                .setMessageId(event.getId().toString())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
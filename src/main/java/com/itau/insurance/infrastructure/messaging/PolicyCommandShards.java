@@ -0,0 +1,70 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.config.MessagingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Distribuição dos comandos de status em shards: todos os comandos de uma apólice caem sempre no mesmo shard,
+ * que é consumido por um único consumidor ativo, preservando a ordem por apólice.
+ */
+@Component
+public class PolicyCommandShards {
+
+    private final int count;
+    private final String queue;
+    private final String ingressQueue;
+    private final String routingKey;
+
+    public PolicyCommandShards(MessagingProperties properties) {
+        this.count = Math.max(1, properties.getCommands().getShards());
+        this.queue = properties.getCommands().getQueue();
+        this.ingressQueue = properties.getCommands().getIngressQueue();
+        this.routingKey = properties.getCommands().getRoutingKey();
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int shardOf(UUID policyId) {
+        return Math.floorMod(policyId.hashCode(), count);
+    }
+
+    public String queueName(int shard) {
+        return queue + ".shard-" + shard;
+    }
+
+    public String routingKey(int shard) {
+        return routingKey + ".shard-" + shard;
+    }
+
+    public String routingKeyFor(UUID policyId) {
+        return routingKey(shardOf(policyId));
+    }
+
+    /** Fila que recebe a routing key de comandos: a porta de entrada com sharding, ou a própria fila de comandos. */
+    public String ingressQueue() {
+        return isSharded() ? ingressQueue : queue;
+    }
+
+    /** Filas de onde os comandos são efetivamente aplicados: os shards, ou a própria fila de comandos sem sharding. */
+    public List<String> consumerQueues() {
+        if (!isSharded()) {
+            return List.of(queue);
+        }
+
+        List<String> queues = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            queues.add(queueName(shard));
+        }
+        return queues;
+    }
+}
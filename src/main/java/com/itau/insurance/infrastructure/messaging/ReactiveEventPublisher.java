@@ -0,0 +1,40 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.reactive.ReactiveOutboxEventRepository;
+import com.itau.insurance.infrastructure.streaming.PolicyStatusChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalEventPublisher;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Equivalente reativo do {@link EventPublisher}: grava o evento no outbox pela conexão R2DBC, dentro da
+ * transação reativa de quem assina. O {@link PolicyStatusChangedEvent} leva o contexto dessa transação, para que
+ * o listener pós-commit dos streams SSE valha também aqui.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveEventPublisher {
+
+    private final EventPublisher eventPublisher;
+    private final ReactiveOutboxEventRepository outboxRepository;
+    private final TransactionalEventPublisher transactionalEventPublisher;
+
+    public ReactiveEventPublisher(EventPublisher eventPublisher,
+                                  ReactiveOutboxEventRepository outboxRepository,
+                                  ApplicationEventPublisher applicationEventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.outboxRepository = outboxRepository;
+        this.transactionalEventPublisher = new TransactionalEventPublisher(applicationEventPublisher);
+    }
+
+    public Mono<Void> publishPolicyEvent(PolicyRequestEntity entity) {
+        return Mono.fromSupplier(() -> eventPublisher.toOutboxEvent(entity))
+                .flatMap(outboxRepository::insert)
+                .then(transactionalEventPublisher.publishEvent(PolicyStatusChangedEvent.of(List.of(entity))));
+    }
+}
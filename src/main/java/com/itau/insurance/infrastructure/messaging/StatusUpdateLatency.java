@@ -0,0 +1,39 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de aplicação dos comandos de status pelo {@code UpdatePolicyStatusUseCase}, por mensagem, medido pelos
+ * consumidores ({@code policy.status.update}). Em lote, o tempo total é dividido igualmente entre as mensagens,
+ * de modo que {@code count} é sempre o número de mensagens e {@code totalTime / count} a latência média de cada uma.
+ */
+@Component
+public class StatusUpdateLatency {
+
+    private final Timer timer;
+
+    public StatusUpdateLatency(MeterRegistry meterRegistry) {
+        this.timer = Timer.builder("policy.status.update")
+                .description("Tempo de aplicação de um comando de status")
+                .register(meterRegistry);
+    }
+
+    public void record(long elapsedNanos, int messages) {
+        long perMessage = elapsedNanos / Math.max(1, messages);
+        for (int i = 0; i < messages; i++) {
+            timer.record(perMessage, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public long count() {
+        return timer.count();
+    }
+
+    public double totalTimeMs() {
+        return timer.totalTime(TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,161 @@
+package com.itau.insurance.infrastructure.messaging.codec;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Codificação binária compacta (big-endian), com um byte de versão no início de cada mensagem.
+ *
+ * <pre>
+ * comando: versão(1) | policyId(16) | flags(1: bit0 = pagamento, bit1 = subscrição, bit2 = eventId)
+ *          | eventId(16)?                                                                       <= 34 bytes
+ * evento:  versão(1) | flags(1: bit0 = customerId, bit1 = status, bit2 = timestamp, bit3 = eventId)
+ *          | policyId(16) | eventId(16)? | customerId(16)? | status(1)? | epochSecond UTC(8) + nanos(4)?
+ *                                                                                              <= 63 bytes
+ * </pre>
+ *
+ * UUIDs vão como dois longs e o status pelo ordinal de {@link RequestStatus}: novos status devem ser
+ * acrescentados ao final do enum, nunca reordenados.
+ */
+public class BinaryPolicyMessageCodec implements PolicyMessageCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.itau.policy+binary";
+
+    private static final byte VERSION = 1;
+
+    private static final int PAYMENT_CONFIRMED = 1;
+    private static final int SUBSCRIPTION_AUTHORIZED = 1 << 1;
+    private static final int COMMAND_HAS_EVENT_ID = 1 << 2;
+
+    private static final int HAS_CUSTOMER = 1;
+    private static final int HAS_STATUS = 1 << 1;
+    private static final int HAS_TIMESTAMP = 1 << 2;
+    private static final int HAS_EVENT_ID = 1 << 3;
+
+    private static final RequestStatus[] STATUSES = RequestStatus.values();
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encodeEvent(PolicyStatusEventDTO event) {
+        int flags = (event.getCustomerId() != null ? HAS_CUSTOMER : 0)
+                | (event.getStatus() != null ? HAS_STATUS : 0)
+                | (event.getTimestamp() != null ? HAS_TIMESTAMP : 0)
+                | (event.getEventId() != null ? HAS_EVENT_ID : 0);
+
+        int size = 2 + 16
+                + ((flags & HAS_EVENT_ID) != 0 ? 16 : 0)
+                + ((flags & HAS_CUSTOMER) != 0 ? 16 : 0)
+                + ((flags & HAS_STATUS) != 0 ? 1 : 0)
+                + ((flags & HAS_TIMESTAMP) != 0 ? 12 : 0);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+                .put(VERSION)
+                .put((byte) flags);
+        putUuid(buffer, event.getPolicyId());
+        if ((flags & HAS_EVENT_ID) != 0) {
+            putUuid(buffer, event.getEventId());
+        }
+        if ((flags & HAS_CUSTOMER) != 0) {
+            putUuid(buffer, event.getCustomerId());
+        }
+        if ((flags & HAS_STATUS) != 0) {
+            buffer.put((byte) event.getStatus().ordinal());
+        }
+        if ((flags & HAS_TIMESTAMP) != 0) {
+            buffer.putLong(event.getTimestamp().toEpochSecond(ZoneOffset.UTC))
+                    .putInt(event.getTimestamp().getNano());
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public PolicyStatusEventDTO decodeEvent(byte[] body) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(body);
+            checkVersion(buffer.get());
+            int flags = buffer.get();
+
+            PolicyStatusEventDTO event = new PolicyStatusEventDTO();
+            event.setPolicyId(getUuid(buffer));
+            if ((flags & HAS_EVENT_ID) != 0) {
+                event.setEventId(getUuid(buffer));
+            }
+            if ((flags & HAS_CUSTOMER) != 0) {
+                event.setCustomerId(getUuid(buffer));
+            }
+            if ((flags & HAS_STATUS) != 0) {
+                event.setStatus(STATUSES[buffer.get()]);
+            }
+            if ((flags & HAS_TIMESTAMP) != 0) {
+                event.setTimestamp(LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC));
+            }
+            return event;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new MessageConversionException("Evento binário truncado ou inválido", e);
+        }
+    }
+
+    @Override
+    public byte[] encodeCommand(PolicyStatusUpdateRequestDTO command) {
+        if (command.getPolicyId() == null) {
+            throw new IllegalArgumentException("Comando binário exige policyId");
+        }
+        int flags = (command.isPaymentConfirmed() ? PAYMENT_CONFIRMED : 0)
+                | (command.isSubscriptionAuthorized() ? SUBSCRIPTION_AUTHORIZED : 0)
+                | (command.getEventId() != null ? COMMAND_HAS_EVENT_ID : 0);
+
+        ByteBuffer buffer = ByteBuffer.allocate((flags & COMMAND_HAS_EVENT_ID) != 0 ? 34 : 18).put(VERSION);
+        putUuid(buffer, command.getPolicyId());
+        buffer.put((byte) flags);
+        if ((flags & COMMAND_HAS_EVENT_ID) != 0) {
+            putUuid(buffer, command.getEventId());
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public PolicyStatusUpdateRequestDTO decodeCommand(byte[] body) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(body);
+            checkVersion(buffer.get());
+
+            PolicyStatusUpdateRequestDTO command = new PolicyStatusUpdateRequestDTO();
+            command.setPolicyId(getUuid(buffer));
+            int flags = buffer.get();
+            command.setPaymentConfirmed((flags & PAYMENT_CONFIRMED) != 0);
+            command.setSubscriptionAuthorized((flags & SUBSCRIPTION_AUTHORIZED) != 0);
+            if ((flags & COMMAND_HAS_EVENT_ID) != 0) {
+                command.setEventId(getUuid(buffer));
+            }
+            return command;
+        } catch (BufferUnderflowException e) {
+            throw new MessageConversionException("Comando binário truncado", e);
+        }
+    }
+
+    private static void checkVersion(byte version) {
+        if (version != VERSION) {
+            throw new MessageConversionException("Versão de mensagem binária não suportada: " + version);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,57 @@
+package com.itau.insurance.infrastructure.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class JsonPolicyMessageCodec implements PolicyMessageCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String contentType() {
+        return MessageProperties.CONTENT_TYPE_JSON;
+    }
+
+    @Override
+    public byte[] encodeEvent(PolicyStatusEventDTO event) {
+        return write(event);
+    }
+
+    @Override
+    public PolicyStatusEventDTO decodeEvent(byte[] body) {
+        return read(body, PolicyStatusEventDTO.class);
+    }
+
+    @Override
+    public byte[] encodeCommand(PolicyStatusUpdateRequestDTO command) {
+        return write(command);
+    }
+
+    @Override
+    public PolicyStatusUpdateRequestDTO decodeCommand(byte[] body) {
+        return read(body, PolicyStatusUpdateRequestDTO.class);
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new MessageConversionException("Erro ao serializar mensagem em JSON", e);
+        }
+    }
+
+    private <T> T read(byte[] body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new MessageConversionException("JSON inválido para " + type.getSimpleName(), e);
+        }
+    }
+}
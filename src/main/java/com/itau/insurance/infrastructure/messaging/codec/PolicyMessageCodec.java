@@ -0,0 +1,20 @@
+package com.itau.insurance.infrastructure.messaging.codec;
+
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+
+/**
+ * Formato de fio das mensagens de apólice, identificado pelo header {@code content-type} da mensagem AMQP.
+ */
+public interface PolicyMessageCodec {
+
+    String contentType();
+
+    byte[] encodeEvent(PolicyStatusEventDTO event);
+
+    PolicyStatusEventDTO decodeEvent(byte[] body);
+
+    byte[] encodeCommand(PolicyStatusUpdateRequestDTO command);
+
+    PolicyStatusUpdateRequestDTO decodeCommand(byte[] body);
+}
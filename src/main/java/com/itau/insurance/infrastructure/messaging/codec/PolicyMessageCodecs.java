@@ -0,0 +1,59 @@
+package com.itau.insurance.infrastructure.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolve o codec pelo {@code content-type} das mensagens recebidas e define o formato das publicadas
+ * ({@code messaging.codec}: {@code json} ou {@code binary}). Mensagens sem content-type, de texto ou
+ * octet-stream são tratadas como JSON, o formato original.
+ */
+@Component
+public class PolicyMessageCodecs {
+
+    private final PolicyMessageCodec json;
+    private final Map<String, PolicyMessageCodec> byContentType;
+    private final PolicyMessageCodec outbound;
+
+    public PolicyMessageCodecs(ObjectMapper objectMapper,
+                               @Value("${messaging.codec:json}") String outboundFormat) {
+        this.json = new JsonPolicyMessageCodec(objectMapper);
+        PolicyMessageCodec binary = new BinaryPolicyMessageCodec();
+        // produtores antigos publicam sem content-type (o Spring AMQP assume octet-stream) ou como texto
+        this.byContentType = Map.of(
+                json.contentType(), json,
+                MessageProperties.CONTENT_TYPE_BYTES, json,
+                MessageProperties.CONTENT_TYPE_TEXT_PLAIN, json,
+                binary.contentType(), binary);
+        this.outbound = switch (outboundFormat.toLowerCase(Locale.ROOT)) {
+            case "json" -> json;
+            case "binary" -> binary;
+            default -> throw new IllegalArgumentException("messaging.codec inválido: " + outboundFormat);
+        };
+    }
+
+    public PolicyMessageCodec outbound() {
+        return outbound;
+    }
+
+    public PolicyMessageCodec forContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return json;
+        }
+
+        int parameters = contentType.indexOf(';');
+        String mimeType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim().toLowerCase(Locale.ROOT);
+
+        PolicyMessageCodec codec = byContentType.get(mimeType);
+        if (codec == null) {
+            throw new MessageConversionException("Content-type não suportado: " + contentType);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,35 @@
+package com.itau.insurance.infrastructure.messaging.transport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+
+import java.util.List;
+
+/**
+ * Sem broker não há DLQ: as mensagens que esgotam as tentativas são registradas em log, com o message-id
+ * para rastreio, e contadas em {@code messaging.in_process.dead_lettered}.
+ */
+@Slf4j
+public class InProcessDeadLetterRecoverer implements MessageBatchRecoverer {
+
+    private final Counter deadLettered;
+
+    public InProcessDeadLetterRecoverer(MeterRegistry meterRegistry) {
+        this.deadLettered = meterRegistry.counter("messaging.in_process.dead_lettered");
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        log.error("Mensagem {} descartada após falhas no transporte em memória ({} bytes): {}",
+                message.getMessageProperties().getMessageId(), message.getBody().length, cause.getMessage());
+        deadLettered.increment();
+    }
+
+    @Override
+    public void recover(List<Message> messages, Throwable cause) {
+        messages.forEach(message -> recover(message, cause));
+    }
+}
@@ -0,0 +1,269 @@
+package com.itau.insurance.infrastructure.messaging.transport;
+
+import com.itau.insurance.infrastructure.messaging.NonRetryableFailures;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Transporte em memória para implantações de um único nó, sem broker. As mensagens vão para um ring buffer
+ * pré-alocado e são entregues, na ordem de publicação, por uma thread consumidora dedicada aos listeners cujo
+ * padrão (topic, com {@code *} e {@code #}) casa com a routing key. Mensagens sem assinante são descartadas, como
+ * num exchange sem binding, e contadas em {@link #unrouted()}.
+ * <p>
+ * Mantém a semântica at-least-once dentro do processo: a posição de consumo só avança depois que o listener
+ * retorna; falhas são repetidas e, esgotadas as tentativas, entregues ao {@link MessageBatchRecoverer}, para onde
+ * as falhas permanentes ({@link NonRetryableFailures}) vão já na primeira. Com o buffer cheio, {@link #publish}
+ * aguarda a thread consumidora. Depois de {@link #stop()}, publicações são recusadas e as pendentes são drenadas
+ * antes de a thread encerrar; no caso do outbox, o que não foi publicado continua nas linhas e sai no próximo
+ * start.
+ */
+@Slf4j
+public class InProcessMessageTransport implements MessageTransport, SmartLifecycle {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+
+    private final TransportMessage[] slots;
+    private final int mask;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final MessageBatchRecoverer recoverer;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Map<String, List<Subscription>> routes = new ConcurrentHashMap<>();
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    // sequências da última mensagem publicada e da última consumida; published - consumed = pendentes
+    private volatile long published = -1;
+    private volatile long consumed = -1;
+    // escrito apenas pela thread consumidora
+    private volatile long unrouted;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private volatile Thread consumer;
+
+    public InProcessMessageTransport(int capacity, int maxBatchSize, int maxAttempts, long retryBackoffMs,
+                                     MessageBatchRecoverer recoverer) {
+        if (capacity <= 0 || maxBatchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Capacidade, lote e tentativas devem ser maiores que zero");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new TransportMessage[size];
+        this.mask = size - 1;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.recoverer = recoverer;
+    }
+
+    /** Entrega as mensagens uma a uma; cada uma é repetida isoladamente em caso de falha. */
+    public void subscribe(String routingKeyPattern, MessageListener listener) {
+        addSubscription(new Subscription(routingKeyPattern, false, listener));
+    }
+
+    /** Entrega até {@code maxBatchSize} mensagens consecutivas de uma vez; falhas repetem o lote inteiro. */
+    public void subscribeBatch(String routingKeyPattern, BatchMessageListener listener) {
+        addSubscription(new Subscription(routingKeyPattern, true, listener));
+    }
+
+    @Override
+    public void publish(List<TransportMessage> messages) {
+        publishLock.lock();
+        try {
+            for (TransportMessage message : messages) {
+                long next = published + 1;
+                while (next - consumed > slots.length) {
+                    checkAccepting();
+                    LockSupport.unpark(consumer);
+                    LockSupport.parkNanos(this, FULL_PARK_NANOS);
+                }
+                checkAccepting();
+                slots[(int) (next & mask)] = message;
+                // escrita volátil: torna o slot visível para a thread consumidora
+                published = next;
+            }
+        } finally {
+            publishLock.unlock();
+        }
+        LockSupport.unpark(consumer);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long pending() {
+        return published - consumed;
+    }
+
+    public long unrouted() {
+        return unrouted;
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+        running = true;
+        Thread thread = new Thread(this::consume, "in-process-transport");
+        thread.setDaemon(true);
+        consumer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        Thread thread = consumer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending() > 0) {
+            log.warn("Transporte em memória encerrado com {} mensagens pendentes", pending());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume() {
+        while (true) {
+            long from = consumed + 1;
+            long available = published;
+            if (available < from) {
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+
+            long to = Math.min(available, from + maxBatchSize - 1);
+            List<TransportMessage> batch = new ArrayList<>((int) (to - from + 1));
+            for (long sequence = from; sequence <= to; sequence++) {
+                batch.add(slots[(int) (sequence & mask)]);
+            }
+
+            dispatch(batch);
+
+            for (long sequence = from; sequence <= to; sequence++) {
+                slots[(int) (sequence & mask)] = null;
+            }
+            // escrita volátil: libera os slots para os produtores
+            consumed = to;
+        }
+    }
+
+    private void dispatch(List<TransportMessage> batch) {
+        Map<Subscription, List<Message>> deliveries = new LinkedHashMap<>();
+        for (TransportMessage message : batch) {
+            List<Subscription> routed = routesFor(message.routingKey());
+            if (routed.isEmpty()) {
+                unrouted++;
+                log.debug("Mensagem {} sem assinante para {}, descartada",
+                        message.message().getMessageProperties().getMessageId(), message.routingKey());
+            }
+            for (Subscription subscription : routed) {
+                deliveries.computeIfAbsent(subscription, s -> new ArrayList<>()).add(message.message());
+            }
+        }
+
+        deliveries.forEach((subscription, messages) -> {
+            if (subscription.batch()) {
+                deliver(subscription, messages);
+            } else {
+                messages.forEach(message -> deliver(subscription, List.of(message)));
+            }
+        });
+    }
+
+    private void deliver(Subscription subscription, List<Message> messages) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (subscription.batch()) {
+                    ((BatchMessageListener) subscription.listener()).onMessageBatch(messages);
+                } else {
+                    subscription.listener().onMessage(messages.get(0));
+                }
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts || NonRetryableFailures.isNonRetryable(e)) {
+                    log.error("Falha ao entregar {} mensagens para {} após {} tentativas",
+                            messages.size(), subscription.pattern(), attempt, e);
+                    recoverer.recover(messages, e);
+                    return;
+                }
+                log.warn("Falha ao entregar {} mensagens para {} (tentativa {}): {}",
+                        messages.size(), subscription.pattern(), attempt, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryBackoffMs * attempt));
+            }
+        }
+    }
+
+    private List<Subscription> routesFor(String routingKey) {
+        return routes.computeIfAbsent(routingKey, key -> subscriptions.stream()
+                .filter(subscription -> matches(subscription.pattern(), key))
+                .toList());
+    }
+
+    private void addSubscription(Subscription subscription) {
+        subscriptions.add(subscription);
+        routes.clear();
+    }
+
+    private void checkAccepting() {
+        if (!accepting) {
+            throw new IllegalStateException("Transporte em memória encerrado");
+        }
+    }
+
+    // mesma semântica do exchange topic: '*' casa exatamente uma palavra e '#' zero ou mais
+    static boolean matches(String pattern, String routingKey) {
+        return matches(pattern.split("\\."), 0, routingKey.split("\\."), 0);
+    }
+
+    private static boolean matches(String[] pattern, int p, String[] words, int w) {
+        if (p == pattern.length) {
+            return w == words.length;
+        }
+        if (pattern[p].equals("#")) {
+            for (int skip = w; skip <= words.length; skip++) {
+                if (matches(pattern, p + 1, words, skip)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return w < words.length
+                && (pattern[p].equals("*") || pattern[p].equals(words[w]))
+                && matches(pattern, p + 1, words, w + 1);
+    }
+
+    private record Subscription(String pattern, boolean batch, MessageListener listener) {
+    }
+}
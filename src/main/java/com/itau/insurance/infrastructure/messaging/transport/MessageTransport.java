@@ -0,0 +1,16 @@
+package com.itau.insurance.infrastructure.messaging.transport;
+
+import java.util.List;
+
+/**
+ * Transporte das mensagens publicadas pelo serviço, selecionado por {@code messaging.transport}:
+ * {@code rabbitmq} (padrão) ou {@code in-process}, para ambientes de um único nó sem broker.
+ */
+public interface MessageTransport {
+
+    /**
+     * Publica as mensagens na ordem recebida e só retorna depois que o transporte assumiu todas elas;
+     * se lançar exceção, nenhuma deve ser considerada entregue e o chamador pode reenviar o lote.
+     */
+    void publish(List<TransportMessage> messages);
+}
@@ -0,0 +1,34 @@
+package com.itau.insurance.infrastructure.messaging.transport;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publica o lote num único canal e aguarda os publisher confirms do broker antes de retornar.
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class RabbitMessageTransport implements MessageTransport {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final long confirmTimeoutMs;
+
+    public RabbitMessageTransport(RabbitTemplate rabbitTemplate,
+                                  @Value("${messaging.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @Override
+    public void publish(List<TransportMessage> messages) {
+        rabbitTemplate.invoke(operations -> {
+            messages.forEach(message -> operations.send(message.exchange(), message.routingKey(), message.message()));
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package com.itau.insurance.infrastructure.messaging.transport;
+
+import org.springframework.amqp.core.Message;
+
+/**
+ * Mensagem a publicar: destino (exchange + routing key) e conteúdo no formato {@link Message} do Spring AMQP,
+ * compartilhado pelos dois transportes para que os consumidores não dependam de qual está em uso.
+ */
+public record TransportMessage(String exchange, String routingKey, Message message) {
+}
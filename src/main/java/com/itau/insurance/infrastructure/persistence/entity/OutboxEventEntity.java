@@ -0,0 +1,39 @@
+package com.itau.insurance.infrastructure.persistence.entity;
+
+import com.itau.insurance.infrastructure.persistence.generator.UuidV7;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Mensagem pendente de publicação no broker, gravada na mesma transação da alteração da apólice.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEventEntity {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
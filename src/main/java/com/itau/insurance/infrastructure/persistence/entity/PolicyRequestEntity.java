@@ -1,15 +1,22 @@
 package com.itau.insurance.infrastructure.persistence.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.infrastructure.persistence.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "policy_requests")
+@Table(name = "policy_requests", indexes = {
+        // atende a listagem paginada por cliente: WHERE customer_id = ? ORDER BY created_at DESC, id DESC
+        @Index(name = "idx_policy_requests_customer_created_id", columnList = "customer_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +24,7 @@ import java.util.*;
 public class PolicyRequestEntity {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -55,10 +62,21 @@ public class PolicyRequestEntity {
     @Enumerated(EnumType.STRING)
     private RequestStatus status;
 
+    // classificação devolvida pela análise de fraude que originou a decisão; usada na simulação de regras
+    @Enumerated(EnumType.STRING)
+    private RiskClassification riskClassification;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime finishedAt;
 
+    // incrementada a cada alteração (inclusive do histórico); origem do ETag das leituras. O default preenche
+    // as linhas existentes quando a coluna é criada, e o @JsonIgnore impede que o corpo das requisições a defina
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    private Long version;
+
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "policy_request_id")
     private List<StatusHistoryEntity> history = new ArrayList<>();
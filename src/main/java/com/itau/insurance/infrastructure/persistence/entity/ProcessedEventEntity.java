@@ -0,0 +1,24 @@
+package com.itau.insurance.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Identificador de evento já aplicado, usado para reconhecer duplicatas após um restart.
+ */
+@Entity
+@Table(name = "processed_events", indexes = @Index(name = "idx_processed_events_processed_at", columnList = "processedAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedEventEntity {
+
+    @Id
+    @Column(length = 100)
+    private String eventId;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
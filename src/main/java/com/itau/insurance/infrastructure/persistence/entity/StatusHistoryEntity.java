@@ -1,6 +1,7 @@
 package com.itau.insurance.infrastructure.persistence.entity;
 
 import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.persistence.generator.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -16,7 +17,7 @@ import java.util.UUID;
 public class StatusHistoryEntity {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,61 @@
+package com.itau.insurance.infrastructure.persistence.generator;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUIDv7 (RFC 9562): 48 bits de timestamp em milissegundos, 12 bits de contador
+ * monotônico e 62 bits aleatórios. Valores gerados no mesmo processo são sempre crescentes,
+ * o que mantém as inserções concentradas no final do índice da chave primária.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // timestamp (ms) deslocado 12 bits + contador; avança via CAS, sem locks
+    private static final AtomicLong LAST_STATE = new AtomicLong();
+
+    public static UUID nextUuid() {
+        long state = nextState(System.currentTimeMillis());
+
+        long mostSigBits = ((state >>> COUNTER_BITS) << 16) | VERSION | (state & COUNTER_MASK);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    static long nextState(long currentTimeMillis) {
+        long candidate = currentTimeMillis << COUNTER_BITS;
+
+        while (true) {
+            long previous = LAST_STATE.get();
+            // se o relógio não avançou (ou voltou), incrementa o contador; ao estourar, avança o milissegundo
+            long next = Math.max(candidate, previous + 1);
+
+            if (LAST_STATE.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return nextUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
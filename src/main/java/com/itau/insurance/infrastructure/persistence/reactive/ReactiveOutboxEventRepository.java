@@ -0,0 +1,40 @@
+package com.itau.insurance.infrastructure.persistence.reactive;
+
+import com.itau.insurance.infrastructure.persistence.entity.OutboxEventEntity;
+import com.itau.insurance.infrastructure.persistence.generator.UuidV7Generator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Inserção R2DBC em outbox_events; o envio continua com o {@code OutboxRelay}, que lê a tabela via JPA.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveOutboxEventRepository {
+
+    private final DatabaseClient client;
+
+    public Mono<Void> insert(OutboxEventEntity event) {
+        if (event.getId() == null) {
+            event.setId(UuidV7Generator.nextUuid());
+        }
+
+        return client.sql("""
+                        insert into outbox_events (id, exchange, routing_key, content_type, payload, created_at)
+                        values (:id, :exchange, :routingKey, :contentType, :payload, :createdAt)
+                        """)
+                .bind("id", event.getId())
+                .bind("exchange", event.getExchange())
+                .bind("routingKey", event.getRoutingKey())
+                .bind("contentType", event.getContentType())
+                .bind("payload", event.getPayload())
+                .bind("createdAt", event.getCreatedAt())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+}
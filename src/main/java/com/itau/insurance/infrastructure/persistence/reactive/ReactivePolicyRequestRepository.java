@@ -0,0 +1,249 @@
+package com.itau.insurance.infrastructure.persistence.reactive;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
+import com.itau.insurance.infrastructure.persistence.generator.UuidV7Generator;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Acesso R2DBC às tabelas mapeadas por {@link PolicyRequestEntity} (policy_requests, policy_coverages,
+ * policy_assistances e status_history), devolvendo a mesma entidade usada pelo fluxo JPA, com todas as
+ * coleções carregadas. Registros de histórico sem id são os ainda não gravados.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactivePolicyRequestRepository {
+
+    private final DatabaseClient client;
+
+    public Mono<Boolean> existsById(UUID id) {
+        return client.sql("select 1 from policy_requests where id = :id")
+                .bind("id", id)
+                .map(row -> 1)
+                .first()
+                .hasElement();
+    }
+
+    public Mono<Long> findVersionById(UUID id) {
+        return client.sql("select version from policy_requests where id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    public Mono<PolicyRequestEntity> findById(UUID id) {
+        return findWithoutCollectionsById(id).flatMap(this::fetchCollections);
+    }
+
+    // apenas a linha da apólice; as coleções ficam nulas até um dos fetch* abaixo
+    public Mono<PolicyRequestEntity> findWithoutCollectionsById(UUID id) {
+        return client.sql("select * from policy_requests where id = :id")
+                .bind("id", id)
+                .map(ReactivePolicyRequestRepository::toEntity)
+                .one();
+    }
+
+    public Mono<PolicyRequestEntity> insert(PolicyRequestEntity policy) {
+        if (policy.getId() == null) {
+            policy.setId(UuidV7Generator.nextUuid());
+        }
+        policy.setVersion(0L);
+
+        GenericExecuteSpec insert = client.sql("""
+                        insert into policy_requests (id, customer_id, product_id, category, sales_channel, payment_method,
+                            total_monthly_premium_amount, insured_amount, status, risk_classification, created_at, finished_at,
+                            version)
+                        values (:id, :customerId, :productId, :category, :salesChannel, :paymentMethod,
+                            :totalMonthlyPremiumAmount, :insuredAmount, :status, :riskClassification, :createdAt, :finishedAt,
+                            :version)
+                        """)
+                .bind("id", policy.getId())
+                .bind("customerId", policy.getCustomerId())
+                .bind("productId", policy.getProductId())
+                .bind("category", policy.getCategory())
+                .bind("salesChannel", policy.getSalesChannel())
+                .bind("paymentMethod", policy.getPaymentMethod())
+                .bind("totalMonthlyPremiumAmount", policy.getTotalMonthlyPremiumAmount())
+                .bind("insuredAmount", policy.getInsuredAmount())
+                .bind("status", nameOf(policy.getStatus()))
+                .bind("createdAt", policy.getCreatedAt())
+                .bind("version", policy.getVersion());
+        insert = bindNullable(insert, "riskClassification", nameOf(policy.getRiskClassification()), String.class);
+        insert = bindNullable(insert, "finishedAt", policy.getFinishedAt(), LocalDateTime.class);
+
+        Mono<Long> row = insert.fetch().rowsUpdated();
+
+        Flux<Long> coverages = Flux.fromIterable(orEmpty(policy.getCoverages()).entrySet())
+                .concatMap(coverage -> client.sql("""
+                                insert into policy_coverages (policy_request_id, coverage_type, coverage_value)
+                                values (:policyId, :type, :value)
+                                """)
+                        .bind("policyId", policy.getId())
+                        .bind("type", coverage.getKey())
+                        .bind("value", coverage.getValue())
+                        .fetch()
+                        .rowsUpdated());
+
+        Flux<Long> assistances = Flux.fromIterable(orEmpty(policy.getAssistances()))
+                .concatMap(assistance -> client.sql("""
+                                insert into policy_assistances (policy_request_id, assistance) values (:policyId, :assistance)
+                                """)
+                        .bind("policyId", policy.getId())
+                        .bind("assistance", assistance)
+                        .fetch()
+                        .rowsUpdated());
+
+        return row.thenMany(coverages)
+                .thenMany(assistances)
+                .then(insertPendingHistory(policy))
+                .thenReturn(policy);
+    }
+
+    /**
+     * Grava status, classificação e data de finalização da apólice e os registros de histórico ainda sem id.
+     * Como o {@code @Version} do JPA, só grava sobre a versão lida e a incrementa; caso contrário falha com
+     * {@link OptimisticLockingFailureException}.
+     */
+    public Mono<PolicyRequestEntity> update(PolicyRequestEntity policy) {
+        long version = policy.getVersion();
+
+        GenericExecuteSpec update = client.sql("""
+                        update policy_requests
+                           set status = :status, risk_classification = :riskClassification, finished_at = :finishedAt,
+                               version = :nextVersion
+                         where id = :id and version = :version
+                        """)
+                .bind("status", nameOf(policy.getStatus()))
+                .bind("nextVersion", version + 1)
+                .bind("id", policy.getId())
+                .bind("version", version);
+        update = bindNullable(update, "riskClassification", nameOf(policy.getRiskClassification()), String.class);
+        update = bindNullable(update, "finishedAt", policy.getFinishedAt(), LocalDateTime.class);
+
+        return update.fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new OptimisticLockingFailureException(
+                                "Solicitação " + policy.getId() + " alterada por outra transação"))
+                        : Mono.fromRunnable(() -> policy.setVersion(version + 1)))
+                .then(insertPendingHistory(policy))
+                .thenReturn(policy);
+    }
+
+    private Mono<Void> insertPendingHistory(PolicyRequestEntity policy) {
+        return Flux.fromIterable(orEmpty(policy.getHistory()))
+                .filter(entry -> entry.getId() == null)
+                .concatMap(entry -> {
+                    entry.setId(UuidV7Generator.nextUuid());
+                    return client.sql("""
+                                    insert into status_history (id, status, timestamp, policy_request_id)
+                                    values (:id, :status, :timestamp, :policyId)
+                                    """)
+                            .bind("id", entry.getId())
+                            .bind("status", entry.getStatus().name())
+                            .bind("timestamp", entry.getTimestamp())
+                            .bind("policyId", policy.getId())
+                            .fetch()
+                            .rowsUpdated();
+                })
+                .then();
+    }
+
+    public Mono<PolicyRequestEntity> fetchCoverages(PolicyRequestEntity policy) {
+        return client.sql("select coverage_type, coverage_value from policy_coverages where policy_request_id = :id")
+                .bind("id", policy.getId())
+                .map(row -> Map.entry(row.get("coverage_type", String.class), row.get("coverage_value", BigDecimal.class)))
+                .all()
+                .collect(LinkedHashMap<String, BigDecimal>::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()))
+                .doOnNext(policy::setCoverages)
+                .thenReturn(policy);
+    }
+
+    public Mono<PolicyRequestEntity> fetchAssistances(PolicyRequestEntity policy) {
+        return client.sql("select assistance from policy_assistances where policy_request_id = :id")
+                .bind("id", policy.getId())
+                .map(row -> row.get("assistance", String.class))
+                .all()
+                .collect(ArrayList<String>::new, List::add)
+                .doOnNext(policy::setAssistances)
+                .thenReturn(policy);
+    }
+
+    public Mono<PolicyRequestEntity> fetchHistory(PolicyRequestEntity policy) {
+        return client.sql("select id, status, timestamp from status_history where policy_request_id = :id order by timestamp, id")
+                .bind("id", policy.getId())
+                .map(row -> StatusHistoryEntity.builder()
+                        .id(row.get("id", UUID.class))
+                        .status(RequestStatus.valueOf(row.get("status", String.class)))
+                        .timestamp(row.get("timestamp", LocalDateTime.class))
+                        .build())
+                .all()
+                .collect(ArrayList<StatusHistoryEntity>::new, List::add)
+                .doOnNext(policy::setHistory)
+                .thenReturn(policy);
+    }
+
+    // consultas em sequência: fora de transação cada uma tomaria uma conexão do pool ao mesmo tempo
+    private Mono<PolicyRequestEntity> fetchCollections(PolicyRequestEntity policy) {
+        return fetchCoverages(policy)
+                .flatMap(this::fetchAssistances)
+                .flatMap(this::fetchHistory);
+    }
+
+    private static PolicyRequestEntity toEntity(Readable row) {
+        String status = row.get("status", String.class);
+        String riskClassification = row.get("risk_classification", String.class);
+
+        return PolicyRequestEntity.builder()
+                .id(row.get("id", UUID.class))
+                .customerId(row.get("customer_id", UUID.class))
+                .productId(row.get("product_id", UUID.class))
+                .category(row.get("category", String.class))
+                .salesChannel(row.get("sales_channel", String.class))
+                .paymentMethod(row.get("payment_method", String.class))
+                .totalMonthlyPremiumAmount(row.get("total_monthly_premium_amount", BigDecimal.class))
+                .insuredAmount(row.get("insured_amount", BigDecimal.class))
+                .status(status != null ? RequestStatus.valueOf(status) : null)
+                .riskClassification(riskClassification != null ? RiskClassification.valueOf(riskClassification) : null)
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .finishedAt(row.get("finished_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    // bind(...) não aceita null; no bindNull o tipo vai junto para o driver codificar o parâmetro nulo
+    private static <T> GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name, T value, Class<T> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static <K, V> Map<K, V> orEmpty(Map<K, V> map) {
+        return map != null ? map : Map.of();
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+}
@@ -0,0 +1,22 @@
+package com.itau.insurance.infrastructure.persistence.repository;
+
+import com.itau.insurance.infrastructure.persistence.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+    // FOR UPDATE SKIP LOCKED: várias instâncias drenam o outbox em paralelo sem disputar as mesmas linhas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEventEntity e order by e.id")
+    List<OutboxEventEntity> findNextBatch(Limit limit);
+}
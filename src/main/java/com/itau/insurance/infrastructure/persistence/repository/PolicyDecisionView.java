@@ -0,0 +1,9 @@
+package com.itau.insurance.infrastructure.persistence.repository;
+
+import com.itau.insurance.domain.enums.RiskClassification;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record PolicyDecisionView(UUID id, String category, BigDecimal insuredAmount, RiskClassification riskClassification) {
+}
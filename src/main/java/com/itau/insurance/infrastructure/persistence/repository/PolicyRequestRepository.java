@@ -1,9 +1,15 @@
 package com.itau.insurance.infrastructure.persistence.repository;
 
+import com.itau.insurance.domain.enums.RequestStatus;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,5 +20,57 @@ public interface PolicyRequestRepository extends JpaRepository<PolicyRequestEnti
     @EntityGraph(attributePaths = "history")
     Optional<PolicyRequestEntity> findById(UUID id);
 
-    List<PolicyRequestEntity> findByCustomerId(UUID customerId);
+    // apenas a linha da apólice; as coleções pedidas são inicializadas pelas consultas fetch* abaixo
+    @Query("select p from PolicyRequestEntity p where p.id = :id")
+    Optional<PolicyRequestEntity> findWithoutCollectionsById(@Param("id") UUID id);
+
+    // consulta pela chave primária, sem hidratar a entidade: resolve o If-None-Match das leituras
+    @Query("select p.version from PolicyRequestEntity p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Query("select p from PolicyRequestEntity p where p.customerId = :customerId order by p.createdAt desc, p.id desc")
+    List<PolicyRequestEntity> findFirstPageByCustomerId(@Param("customerId") UUID customerId, Limit limit);
+
+    @Query("""
+            select p from PolicyRequestEntity p
+            where p.customerId = :customerId
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<PolicyRequestEntity> findPageByCustomerIdAfter(@Param("customerId") UUID customerId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") UUID id,
+                                                        Limit limit);
+
+    // Varredura por status em ordem de id: as páginas seguintes continuam do último id lido,
+    // de modo que apólices que mudam de status durante a varredura não deslocam as próximas páginas.
+
+    @Query("select p.id from PolicyRequestEntity p where p.status = :status order by p.id")
+    List<UUID> findFirstIdsByStatus(@Param("status") RequestStatus status, Limit limit);
+
+    @Query("select p.id from PolicyRequestEntity p where p.status = :status and p.id > :after order by p.id")
+    List<UUID> findIdsByStatusAfter(@Param("status") RequestStatus status, @Param("after") UUID after, Limit limit);
+
+    // Decisões já tomadas, em páginas por id, sem carregar entidades gerenciadas (simulação de regras).
+
+    @Query("""
+            select new com.itau.insurance.infrastructure.persistence.repository.PolicyDecisionView(
+                p.id, p.category, p.insuredAmount, p.riskClassification)
+            from PolicyRequestEntity p
+            where p.riskClassification is not null and p.id > :after
+            order by p.id
+            """)
+    List<PolicyDecisionView> findDecisionsAfter(@Param("after") UUID after, Limit limit);
+
+    // As consultas abaixo inicializam uma coleção por vez para um conjunto de apólices já carregadas,
+    // evitando tanto o N+1 quanto o produto cartesiano de buscar todas as coleções num único join.
+
+    @Query("select distinct p from PolicyRequestEntity p left join fetch p.history where p.id in :ids")
+    List<PolicyRequestEntity> fetchHistory(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct p from PolicyRequestEntity p left join fetch p.coverages where p.id in :ids")
+    List<PolicyRequestEntity> fetchCoverages(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct p from PolicyRequestEntity p left join fetch p.assistances where p.id in :ids")
+    List<PolicyRequestEntity> fetchAssistances(@Param("ids") Collection<UUID> ids);
 }
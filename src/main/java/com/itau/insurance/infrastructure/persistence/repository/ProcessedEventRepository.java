@@ -0,0 +1,25 @@
+package com.itau.insurance.infrastructure.persistence.repository;
+
+import com.itau.insurance.infrastructure.persistence.entity.ProcessedEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEventEntity, String> {
+
+    // insert direto: save() de entidade com id atribuído faria um select antes (merge)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into processed_events (event_id, processed_at) values (:eventId, :processedAt) on conflict do nothing",
+            nativeQuery = true)
+    void insertIgnoringDuplicate(@Param("eventId") String eventId, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ProcessedEventEntity e where e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,112 @@
+package com.itau.insurance.infrastructure.streaming;
+
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Distribui as transições de status já commitadas aos assinantes dos streams SSE, com um sink por apólice e um
+ * por cliente; tópicos sem assinantes não existem, e publicar para eles é só uma consulta ao mapa.
+ * <p>
+ * O sink entrega no ritmo da gravação; cada assinante tem um buffer próprio de {@code policy.stream.buffer-size}
+ * eventos, e quem o estoura (cliente lento ou conexão parada) é desligado sem atrasar os demais.
+ */
+@Slf4j
+@Component
+public class PolicyStatusBroadcaster {
+
+    private final Map<UUID, Topic> policyTopics = new ConcurrentHashMap<>();
+    private final Map<UUID, Topic> customerTopics = new ConcurrentHashMap<>();
+    private final int bufferSize;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter delivered;
+    private final Counter evicted;
+
+    public PolicyStatusBroadcaster(@Value("${policy.stream.buffer-size:256}") int bufferSize,
+                                   MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        meterRegistry.gauge("policy.stream.subscribers", subscribers);
+        this.delivered = Counter.builder("policy.stream.events")
+                .description("Transições de status entregues aos tópicos com assinantes")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("policy.stream.evicted")
+                .description("Assinantes desligados por estourar o buffer")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(PolicyStatusChangedEvent event) {
+        for (PolicyStatusEventDTO change : event.changes()) {
+            publish(policyTopics, change.getPolicyId(), change);
+            publish(customerTopics, change.getCustomerId(), change);
+        }
+    }
+
+    public Flux<PolicyStatusEventDTO> policyEvents(UUID policyId) {
+        return subscribe(policyTopics, policyId);
+    }
+
+    public Flux<PolicyStatusEventDTO> customerEvents(UUID customerId) {
+        return subscribe(customerTopics, customerId);
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    private void publish(Map<UUID, Topic> topics, UUID key, PolicyStatusEventDTO change) {
+        Topic topic = key != null ? topics.get(key) : null;
+        if (topic != null && topic.emit(change)) {
+            delivered.increment();
+        }
+    }
+
+    // o contador do tópico só muda dentro de compute/computeIfPresent, atômicos por chave: o último assinante
+    // a sair remove o tópico, e quem chega depois cria outro
+    private Flux<PolicyStatusEventDTO> subscribe(Map<UUID, Topic> topics, UUID key) {
+        return Flux.defer(() -> {
+            Topic topic = topics.compute(key, (k, current) -> {
+                Topic target = current != null ? current : new Topic();
+                target.subscribers++;
+                return target;
+            });
+            subscribers.incrementAndGet();
+
+            return topic.sink.asFlux()
+                    .onBackpressureBuffer(bufferSize, BufferOverflowStrategy.ERROR)
+                    .onErrorResume(Exceptions::isOverflow, e -> {
+                        evicted.increment();
+                        log.warn("Assinante do stream {} desligado: mais de {} eventos pendentes", key, bufferSize);
+                        return Flux.empty();
+                    })
+                    .doFinally(signal -> {
+                        subscribers.decrementAndGet();
+                        topics.computeIfPresent(key, (k, current) -> --current.subscribers == 0 ? null : current);
+                    });
+        });
+    }
+
+    private static final class Topic {
+
+        private final Sinks.Many<PolicyStatusEventDTO> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+
+        // commits concorrentes podem publicar no mesmo tópico; o sink exige emissões serializadas
+        synchronized boolean emit(PolicyStatusEventDTO change) {
+            return sink.tryEmitNext(change).isSuccess();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.itau.insurance.infrastructure.streaming;
+
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Evento de aplicação com as transições gravadas numa transação (uma por apólice, a partir da última entrada do
+ * histórico). É entregue ao {@link PolicyStatusBroadcaster} somente após o commit.
+ */
+public record PolicyStatusChangedEvent(List<PolicyStatusEventDTO> changes) {
+
+    public static PolicyStatusChangedEvent of(Collection<PolicyRequestEntity> policies) {
+        return new PolicyStatusChangedEvent(policies.stream()
+                .map(PolicyStatusChangedEvent::latestChange)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /**
+     * Transição mais recente do histórico, ou null sem histórico. O id da entrada (UUIDv7) identifica a transição
+     * e vira o id do evento SSE. A coleção lida do banco não tem ordem garantida, por isso a busca pelo timestamp.
+     */
+    public static PolicyStatusEventDTO latestChange(PolicyRequestEntity policy) {
+        List<StatusHistoryEntity> history = policy.getHistory();
+        if (history == null || history.isEmpty()) {
+            return null;
+        }
+
+        // em empate de timestamp vale a posição na lista, que na entidade recém-alterada é a ordem de inclusão
+        StatusHistoryEntity entry = history.get(0);
+        for (StatusHistoryEntity candidate : history) {
+            if (!candidate.getTimestamp().isBefore(entry.getTimestamp())) {
+                entry = candidate;
+            }
+        }
+
+        return PolicyStatusEventDTO.builder()
+                .eventId(entry.getId())
+                .policyId(policy.getId())
+                .customerId(policy.getCustomerId())
+                .status(entry.getStatus())
+                .timestamp(entry.getTimestamp())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.itau.insurance.interfaces.controller;
+
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.application.usecases.SimulateApprovalRulesUseCase;
+import com.itau.insurance.config.ApprovalRulesProperties;
+import com.itau.insurance.interfaces.dto.ApprovalSimulationReportDTO;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/approval-rules")
+@Tag(name = "Approval Rules", description = "Consulta e recarga dos limites de aprovação")
+@RequiredArgsConstructor
+public class ApprovalRulesController {
+
+    private final ApprovalRuleEngine approvalRuleEngine;
+    private final SimulateApprovalRulesUseCase simulateApprovalRulesUseCase;
+
+    @GetMapping
+    public ResponseEntity<ApprovalRulesProperties> getRules() {
+        return ResponseEntity.ok(approvalRuleEngine.currentRules());
+    }
+
+    @PutMapping
+    public ResponseEntity<ApprovalRulesProperties> replaceRules(@RequestBody ApprovalRulesProperties rules) {
+        approvalRuleEngine.reload(rules);
+        return ResponseEntity.ok(approvalRuleEngine.currentRules());
+    }
+
+    @PostMapping("/simulation")
+    public ResponseEntity<ApprovalSimulationReportDTO> simulate(@RequestBody ApprovalRulesProperties candidateRules) {
+        return ResponseEntity.ok(simulateApprovalRulesUseCase.execute(candidateRules));
+    }
+}
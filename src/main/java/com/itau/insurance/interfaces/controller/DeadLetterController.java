@@ -0,0 +1,38 @@
+package com.itau.insurance.interfaces.controller;
+
+import com.itau.insurance.application.usecases.ReplayDeadLettersUseCase;
+import com.itau.insurance.interfaces.dto.DeadLetterReplayReportDTO;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/admin/dead-letters")
+@Tag(name = "Dead Letters", description = "Reprocessamento das mensagens da DLQ")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "messaging.transport", havingValue = "rabbitmq", matchIfMissing = true)
+public class DeadLetterController {
+
+    private final ReplayDeadLettersUseCase replayDeadLettersUseCase;
+
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayReportDTO> replay(@RequestParam(required = false) UUID policyId,
+                                                            @RequestParam(required = false) String errorType,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(required = false) Double ratePerSecond,
+                                                            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/admin/dead-letters/replay"))
+                .body(replayDeadLettersUseCase.start(policyId, errorType, limit, ratePerSecond, dryRun));
+    }
+
+    @GetMapping("/replay")
+    public ResponseEntity<DeadLetterReplayReportDTO> replayProgress() {
+        return ResponseEntity.ok(replayDeadLettersUseCase.progress());
+    }
+}
@@ -1,27 +1,70 @@
 package com.itau.insurance.interfaces.controller;
 
 import com.itau.insurance.application.usecases.UpdatePolicyStatusUseCase;
+import com.itau.insurance.exceptions.InvalidStatusEventException;
+import com.itau.insurance.infrastructure.idempotency.ProcessedEventRegistry;
+import com.itau.insurance.infrastructure.messaging.InProcessCommandGateway;
 import com.itau.insurance.interfaces.dto.PolicyStatusEventRequestDTO;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+/**
+ * Comandos de status recebidos por HTTP. Com o transporte em memória ({@code messaging.transport=in-process}) o
+ * comando é enfileirado no {@link InProcessCommandGateway} e a resposta é {@code 202 Accepted}; no modo padrão é
+ * aplicado na própria requisição.
+ */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/events")
 @RequiredArgsConstructor
 public class EventController {
 
     private final UpdatePolicyStatusUseCase updatePolicyStatusUseCase;
+    private final ProcessedEventRegistry processedEvents;
+    private final ObjectProvider<InProcessCommandGateway> commandGateway;
 
     @PostMapping("/status")
-    public ResponseEntity<String> processStatusEvent(@RequestBody PolicyStatusEventRequestDTO request) {
+    public ResponseEntity<String> processStatusEvent(@RequestBody PolicyStatusEventRequestDTO request,
+                                                     @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        requireId(request);
+        String eventId = request.getEventId() != null ? request.getEventId().toString() : idempotencyKey;
+        if (processedEvents.isDuplicate(eventId, ProcessedEventRegistry.SOURCE_HTTP)) {
+            return ResponseEntity.ok("Evento já processado: " + eventId);
+        }
+
+        InProcessCommandGateway gateway = commandGateway.getIfAvailable();
+        if (gateway != null) {
+            gateway.send(toCommand(request), eventId);
+            return ResponseEntity.accepted().body("Evento aceito para processamento: " + request.getId());
+        }
+
         PolicyRequestEntity updated = updatePolicyStatusUseCase.execute(
                 request.getId(),
                 request.isPaymentConfirmed(),
                 request.isSubscriptionAuthorized()
         );
+        processedEvents.markProcessed(eventId);
 
         return ResponseEntity.ok("Status atualizado para: " + updated.getStatus());
     }
+
+    static void requireId(PolicyStatusEventRequestDTO request) {
+        if (request.getId() == null) {
+            throw new InvalidStatusEventException("O id da apólice é obrigatório");
+        }
+    }
+
+    static PolicyStatusUpdateRequestDTO toCommand(PolicyStatusEventRequestDTO request) {
+        PolicyStatusUpdateRequestDTO command = new PolicyStatusUpdateRequestDTO();
+        command.setEventId(request.getEventId());
+        command.setPolicyId(request.getId());
+        command.setPaymentConfirmed(request.isPaymentConfirmed());
+        command.setSubscriptionAuthorized(request.isSubscriptionAuthorized());
+        return command;
+    }
 }
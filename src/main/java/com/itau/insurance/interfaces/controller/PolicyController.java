@@ -1,20 +1,43 @@
 package com.itau.insurance.interfaces.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.insurance.application.usecases.CancelPolicyUseCase;
+import com.itau.insurance.application.usecases.CreatePolicyBatchUseCase;
 import com.itau.insurance.application.usecases.CreatePolicyUseCase;
 import com.itau.insurance.application.usecases.FindPolicyUseCase;
+import com.itau.insurance.application.usecases.ValidatePolicyAsyncUseCase;
 import com.itau.insurance.application.usecases.ValidatePolicyUseCase;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.interfaces.dto.PolicyBatchItemResultDTO;
+import com.itau.insurance.interfaces.dto.PolicyBatchResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyFields;
+import com.itau.insurance.interfaces.dto.PolicyPageResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
-import java.util.List;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/policies")
 @Tag(name = "Policy Requests", description = "Gerenciamento de solicitações de apólices")
 @RequiredArgsConstructor
@@ -23,7 +46,11 @@ public class PolicyController {
     private final CreatePolicyUseCase createPolicyUseCase;
     private final FindPolicyUseCase findPolicyUseCase;
     private final ValidatePolicyUseCase validatePolicyUseCase;
+    private final ValidatePolicyAsyncUseCase validatePolicyAsyncUseCase;
     private final CancelPolicyUseCase cancelPolicyUseCase;
+    private final CreatePolicyBatchUseCase createPolicyBatchUseCase;
+    private final PolicyEventStreams eventStreams;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<String> create(@RequestBody PolicyRequestEntity request) {
@@ -33,25 +60,160 @@ public class PolicyController {
                 .body("Solicitação criada com ID: " + id);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PolicyBatchResponseDTO> createBatch(@RequestBody List<PolicyRequestEntity> requests) {
+        return ResponseEntity.ok(createPolicyBatchUseCase.execute(requests));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PolicyBatchResponseDTO> createBatchNdjson(InputStream body) throws IOException {
+        Map<Integer, String> parseErrors = new HashMap<>();
+        List<PolicyRequestEntity> requests;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            requests = parseNdjson(reader, objectMapper, parseErrors);
+        }
+
+        return ResponseEntity.ok(withParseErrors(createPolicyBatchUseCase.execute(requests), parseErrors));
+    }
+
+    // Uma solicitação por linha; a linha inválida ocupa sua posição com null e o erro fica em parseErrors
+    static List<PolicyRequestEntity> parseNdjson(BufferedReader reader, ObjectMapper objectMapper,
+                                                 Map<Integer, String> parseErrors) throws IOException {
+        List<PolicyRequestEntity> requests = new ArrayList<>();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                requests.add(objectMapper.readValue(line, PolicyRequestEntity.class));
+            } catch (JsonProcessingException e) {
+                parseErrors.put(requests.size(), "JSON inválido: " + e.getOriginalMessage());
+                requests.add(null);
+            }
+        }
+
+        return requests;
+    }
+
+    static PolicyBatchResponseDTO withParseErrors(PolicyBatchResponseDTO response, Map<Integer, String> parseErrors) {
+        for (PolicyBatchItemResultDTO item : response.getItems()) {
+            if (parseErrors.containsKey(item.getIndex())) {
+                item.setError(parseErrors.get(item.getIndex()));
+            }
+        }
+
+        return response;
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<PolicyRequestEntity> getById(@PathVariable UUID id) {
-        PolicyRequestEntity policy = findPolicyUseCase.findById(id);
-        return ResponseEntity.ok(policy);
+    public ResponseEntity<PolicyResponseDTO> getById(@PathVariable UUID id,
+                                                     @RequestParam(required = false) String fields,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                     String ifNoneMatch) {
+        PolicyFields selection = PolicyFields.parse(fields);
+
+        // polling: se a versão não mudou, responde 304 após uma consulta pela chave, sem carregar a apólice
+        Long currentVersion = null;
+        if (ifNoneMatch != null) {
+            currentVersion = findPolicyUseCase.findVersion(id);
+            String current = etag(currentVersion, selection);
+            if (matches(ifNoneMatch, current)) {
+                return notModified(current);
+            }
+        }
+
+        // a leitura completa continua servida pelo cache, que não pode estar atrás da versão já lida;
+        // a projetada busca só o que foi pedido
+        PolicyResponseDTO policy;
+        if (!selection.isAll()) {
+            policy = findPolicyUseCase.findById(id, selection);
+        } else if (currentVersion != null) {
+            policy = PolicyResponseDTO.of(findPolicyUseCase.findById(id, currentVersion), selection);
+        } else {
+            policy = PolicyResponseDTO.of(findPolicyUseCase.findById(id), selection);
+        }
+
+        return withETag(policy, selection);
+    }
+
+    // ETag forte: a versão da apólice identifica o conteúdo, e cada seleção de campos é uma representação própria
+    static String etag(long version, PolicyFields fields) {
+        return "\"" + version + (fields.isAll() ? "" : "-" + fields.key()) + "\"";
+    }
+
+    // If-None-Match usa comparação fraca: W/"1" também corresponde a "1"
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    static ResponseEntity<PolicyResponseDTO> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    static ResponseEntity<PolicyResponseDTO> withETag(PolicyResponseDTO policy, PolicyFields fields) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (policy.getVersion() != null) {
+            response.eTag(etag(policy.getVersion(), fields));
+        }
+
+        return response.body(policy);
     }
 
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<PolicyRequestEntity>> getByCustomerId(@PathVariable UUID customerId) {
-        List<PolicyRequestEntity> policies = findPolicyUseCase.findByCustomerId(customerId);
+    public ResponseEntity<PolicyPageResponseDTO> getByCustomerId(@PathVariable UUID customerId,
+                                                                 @RequestParam(defaultValue = "50") int limit,
+                                                                 @RequestParam(required = false) String next,
+                                                                 @RequestParam(required = false) String fields) {
+        PolicyPageResponseDTO page = findPolicyUseCase.findByCustomerId(customerId, next, limit,
+                PolicyFields.parse(fields));
 
-        if (policies.isEmpty()) {
+        if (page.getItems().isEmpty()) {
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok(policies);
+        return ResponseEntity.ok(page);
+    }
+
+    // Streams SSE das transições de status, em substituição ao polling de GET /policies/{id}
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PolicyStatusEventDTO>> streamPolicyEvents(@PathVariable UUID id) {
+        findPolicyUseCase.findVersion(id); // 404 antes de abrir o stream
+
+        return eventStreams.policy(id, Mono.fromCallable(() -> findPolicyUseCase.findCurrentStatus(id)));
+    }
+
+    @GetMapping(value = "/customer/{customerId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PolicyStatusEventDTO>> streamCustomerEvents(@PathVariable UUID customerId) {
+        return eventStreams.customer(customerId);
     }
 
     @PostMapping("/{id}/validate")
-    public ResponseEntity<String> validatePolicy(@PathVariable UUID id) {
+    public ResponseEntity<String> validatePolicy(@PathVariable UUID id,
+                                                 @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            validatePolicyAsyncUseCase.submit(id);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/policies/" + id))
+                    .body("Validação da solicitação " + id + " aceita para processamento");
+        }
+
         PolicyRequestEntity updated = validatePolicyUseCase.execute(id);
 
         return ResponseEntity.ok("Solicitação " + id + " validada com status: " + updated.getStatus());
@@ -0,0 +1,83 @@
+package com.itau.insurance.interfaces.controller;
+
+import com.itau.insurance.infrastructure.streaming.PolicyStatusBroadcaster;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Monta os streams SSE de status usados pelos dois controllers de apólices (servlet e reativo): eventos
+ * {@code status} com o id da transição, e um comentário de heartbeat periódico para proxies não encerrarem a
+ * conexão ociosa e para detectar clientes que já se foram.
+ */
+@Component
+class PolicyEventStreams {
+
+    private static final String STATUS_EVENT = "status";
+
+    // marca o fim dos eventos; o merge com o heartbeat só termina ao encontrá-la
+    private static final ServerSentEvent<PolicyStatusEventDTO> END =
+            ServerSentEvent.<PolicyStatusEventDTO>builder().comment("end").build();
+
+    private final PolicyStatusBroadcaster broadcaster;
+    private final Duration heartbeat;
+
+    PolicyEventStreams(PolicyStatusBroadcaster broadcaster,
+                       @Value("${policy.stream.heartbeat:15s}") Duration heartbeat) {
+        this.broadcaster = broadcaster;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Estado atual seguido das próximas transições, terminando no status final. O tópico é assinado antes da
+     * leitura do estado atual, para que uma transição commitada entre as duas não se perca.
+     */
+    Flux<ServerSentEvent<PolicyStatusEventDTO>> policy(UUID policyId, Mono<PolicyStatusEventDTO> current) {
+        Flux<PolicyStatusEventDTO> events = Flux.defer(() -> {
+            ConnectableFlux<PolicyStatusEventDTO> live = broadcaster.policyEvents(policyId).publish();
+            Disposable connection = live.connect();
+
+            return current
+                    .flatMapMany(snapshot -> Flux.concat(Mono.just(snapshot), live.filter(change -> isAfter(change, snapshot))))
+                    .switchIfEmpty(live)
+                    .takeUntil(change -> change.getStatus().isFinal())
+                    .doFinally(signal -> connection.dispose());
+        });
+
+        return toServerSentEvents(events);
+    }
+
+    Flux<ServerSentEvent<PolicyStatusEventDTO>> customer(UUID customerId) {
+        return toServerSentEvents(broadcaster.customerEvents(customerId));
+    }
+
+    private Flux<ServerSentEvent<PolicyStatusEventDTO>> toServerSentEvents(Flux<PolicyStatusEventDTO> events) {
+        Flux<ServerSentEvent<PolicyStatusEventDTO>> heartbeats = Flux.interval(heartbeat, heartbeat)
+                .map(tick -> ServerSentEvent.<PolicyStatusEventDTO>builder().comment("heartbeat").build());
+
+        return Flux.merge(events.map(PolicyEventStreams::toServerSentEvent).concatWith(Mono.just(END)), heartbeats)
+                .takeWhile(event -> event != END);
+    }
+
+    private static ServerSentEvent<PolicyStatusEventDTO> toServerSentEvent(PolicyStatusEventDTO change) {
+        return ServerSentEvent.builder(change)
+                .id(change.getEventId() != null ? change.getEventId().toString() : null)
+                .event(STATUS_EVENT)
+                .build();
+    }
+
+    // a transição já refletida no estado atual pode chegar também pelo tópico
+    private static boolean isAfter(PolicyStatusEventDTO change, PolicyStatusEventDTO snapshot) {
+        return !Objects.equals(change.getEventId(), snapshot.getEventId())
+                && !change.getTimestamp().isBefore(snapshot.getTimestamp());
+    }
+}
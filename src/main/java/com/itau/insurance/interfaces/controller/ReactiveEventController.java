@@ -0,0 +1,55 @@
+package com.itau.insurance.interfaces.controller;
+
+import com.itau.insurance.application.usecases.ReactiveUpdatePolicyStatusUseCase;
+import com.itau.insurance.infrastructure.idempotency.ProcessedEventRegistry;
+import com.itau.insurance.infrastructure.messaging.InProcessCommandGateway;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventRequestDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Versão reativa do {@link EventController}. O registro de eventos processados pode consultar o banco
+ * (persistência opcional via JPA), por isso roda no boundedElastic; pelo mesmo motivo o enfileiramento no
+ * transporte em memória, que aguarda quando o buffer está cheio.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/events")
+@RequiredArgsConstructor
+public class ReactiveEventController {
+
+    private final ReactiveUpdatePolicyStatusUseCase updatePolicyStatusUseCase;
+    private final ProcessedEventRegistry processedEvents;
+    private final ObjectProvider<InProcessCommandGateway> commandGateway;
+
+    @PostMapping("/status")
+    public Mono<ResponseEntity<String>> processStatusEvent(@RequestBody PolicyStatusEventRequestDTO request,
+                                                           @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        EventController.requireId(request);
+        String eventId = request.getEventId() != null ? request.getEventId().toString() : idempotencyKey;
+
+        return Mono.fromCallable(() -> processedEvents.isDuplicate(eventId, ProcessedEventRegistry.SOURCE_HTTP))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(duplicate -> duplicate
+                        ? Mono.just(ResponseEntity.ok("Evento já processado: " + eventId))
+                        : apply(request, eventId));
+    }
+
+    private Mono<ResponseEntity<String>> apply(PolicyStatusEventRequestDTO request, String eventId) {
+        InProcessCommandGateway gateway = commandGateway.getIfAvailable();
+        if (gateway != null) {
+            return Mono.fromRunnable(() -> gateway.send(EventController.toCommand(request), eventId))
+                    .thenReturn(ResponseEntity.accepted().body("Evento aceito para processamento: " + request.getId()));
+        }
+
+        return updatePolicyStatusUseCase.execute(request.getId(), request.isPaymentConfirmed(), request.isSubscriptionAuthorized())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(updated -> processedEvents.markProcessed(eventId))
+                .map(updated -> ResponseEntity.ok("Status atualizado para: " + updated.getStatus()));
+    }
+}
@@ -0,0 +1,162 @@
+package com.itau.insurance.interfaces.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.application.usecases.CreatePolicyBatchUseCase;
+import com.itau.insurance.application.usecases.FindPolicyUseCase;
+import com.itau.insurance.application.usecases.ReactiveCancelPolicyUseCase;
+import com.itau.insurance.application.usecases.ReactiveCreatePolicyUseCase;
+import com.itau.insurance.application.usecases.ReactiveFindPolicyUseCase;
+import com.itau.insurance.application.usecases.ReactiveValidatePolicyUseCase;
+import com.itau.insurance.application.usecases.ValidatePolicyAsyncUseCase;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.interfaces.dto.PolicyBatchResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyFields;
+import com.itau.insurance.interfaces.dto.PolicyPageResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Versão reativa do {@link PolicyController} (profile reactive), servida pelo Netty com poucas threads fixas.
+ * Criação, consulta por id, validação e cancelamento usam R2DBC e o cliente não bloqueante da API de fraude;
+ * lote, listagem por cliente e o aceite da validação assíncrona reaproveitam os casos de uso JPA no boundedElastic.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/policies")
+@Tag(name = "Policy Requests", description = "Gerenciamento de solicitações de apólices")
+@RequiredArgsConstructor
+public class ReactivePolicyController {
+
+    private final ReactiveCreatePolicyUseCase createPolicyUseCase;
+    private final ReactiveFindPolicyUseCase findPolicyUseCase;
+    private final ReactiveValidatePolicyUseCase validatePolicyUseCase;
+    private final ReactiveCancelPolicyUseCase cancelPolicyUseCase;
+    private final ValidatePolicyAsyncUseCase validatePolicyAsyncUseCase;
+    private final CreatePolicyBatchUseCase createPolicyBatchUseCase;
+    private final FindPolicyUseCase blockingFindPolicyUseCase;
+    private final PolicyEventStreams eventStreams;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping
+    public Mono<ResponseEntity<String>> create(@RequestBody PolicyRequestEntity request) {
+        return createPolicyUseCase.execute(request)
+                .map(id -> ResponseEntity.created(URI.create("/policies/" + id))
+                        .body("Solicitação criada com ID: " + id));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PolicyBatchResponseDTO>> createBatch(@RequestBody List<PolicyRequestEntity> requests) {
+        return blocking(() -> ResponseEntity.ok(createPolicyBatchUseCase.execute(requests)));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<PolicyBatchResponseDTO>> createBatchNdjson(@RequestBody String body) {
+        return blocking(() -> {
+            Map<Integer, String> parseErrors = new HashMap<>();
+            List<PolicyRequestEntity> requests = PolicyController.parseNdjson(
+                    new BufferedReader(new StringReader(body)), objectMapper, parseErrors);
+
+            return ResponseEntity.ok(PolicyController.withParseErrors(createPolicyBatchUseCase.execute(requests), parseErrors));
+        });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<PolicyResponseDTO>> getById(@PathVariable UUID id,
+                                                           @RequestParam(required = false) String fields,
+                                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                           String ifNoneMatch) {
+        PolicyFields selection = PolicyFields.parse(fields);
+        if (ifNoneMatch == null) {
+            return findPolicyUseCase.findById(id, selection)
+                    .map(policy -> PolicyController.withETag(policy, selection));
+        }
+
+        return findPolicyUseCase.findVersion(id)
+                .flatMap(version -> {
+                    String current = PolicyController.etag(version, selection);
+                    return PolicyController.matches(ifNoneMatch, current)
+                            ? Mono.just(PolicyController.notModified(current))
+                            : findPolicyUseCase.findById(id, selection, version)
+                                    .map(policy -> PolicyController.withETag(policy, selection));
+                });
+    }
+
+    @GetMapping("/customer/{customerId}")
+    public Mono<ResponseEntity<PolicyPageResponseDTO>> getByCustomerId(@PathVariable UUID customerId,
+                                                                       @RequestParam(defaultValue = "50") int limit,
+                                                                       @RequestParam(required = false) String next,
+                                                                       @RequestParam(required = false) String fields) {
+        PolicyFields selection = PolicyFields.parse(fields);
+
+        return blocking(() -> {
+            PolicyPageResponseDTO page = blockingFindPolicyUseCase.findByCustomerId(customerId, next, limit, selection);
+
+            if (page.getItems().isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+
+            return ResponseEntity.ok(page);
+        });
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PolicyStatusEventDTO>> streamPolicyEvents(@PathVariable UUID id) {
+        return findPolicyUseCase.findVersion(id)
+                .thenMany(eventStreams.policy(id, findPolicyUseCase.findCurrentStatus(id)));
+    }
+
+    @GetMapping(value = "/customer/{customerId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PolicyStatusEventDTO>> streamCustomerEvents(@PathVariable UUID customerId) {
+        return eventStreams.customer(customerId);
+    }
+
+    @PostMapping("/{id}/validate")
+    public Mono<ResponseEntity<String>> validatePolicy(@PathVariable UUID id,
+                                                       @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            return blocking(() -> {
+                validatePolicyAsyncUseCase.submit(id);
+                return ResponseEntity.accepted()
+                        .location(URI.create("/policies/" + id))
+                        .body("Validação da solicitação " + id + " aceita para processamento");
+            });
+        }
+
+        return validatePolicyUseCase.execute(id)
+                .map(updated -> ResponseEntity.ok("Solicitação " + id + " validada com status: " + updated.getStatus()));
+    }
+
+    @PostMapping("/{id}/cancel")
+    public Mono<ResponseEntity<String>> cancelPolicy(@PathVariable UUID id) {
+        return cancelPolicyUseCase.execute(id)
+                .map(updated -> ResponseEntity.ok("Solicitação " + id + " cancelada com sucesso."))
+                .onErrorResume(IllegalStateException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().body("Cancelamento não permitido: " + e.getMessage())))
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    // casos de uso JPA: fora do event loop
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
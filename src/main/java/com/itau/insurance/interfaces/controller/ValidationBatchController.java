@@ -0,0 +1,31 @@
+package com.itau.insurance.interfaces.controller;
+
+import com.itau.insurance.application.usecases.ValidatePolicyBatchUseCase;
+import com.itau.insurance.interfaces.dto.ValidationBatchProgressDTO;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/policies/validation-batch")
+@Tag(name = "Policy Requests", description = "Gerenciamento de solicitações de apólices")
+@RequiredArgsConstructor
+public class ValidationBatchController {
+
+    private final ValidatePolicyBatchUseCase validatePolicyBatchUseCase;
+
+    @PostMapping
+    public ResponseEntity<ValidationBatchProgressDTO> start() {
+        return ResponseEntity.accepted()
+                .location(URI.create("/policies/validation-batch"))
+                .body(validatePolicyBatchUseCase.start());
+    }
+
+    @GetMapping
+    public ResponseEntity<ValidationBatchProgressDTO> progress() {
+        return ResponseEntity.ok(validatePolicyBatchUseCase.progress());
+    }
+}
@@ -0,0 +1,21 @@
+package com.itau.insurance.interfaces.dto;
+
+import com.itau.insurance.domain.enums.RiskClassification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalSimulationGroupDTO {
+    private String category;
+    private RiskClassification riskClassification;
+    private long evaluated;
+    private long approvedByCurrent;
+    private long approvedByCandidate;
+    private long flippedToApproved;
+    private long flippedToRejected;
+}
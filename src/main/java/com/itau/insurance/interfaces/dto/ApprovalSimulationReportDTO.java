@@ -0,0 +1,20 @@
+package com.itau.insurance.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalSimulationReportDTO {
+    private long evaluated;
+    private long flippedToApproved;
+    private long flippedToRejected;
+    private long elapsedMillis;
+    private List<ApprovalSimulationGroupDTO> groups;
+}
@@ -0,0 +1,19 @@
+package com.itau.insurance.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterDTO {
+    private String messageId;
+    private UUID policyId;
+    private String exceptionType;
+    private String exceptionMessage;
+}
@@ -0,0 +1,28 @@
+package com.itau.insurance.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterReplayReportDTO {
+    private boolean running;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private boolean dryRun;
+    private long inspected;
+    private long matched;
+    private long replayed;
+    /** Selecionadas mas não reenviadas porque o replay foi interrompido; continuam na DLQ. */
+    private long skipped;
+    /** Mensagens da DLQ que ficaram fora da varredura desta execução. */
+    private long remaining;
+    private List<DeadLetterDTO> messages;
+}
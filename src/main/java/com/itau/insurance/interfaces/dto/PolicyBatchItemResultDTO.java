@@ -0,0 +1,26 @@
+package com.itau.insurance.interfaces.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyBatchItemResultDTO {
+    private int index;
+    private UUID id;
+    private String error;
+
+    public static PolicyBatchItemResultDTO created(int index, UUID id) {
+        return new PolicyBatchItemResultDTO(index, id, null);
+    }
+
+    public static PolicyBatchItemResultDTO failed(int index, String error) {
+        return new PolicyBatchItemResultDTO(index, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.itau.insurance.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyBatchResponseDTO {
+    private int total;
+    private int created;
+    private int failed;
+    private List<PolicyBatchItemResultDTO> items;
+}
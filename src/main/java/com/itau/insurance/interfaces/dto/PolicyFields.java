@@ -0,0 +1,64 @@
+package com.itau.insurance.interfaces.dto;
+
+import com.itau.insurance.exceptions.InvalidFieldSelectionException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos pedidos em {@code ?fields=} (ex.: {@code id,status,insuredAmount} ou {@code history}); sem o parâmetro,
+ * todos. Coleções fora da seleção não são carregadas do banco nem serializadas.
+ */
+public record PolicyFields(Set<String> names) {
+
+    public static final String COVERAGES = "coverages";
+    public static final String ASSISTANCES = "assistances";
+    public static final String HISTORY = "history";
+
+    // mesma ordem dos campos de PolicyResponseDTO
+    static final List<String> AVAILABLE = List.of(
+            "id", "customerId", "productId", "category", "salesChannel", "paymentMethod",
+            "totalMonthlyPremiumAmount", "insuredAmount", COVERAGES, ASSISTANCES, "status",
+            "riskClassification", "createdAt", "finishedAt", HISTORY);
+
+    private static final PolicyFields ALL = new PolicyFields(Set.copyOf(AVAILABLE));
+
+    public static PolicyFields all() {
+        return ALL;
+    }
+
+    public static PolicyFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<String> unknown = names.stream().filter(name -> !AVAILABLE.contains(name)).toList();
+        if (!unknown.isEmpty()) {
+            throw new InvalidFieldSelectionException("Campos inválidos: " + String.join(", ", unknown)
+                    + ". Disponíveis: " + String.join(", ", AVAILABLE));
+        }
+
+        return names.isEmpty() ? ALL : new PolicyFields(Set.copyOf(names));
+    }
+
+    public boolean includes(String field) {
+        return names.contains(field);
+    }
+
+    public boolean isAll() {
+        return names.size() == AVAILABLE.size();
+    }
+
+    // identifica a seleção independente da ordem em que os campos foram pedidos
+    public String key() {
+        return Integer.toHexString(String.join(",", names.stream().sorted().toList()).hashCode());
+    }
+}
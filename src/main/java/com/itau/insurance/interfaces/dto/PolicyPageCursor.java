@@ -0,0 +1,39 @@
+package com.itau.insurance.interfaces.dto;
+
+import com.itau.insurance.exceptions.InvalidPageTokenException;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de paginação por chave (created_at, id), serializada como token opaco para o cliente.
+ */
+public record PolicyPageCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static PolicyPageCursor of(PolicyRequestEntity policy) {
+        return new PolicyPageCursor(policy.getCreatedAt(), policy.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PolicyPageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+
+            return new PolicyPageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidPageTokenException("Token de paginação inválido: " + token, e);
+        }
+    }
+}
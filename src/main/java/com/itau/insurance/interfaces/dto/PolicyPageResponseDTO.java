@@ -0,0 +1,17 @@
+package com.itau.insurance.interfaces.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyPageResponseDTO {
+    private List<PolicyResponseDTO> items;
+    private String next;
+}
@@ -0,0 +1,85 @@
+package com.itau.insurance.interfaces.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Resposta de leitura de apólice. Campos fora da seleção ficam nulos e não são serializados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyResponseDTO {
+    private UUID id;
+    private UUID customerId;
+    private UUID productId;
+    private String category;
+    private String salesChannel;
+    private String paymentMethod;
+    private BigDecimal totalMonthlyPremiumAmount;
+    private BigDecimal insuredAmount;
+    private Map<String, BigDecimal> coverages;
+    private List<String> assistances;
+    private RequestStatus status;
+    private RiskClassification riskClassification;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private List<StatusHistoryDTO> history;
+
+    // sempre preenchida, independente da seleção; vai no cabeçalho ETag, não no corpo
+    @JsonIgnore
+    private Long version;
+
+    // só os campos selecionados são lidos da entidade, de modo que coleções não pedidas nunca são inicializadas
+    public static PolicyResponseDTO of(PolicyRequestEntity policy, PolicyFields fields) {
+        return PolicyResponseDTO.builder()
+                .id(pick(fields, "id", policy::getId))
+                .customerId(pick(fields, "customerId", policy::getCustomerId))
+                .productId(pick(fields, "productId", policy::getProductId))
+                .category(pick(fields, "category", policy::getCategory))
+                .salesChannel(pick(fields, "salesChannel", policy::getSalesChannel))
+                .paymentMethod(pick(fields, "paymentMethod", policy::getPaymentMethod))
+                .totalMonthlyPremiumAmount(pick(fields, "totalMonthlyPremiumAmount", policy::getTotalMonthlyPremiumAmount))
+                .insuredAmount(pick(fields, "insuredAmount", policy::getInsuredAmount))
+                .coverages(pick(fields, PolicyFields.COVERAGES, () -> copyOf(policy.getCoverages())))
+                .assistances(pick(fields, PolicyFields.ASSISTANCES, () -> copyOf(policy.getAssistances())))
+                .status(pick(fields, "status", policy::getStatus))
+                .riskClassification(pick(fields, "riskClassification", policy::getRiskClassification))
+                .createdAt(pick(fields, "createdAt", policy::getCreatedAt))
+                .finishedAt(pick(fields, "finishedAt", policy::getFinishedAt))
+                .history(pick(fields, PolicyFields.HISTORY,
+                        () -> copyOf(policy.getHistory()).stream().map(StatusHistoryDTO::of).toList()))
+                .version(policy.getVersion())
+                .build();
+    }
+
+    private static <K, V> Map<K, V> copyOf(Map<K, V> map) {
+        return map != null ? new LinkedHashMap<>(map) : new LinkedHashMap<>();
+    }
+
+    private static <T> List<T> copyOf(List<T> list) {
+        return list != null ? new ArrayList<>(list) : new ArrayList<>();
+    }
+
+    private static <T> T pick(PolicyFields fields, String field, Supplier<T> value) {
+        return fields.includes(field) ? value.get() : null;
+    }
+}
@@ -1,15 +1,23 @@
 package com.itau.insurance.interfaces.dto;
 
 import com.itau.insurance.domain.enums.RequestStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Evento de domínio publicado a cada transição de status de uma solicitação.
+ */
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
 public class PolicyStatusEventDTO {
+    private UUID eventId;
     private UUID policyId;
     private UUID customerId;
     private RequestStatus status;
@@ -6,6 +6,8 @@ import java.util.UUID;
 
 @Data
 public class PolicyStatusEventRequestDTO {
+    /** Opcional; na ausência, o header Idempotency-Key identifica o evento. */
+    private UUID eventId;
     private UUID id;
     private boolean paymentConfirmed;
     private boolean subscriptionAuthorized;
@@ -4,8 +4,13 @@ import lombok.Data;
 
 import java.util.UUID;
 
+/**
+ * Comando recebido de sistemas externos com o resultado de pagamento e subscrição de uma solicitação.
+ */
 @Data
 public class PolicyStatusUpdateRequestDTO {
+    /** Identificador único atribuído pelo produtor; reenvios do mesmo comando repetem o id. */
+    private UUID eventId;
     private UUID policyId;
     private boolean paymentConfirmed;
     private boolean subscriptionAuthorized;
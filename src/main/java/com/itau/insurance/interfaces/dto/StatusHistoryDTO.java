@@ -0,0 +1,21 @@
+package com.itau.insurance.interfaces.dto;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusHistoryDTO {
+    private RequestStatus status;
+    private LocalDateTime timestamp;
+
+    public static StatusHistoryDTO of(StatusHistoryEntity entry) {
+        return new StatusHistoryDTO(entry.getStatus(), entry.getTimestamp());
+    }
+}
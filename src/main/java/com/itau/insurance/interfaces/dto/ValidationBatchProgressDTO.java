@@ -0,0 +1,24 @@
+package com.itau.insurance.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ValidationBatchProgressDTO {
+    private boolean running;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long scanned;
+    private long validated;
+    private long rejected;
+    private long skipped;
+    private long failed;
+    private double throughputPerSecond;
+}
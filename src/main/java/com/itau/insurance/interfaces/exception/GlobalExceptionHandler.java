@@ -25,6 +25,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error(ex.getMessage(), 400));
     }
 
+    @ExceptionHandler(InvalidPageTokenException.class)
+    public ResponseEntity<?> handleInvalidPageToken(InvalidPageTokenException ex) {
+        log.warn("Invalid page token: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error(ex.getMessage(), 400));
+    }
+
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<?> handleInvalidFieldSelection(InvalidFieldSelectionException ex) {
+        log.warn("Invalid field selection: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error(ex.getMessage(), 400));
+    }
+
+    @ExceptionHandler(InvalidStatusEventException.class)
+    public ResponseEntity<?> handleInvalidStatusEvent(InvalidStatusEventException ex) {
+        log.warn("Invalid status event: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error(ex.getMessage(), 400));
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<?> handleBusinessException(BusinessException ex) {
         log.warn("Business error: {}", ex.getMessage());
@@ -0,0 +1,69 @@
+package com.itau.insurance.application.rules;
+
+import com.itau.insurance.config.ApprovalRulesProperties;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.InvalidApprovalRulesException;
+import com.itau.insurance.exceptions.InvalidRiskClassificationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApprovalRuleEngineTest {
+
+    private ApprovalRuleEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ApprovalRuleEngine(new ApprovalRulesProperties());
+    }
+
+    @Test
+    void deveIgnorarMaiusculasEMinusculasNaCategoria() {
+        assertTrue(engine.shouldApprove(RiskClassification.REGULAR, "auto", BigDecimal.valueOf(350_000)));
+        assertFalse(engine.shouldApprove(RiskClassification.REGULAR, "Auto", BigDecimal.valueOf(350_001)));
+    }
+
+    @Test
+    void deveUsarLimitePadraoParaCategoriaSemRegraPropria() {
+        assertTrue(engine.shouldApprove(RiskClassification.HIGH_RISK, "EMPRESARIAL", BigDecimal.valueOf(125_000)));
+        assertFalse(engine.shouldApprove(RiskClassification.HIGH_RISK, "EMPRESARIAL", BigDecimal.valueOf(125_001)));
+        assertFalse(engine.shouldApprove(RiskClassification.HIGH_RISK, null, BigDecimal.valueOf(125_001)));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoClassificacaoForNula() {
+        assertThrows(InvalidRiskClassificationException.class,
+                () -> engine.shouldApprove(null, "VIDA", BigDecimal.ONE));
+    }
+
+    @Test
+    void deveAplicarNovosLimitesAposRecarga() {
+        ApprovalRulesProperties rules = engine.currentRules();
+        rules.getClassifications().get(RiskClassification.REGULAR).getCategories().put("AUTO", BigDecimal.valueOf(100_000));
+
+        engine.reload(rules);
+
+        assertFalse(engine.shouldApprove(RiskClassification.REGULAR, "AUTO", BigDecimal.valueOf(150_000)));
+        assertEquals(BigDecimal.valueOf(100_000),
+                engine.currentRules().getClassifications().get(RiskClassification.REGULAR).getCategories().get("AUTO"));
+    }
+
+    @Test
+    void deveManterRegrasAnterioresQuandoRecargaForInvalida() {
+        ApprovalRulesProperties rules = engine.currentRules();
+        rules.getClassifications().remove(RiskClassification.NO_INFORMATION);
+
+        assertThrows(InvalidApprovalRulesException.class, () -> engine.reload(rules));
+        assertTrue(engine.shouldApprove(RiskClassification.NO_INFORMATION, "AUTO", BigDecimal.valueOf(75_000)));
+    }
+
+    @Test
+    void naoDeveSerAfetadoPorAlteracoesNaCopiaRetornada() {
+        engine.currentRules().getClassifications().get(RiskClassification.REGULAR).setDefaultLimit(BigDecimal.ZERO);
+
+        assertTrue(engine.shouldApprove(RiskClassification.REGULAR, "EMPRESARIAL", BigDecimal.valueOf(255_000)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.messaging.EventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.PolicyBatchResponseDTO;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// sem a transação do teste: cada lote precisa commitar ou sofrer rollback de verdade
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CreatePolicyBatchUseCaseJpaTest {
+
+    @Autowired
+    private PolicyRequestRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventPublisher eventPublisher;
+    private CreatePolicyBatchUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(EventPublisher.class);
+        useCase = new CreatePolicyBatchUseCase(repository, eventPublisher, entityManager,
+                new TransactionTemplate(transactionManager), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void deveInserirItensValidosQuandoOLoteSofrerRollback() {
+        PolicyRequestEntity first = validPolicy();
+        PolicyRequestEntity broken = validPolicy();
+        broken.setCategory("X".repeat(300)); // excede a coluna: só o banco recusa
+        PolicyRequestEntity last = validPolicy();
+
+        PolicyBatchResponseDTO result = useCase.execute(List.of(first, broken, last));
+
+        assertEquals(2, result.getCreated());
+        assertNotNull(result.getItems().get(1).getError());
+        // o fallback insere as mesmas instâncias (persist), e não cópias obtidas por merge
+        assertEquals(result.getItems().get(0).getId(), first.getId());
+        assertEquals(result.getItems().get(2).getId(), last.getId());
+        assertEquals(0L, first.getVersion());
+
+        assertEquals(2, repository.count());
+        PolicyRequestEntity stored = repository.fetchHistory(List.of(first.getId())).get(0);
+        assertEquals(RequestStatus.RECEIVED, stored.getStatus());
+        assertEquals(1, stored.getHistory().size());
+        verify(eventPublisher).publishPolicyEvents(anyList());
+        verify(eventPublisher).publishPolicyEvent(first);
+        verify(eventPublisher).publishPolicyEvent(last);
+    }
+
+    private PolicyRequestEntity validPolicy() {
+        return PolicyRequestEntity.builder()
+                .customerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .category("VIDA")
+                .salesChannel("APP")
+                .paymentMethod("PIX")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .totalMonthlyPremiumAmount(BigDecimal.valueOf(80))
+                .coverages(new HashMap<>(Map.of("Morte", BigDecimal.valueOf(100_000))))
+                .assistances(new ArrayList<>(List.of("Funeral")))
+                .history(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.messaging.EventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.PolicyBatchResponseDTO;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CreatePolicyBatchUseCaseTest {
+
+    private PolicyRequestRepository repository;
+    private EventPublisher eventPublisher;
+    private EntityManager entityManager;
+    private CreatePolicyBatchUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PolicyRequestRepository.class);
+        eventPublisher = mock(EventPublisher.class);
+        entityManager = mock(EntityManager.class);
+        useCase = new CreatePolicyBatchUseCase(repository, eventPublisher, entityManager,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 2);
+
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PolicyRequestEntity> chunk = invocation.getArgument(0);
+            chunk.forEach(p -> p.setId(UUID.randomUUID()));
+            return new ArrayList<>(chunk);
+        });
+    }
+
+    @Test
+    void devePersistirEmLotesEPublicarEventosPorLote() {
+        List<PolicyRequestEntity> requests = List.of(validPolicy(), validPolicy(), validPolicy());
+
+        PolicyBatchResponseDTO result = useCase.execute(requests);
+
+        assertEquals(3, result.getTotal());
+        assertEquals(3, result.getCreated());
+        assertEquals(0, result.getFailed());
+        requests.forEach(p -> {
+            assertEquals(RequestStatus.RECEIVED, p.getStatus());
+            assertEquals(1, p.getHistory().size());
+        });
+        verify(repository, times(2)).saveAll(anyList());
+        verify(eventPublisher, times(2)).publishPolicyEvents(anyList());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void deveRetornarErroPorItemSemInterromperOLote() {
+        PolicyRequestEntity invalid = PolicyRequestEntity.builder().category("VIDA").history(new ArrayList<>()).build();
+        List<PolicyRequestEntity> requests = Arrays.asList(validPolicy(), invalid, null);
+
+        PolicyBatchResponseDTO result = useCase.execute(requests);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertNotNull(result.getItems().get(0).getId());
+        assertEquals("Campos obrigatórios ausentes na solicitação de apólice", result.getItems().get(1).getError());
+        assertEquals("A solicitação de apólice está nula", result.getItems().get(2).getError());
+    }
+
+    @Test
+    void deveIsolarItemComFalhaQuandoOLoteFalhar() {
+        PolicyRequestEntity ok = validPolicy();
+        PolicyRequestEntity broken = validPolicy();
+
+        when(repository.saveAll(anyList())).thenThrow(new RuntimeException("constraint violation"));
+        when(repository.save(ok)).thenAnswer(invocation -> {
+            ok.setId(UUID.randomUUID());
+            return ok;
+        });
+        when(repository.save(broken)).thenThrow(new RuntimeException("constraint violation"));
+
+        PolicyBatchResponseDTO result = useCase.execute(List.of(ok, broken));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(ok.getId(), result.getItems().get(0).getId());
+        assertTrue(result.getItems().get(1).getError().contains("constraint violation"));
+        verify(eventPublisher).publishPolicyEvent(ok);
+        verify(eventPublisher, never()).publishPolicyEvents(anyList());
+    }
+
+    private PolicyRequestEntity validPolicy() {
+        return PolicyRequestEntity.builder()
+                .customerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .category("VIDA")
+                .salesChannel("APP")
+                .paymentMethod("PIX")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .totalMonthlyPremiumAmount(BigDecimal.valueOf(80))
+                .history(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.messaging.EventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class FindPolicyUseCaseCacheTest {
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.POLICIES_CACHE);
+        }
+
+        @Bean
+        PolicyRequestRepository repository() {
+            return mock(PolicyRequestRepository.class);
+        }
+
+        @Bean
+        EventPublisher eventPublisher() {
+            return mock(EventPublisher.class);
+        }
+
+        @Bean
+        FindPolicyUseCase findPolicyUseCase(PolicyRequestRepository repository, CacheManager cacheManager) {
+            return new FindPolicyUseCase(repository, cacheManager, 200);
+        }
+
+        @Bean
+        CancelPolicyUseCase cancelPolicyUseCase(PolicyRequestRepository repository, EventPublisher eventPublisher) {
+            return new CancelPolicyUseCase(repository, eventPublisher);
+        }
+    }
+
+    @Autowired
+    private FindPolicyUseCase findPolicyUseCase;
+
+    @Autowired
+    private CancelPolicyUseCase cancelPolicyUseCase;
+
+    @Autowired
+    private PolicyRequestRepository repository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        reset(repository);
+        cacheManager.getCache(CacheConfig.POLICIES_CACHE).clear();
+    }
+
+    @Test
+    void deveServirLeiturasRepetidasDoCache() {
+        UUID id = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder().id(id).status(RequestStatus.RECEIVED).build();
+        when(repository.findById(id)).thenReturn(Optional.of(policy));
+
+        PolicyRequestEntity first = findPolicyUseCase.findById(id);
+        PolicyRequestEntity second = findPolicyUseCase.findById(id);
+
+        assertSame(first, second);
+        verify(repository, times(1)).findById(id);
+    }
+
+    @Test
+    void deveInvalidarCacheQuandoApoliceForAlterada() {
+        UUID id = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder()
+                .id(id)
+                .status(RequestStatus.RECEIVED)
+                .history(new ArrayList<>())
+                .build();
+        when(repository.findById(id)).thenReturn(Optional.of(policy));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        findPolicyUseCase.findById(id);
+        cancelPolicyUseCase.execute(id);
+        findPolicyUseCase.findById(id);
+
+        // leitura inicial + leitura do cancelamento + nova leitura após invalidação
+        verify(repository, times(3)).findById(id);
+    }
+
+    @Test
+    void deveRecarregarEntradaDoCacheAnteriorAVersaoLidaDoBanco() {
+        UUID id = UUID.randomUUID();
+        PolicyRequestEntity stale = PolicyRequestEntity.builder().id(id).status(RequestStatus.RECEIVED).version(0L).build();
+        PolicyRequestEntity current = PolicyRequestEntity.builder().id(id).status(RequestStatus.CANCELLED).version(1L).build();
+        // carga concorrente que repôs a entidade antiga no cache depois do evict do cancelamento
+        cacheManager.getCache(CacheConfig.POLICIES_CACHE).put(id, stale);
+        when(repository.findById(id)).thenReturn(Optional.of(current));
+
+        PolicyRequestEntity served = findPolicyUseCase.findById(id, 1L);
+
+        assertSame(current, served);
+        assertSame(current, findPolicyUseCase.findById(id));
+        assertSame(current, findPolicyUseCase.findById(id, 1L));
+        verify(repository, times(1)).findById(id);
+    }
+}
@@ -0,0 +1,163 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.PolicyFields;
+import com.itau.insurance.interfaces.dto.PolicyPageResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FindPolicyUseCaseJpaTest {
+
+    @Autowired
+    private PolicyRequestRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private FindPolicyUseCase useCase;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new FindPolicyUseCase(repository, new ConcurrentMapCacheManager(CacheConfig.POLICIES_CACHE), 200);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deveManterQuantidadeDeConsultasConstanteIndependenteDoNumeroDeApolices() {
+        long fewPolicies = countStatementsForCustomerWith(2);
+        long manyPolicies = countStatementsForCustomerWith(60);
+
+        assertEquals(fewPolicies, manyPolicies);
+        assertEquals(4, manyPolicies);
+    }
+
+    @Test
+    void devePercorrerTodasAsPaginasSemRepetirOuPerderApolices() {
+        UUID customerId = UUID.randomUUID();
+        LocalDateTime sameInstant = LocalDateTime.now().withNano(0);
+        Set<UUID> expected = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            // metade das apólices com o mesmo created_at para exercitar o desempate por id
+            PolicyRequestEntity policy = policy(customerId);
+            policy.setCreatedAt(i % 2 == 0 ? sameInstant : sameInstant.minusSeconds(i));
+            expected.add(repository.save(policy).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> visited = new ArrayList<>();
+        String next = null;
+        int pages = 0;
+        do {
+            PolicyPageResponseDTO page = useCase.findByCustomerId(customerId, next, 3, PolicyFields.all());
+            page.getItems().forEach(p -> visited.add(p.getId()));
+            next = page.getNext();
+            pages++;
+        } while (next != null);
+
+        assertEquals(3, pages);
+        assertEquals(7, visited.size());
+        assertEquals(expected, new HashSet<>(visited));
+    }
+
+    @Test
+    void deveBuscarApenasALinhaDaApoliceQuandoNenhumaColecaoForSelecionada() {
+        UUID customerId = UUID.randomUUID();
+        UUID id = repository.save(policy(customerId)).getId();
+        for (int i = 0; i < 4; i++) {
+            repository.save(policy(customerId));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        PolicyResponseDTO single = useCase.findById(id, PolicyFields.parse("id,status,insuredAmount"));
+        List<PolicyResponseDTO> page = useCase.findByCustomerId(customerId, null, 10, PolicyFields.parse("id,status"))
+                .getItems();
+
+        assertEquals(RequestStatus.RECEIVED, single.getStatus());
+        assertNull(single.getHistory());
+        assertEquals(5, page.size());
+        page.forEach(p -> assertNull(p.getCoverages()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount() + statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    void deveIncrementarVersaoAoAlterarApoliceEConsultarApenasAVersao() {
+        PolicyRequestEntity policy = repository.saveAndFlush(policy(UUID.randomUUID()));
+        assertEquals(0L, policy.getVersion());
+
+        policy.getHistory().add(StatusHistoryEntity.builder().status(RequestStatus.VALIDATED).timestamp(LocalDateTime.now()).build());
+        policy.setStatus(RequestStatus.VALIDATED);
+        repository.saveAndFlush(policy);
+        entityManager.clear();
+        statistics.clear();
+
+        assertEquals(1L, useCase.findVersion(policy.getId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private long countStatementsForCustomerWith(int policies) {
+        UUID customerId = UUID.randomUUID();
+        for (int i = 0; i < policies; i++) {
+            repository.save(policy(customerId));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<PolicyResponseDTO> result = useCase.findByCustomerId(customerId, null, 100, PolicyFields.all()).getItems();
+
+        result.forEach(p -> {
+            assertEquals(2, p.getCoverages().size());
+            assertEquals(1, p.getAssistances().size());
+            assertEquals(1, p.getHistory().size());
+        });
+
+        assertEquals(policies, result.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private PolicyRequestEntity policy(UUID customerId) {
+        LocalDateTime now = LocalDateTime.now();
+        return PolicyRequestEntity.builder()
+                .customerId(customerId)
+                .productId(UUID.randomUUID())
+                .category("VIDA")
+                .salesChannel("APP")
+                .paymentMethod("PIX")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .totalMonthlyPremiumAmount(BigDecimal.valueOf(80))
+                .coverages(new HashMap<>(Map.of("Morte", BigDecimal.valueOf(100_000), "Invalidez", BigDecimal.valueOf(50_000))))
+                .assistances(new ArrayList<>(List.of("Funeral")))
+                .status(RequestStatus.RECEIVED)
+                .createdAt(now)
+                .history(new ArrayList<>(List.of(StatusHistoryEntity.builder().status(RequestStatus.RECEIVED).timestamp(now).build())))
+                .build();
+    }
+}
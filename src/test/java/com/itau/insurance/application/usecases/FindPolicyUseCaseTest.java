@@ -1,11 +1,20 @@
 package com.itau.insurance.application.usecases;
 
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.exceptions.InvalidPageTokenException;
 import com.itau.insurance.exceptions.PolicyNotFoundException;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.PolicyFields;
+import com.itau.insurance.interfaces.dto.PolicyPageCursor;
+import com.itau.insurance.interfaces.dto.PolicyPageResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,7 +28,7 @@ class FindPolicyUseCaseTest {
     @BeforeEach
     void setUp() {
         repository = mock(PolicyRequestRepository.class);
-        useCase = new FindPolicyUseCase(repository);
+        useCase = new FindPolicyUseCase(repository, new ConcurrentMapCacheManager(CacheConfig.POLICIES_CACHE), 200);
     }
 
     @Test
@@ -36,19 +45,69 @@ class FindPolicyUseCaseTest {
     }
 
     @Test
-    void deveRetornarListaDePoliciesPorCustomerId() {
+    void deveRetornarPrimeiraPaginaDePoliciesPorCustomerId() {
         UUID customerId = UUID.randomUUID();
         List<PolicyRequestEntity> list = List.of(
-                PolicyRequestEntity.builder().customerId(customerId).build(),
-                PolicyRequestEntity.builder().customerId(customerId).build()
+                PolicyRequestEntity.builder().id(UUID.randomUUID()).customerId(customerId).build(),
+                PolicyRequestEntity.builder().id(UUID.randomUUID()).customerId(customerId).build()
         );
 
-        when(repository.findByCustomerId(customerId)).thenReturn(list);
+        when(repository.findFirstPageByCustomerId(customerId, Limit.of(3))).thenReturn(list);
 
-        List<PolicyRequestEntity> result = useCase.findByCustomerId(customerId);
+        PolicyPageResponseDTO result = useCase.findByCustomerId(customerId, null, 2, PolicyFields.all());
 
-        assertEquals(2, result.size());
-        assertEquals(customerId, result.get(0).getCustomerId());
+        assertEquals(2, result.getItems().size());
+        assertEquals(customerId, result.getItems().get(0).getCustomerId());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void deveRetornarTokenDaProximaPaginaQuandoHouverMaisItens() {
+        UUID customerId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        PolicyRequestEntity first = PolicyRequestEntity.builder().id(UUID.randomUUID()).createdAt(now).build();
+        PolicyRequestEntity second = PolicyRequestEntity.builder().id(UUID.randomUUID()).createdAt(now.minusMinutes(1)).build();
+        PolicyRequestEntity extra = PolicyRequestEntity.builder().id(UUID.randomUUID()).createdAt(now.minusMinutes(2)).build();
+
+        when(repository.findFirstPageByCustomerId(customerId, Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        PolicyPageResponseDTO result = useCase.findByCustomerId(customerId, null, 2, PolicyFields.all());
+
+        assertEquals(List.of(first.getId(), second.getId()),
+                result.getItems().stream().map(PolicyResponseDTO::getId).toList());
+        assertEquals(PolicyPageCursor.of(second), PolicyPageCursor.decode(result.getNext()));
+    }
+
+    @Test
+    void deveContinuarAPartirDoCursorInformado() {
+        UUID customerId = UUID.randomUUID();
+        PolicyPageCursor cursor = new PolicyPageCursor(LocalDateTime.now(), UUID.randomUUID());
+
+        when(repository.findPageByCustomerIdAfter(customerId, cursor.createdAt(), cursor.id(), Limit.of(11)))
+                .thenReturn(Collections.emptyList());
+
+        PolicyPageResponseDTO result = useCase.findByCustomerId(customerId, cursor.encode(), 10, PolicyFields.all());
+
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void deveLimitarTamanhoDaPaginaAoMaximoConfigurado() {
+        UUID customerId = UUID.randomUUID();
+
+        when(repository.findFirstPageByCustomerId(customerId, Limit.of(201)))
+                .thenReturn(List.of(PolicyRequestEntity.builder().id(UUID.randomUUID()).build()));
+
+        useCase.findByCustomerId(customerId, null, 10_000, PolicyFields.all());
+
+        verify(repository).findFirstPageByCustomerId(customerId, Limit.of(201));
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoTokenDePaginacaoForInvalido() {
+        assertThrows(InvalidPageTokenException.class,
+                () -> useCase.findByCustomerId(UUID.randomUUID(), "nao-e-um-token", 10, PolicyFields.all()));
     }
 
     @Test
@@ -60,13 +119,31 @@ class FindPolicyUseCaseTest {
         assertThrows(PolicyNotFoundException.class, () -> useCase.findById(id));
     }
 
+    @Test
+    void deveCarregarApenasColecoesSelecionadasNaLeituraProjetada() {
+        UUID id = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder().id(id).category("AUTO").build();
+
+        when(repository.findWithoutCollectionsById(id)).thenReturn(Optional.of(policy));
+
+        PolicyResponseDTO result = useCase.findById(id, PolicyFields.parse("id,history"));
+
+        assertEquals(id, result.getId());
+        assertNull(result.getCategory());
+        assertTrue(result.getHistory().isEmpty());
+        verify(repository).fetchHistory(List.of(id));
+        verify(repository, never()).fetchCoverages(any());
+        verify(repository, never()).fetchAssistances(any());
+        verify(repository, never()).findById(id);
+    }
+
     @Test
     void deveLancarExcecaoQuandoNenhumaPolicyEncontradaPorCustomerId() {
         UUID customerId = UUID.randomUUID();
 
-        when(repository.findByCustomerId(customerId)).thenReturn(Collections.emptyList());
+        when(repository.findFirstPageByCustomerId(customerId, Limit.of(51))).thenReturn(Collections.emptyList());
 
-        assertThrows(PolicyNotFoundException.class, () -> useCase.findByCustomerId(customerId));
+        assertThrows(PolicyNotFoundException.class, () -> useCase.findByCustomerId(customerId, null, 50, PolicyFields.all()));
     }
 
 
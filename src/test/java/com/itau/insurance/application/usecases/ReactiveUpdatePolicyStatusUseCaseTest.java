@@ -0,0 +1,39 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.messaging.ReactiveEventPublisher;
+import com.itau.insurance.infrastructure.persistence.reactive.ReactivePolicyRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveUpdatePolicyStatusUseCaseTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveLancarPolicyNotFoundQuandoApoliceNaoExistir() {
+        UUID policyId = UUID.randomUUID();
+        ReactivePolicyRequestRepository repository = mock(ReactivePolicyRequestRepository.class);
+        ReactiveEventPublisher eventPublisher = mock(ReactiveEventPublisher.class);
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.findById(policyId)).thenReturn(Mono.empty());
+
+        ReactiveUpdatePolicyStatusUseCase useCase = new ReactiveUpdatePolicyStatusUseCase(repository, eventPublisher,
+                transactionalOperator, new ConcurrentMapCacheManager(CacheConfig.POLICIES_CACHE));
+
+        StepVerifier.create(useCase.execute(policyId, true, true))
+                .expectError(PolicyNotFoundException.class)
+                .verify();
+        verify(repository, never()).update(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
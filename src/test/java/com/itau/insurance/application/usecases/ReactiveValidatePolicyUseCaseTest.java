@@ -0,0 +1,137 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.config.ApprovalRulesProperties;
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.exceptions.FraudAnalysisException;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.external.fraud.FraudAnalysisResponse;
+import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
+import com.itau.insurance.infrastructure.messaging.ReactiveEventPublisher;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.reactive.ReactivePolicyRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveValidatePolicyUseCaseTest {
+
+    private ReactivePolicyRequestRepository repository;
+    private FraudApiClient fraudApiClient;
+    private ReactiveEventPublisher eventPublisher;
+    private TransactionalOperator transactionalOperator;
+    private CacheManager cacheManager;
+    private ReactiveValidatePolicyUseCase useCase;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(ReactivePolicyRequestRepository.class);
+        fraudApiClient = mock(FraudApiClient.class);
+        eventPublisher = mock(ReactiveEventPublisher.class);
+        transactionalOperator = mock(TransactionalOperator.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.POLICIES_CACHE);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventPublisher.publishPolicyEvent(any())).thenReturn(Mono.empty());
+        when(repository.update(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        useCase = new ReactiveValidatePolicyUseCase(repository, fraudApiClient, eventPublisher,
+                new ApprovalRuleEngine(new ApprovalRulesProperties()), transactionalOperator, cacheManager);
+    }
+
+    @Test
+    void deveValidarComAnaliseNaoBloqueanteERemoverDoCache() {
+        UUID policyId = UUID.randomUUID();
+        PolicyRequestEntity policy = policy(policyId);
+        cacheManager.getCache(CacheConfig.POLICIES_CACHE).put(policyId, policy);
+        when(repository.existsById(policyId)).thenReturn(Mono.just(true));
+        when(repository.findById(policyId)).thenReturn(Mono.just(policy));
+        when(fraudApiClient.analyzeAsync(policyId)).thenReturn(Mono.just(
+                FraudAnalysisResponse.builder().classification(RiskClassification.REGULAR).build()));
+
+        StepVerifier.create(useCase.execute(policyId))
+                .assertNext(updated -> {
+                    assertEquals(RequestStatus.VALIDATED, updated.getStatus());
+                    assertEquals(RiskClassification.REGULAR, updated.getRiskClassification());
+                    assertEquals(1, updated.getHistory().size());
+                })
+                .verifyComplete();
+
+        verify(eventPublisher).publishPolicyEvent(policy);
+        verify(fraudApiClient, never()).analyze(any());
+        assertNull(cacheManager.getCache(CacheConfig.POLICIES_CACHE).get(policyId));
+    }
+
+    @Test
+    void deveFalharSemConsultarApiQuandoApoliceNaoExistir() {
+        UUID policyId = UUID.randomUUID();
+        when(repository.existsById(policyId)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(useCase.execute(policyId))
+                .expectError(PolicyNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(fraudApiClient);
+    }
+
+    @Test
+    void deveEncapsularFalhaDaApiDeFraudeSemGravar() {
+        UUID policyId = UUID.randomUUID();
+        when(repository.existsById(policyId)).thenReturn(Mono.just(true));
+        when(fraudApiClient.analyzeAsync(policyId)).thenReturn(Mono.error(new RuntimeException("timeout")));
+
+        StepVerifier.create(useCase.execute(policyId))
+                .expectError(FraudAnalysisException.class)
+                .verify();
+
+        verify(repository, never()).update(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deveDescartarDecisaoQuandoApoliceForCanceladaDuranteConsultaDeFraude() {
+        UUID policyId = UUID.randomUUID();
+        PolicyRequestEntity policy = policy(policyId);
+        when(repository.existsById(policyId)).thenReturn(Mono.just(true));
+        when(repository.findById(policyId)).thenReturn(Mono.just(policy));
+        // cancelamento commitado enquanto a API de fraude respondia
+        when(fraudApiClient.analyzeAsync(policyId)).thenReturn(Mono.fromSupplier(() -> {
+            policy.setStatus(RequestStatus.CANCELLED);
+            return FraudAnalysisResponse.builder().classification(RiskClassification.REGULAR).build();
+        }));
+
+        StepVerifier.create(useCase.execute(policyId))
+                .expectError(BusinessException.class)
+                .verify();
+
+        assertEquals(RequestStatus.CANCELLED, policy.getStatus());
+        assertTrue(policy.getHistory().isEmpty());
+        verify(repository, never()).update(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private PolicyRequestEntity policy(UUID policyId) {
+        return PolicyRequestEntity.builder()
+                .id(policyId)
+                .status(RequestStatus.RECEIVED)
+                .category("AUTO")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .history(new ArrayList<>())
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.itau.insurance.application.usecases;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.config.MessagingProperties;
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.exceptions.InvalidDeadLetterReplayException;
+import com.itau.insurance.infrastructure.messaging.DeadLetterRecoverer;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.interfaces.dto.DeadLetterReplayReportDTO;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReplayDeadLettersUseCaseTest {
+
+    private final UUID failedPolicy = UUID.randomUUID();
+    private final UUID otherPolicy = UUID.randomUUID();
+
+    private final MessagingProperties properties = new MessagingProperties();
+
+    private Channel channel;
+    private ReplayDeadLettersUseCase useCase;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        channel = mock(Channel.class);
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        when(rabbitTemplate.execute(any(ChannelCallback.class)))
+                .thenAnswer(invocation -> invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+
+        when(channel.messageCount("policy.dlq")).thenReturn(2L);
+        when(channel.basicGet("policy.dlq", false)).thenReturn(
+                deadLetter(1, failedPolicy, "org.springframework.dao.QueryTimeoutException"),
+                deadLetter(2, otherPolicy, "org.springframework.amqp.support.converter.MessageConversionException"),
+                null);
+
+        useCase = new ReplayDeadLettersUseCase(rabbitTemplate, new PolicyMessageCodecs(new ObjectMapper(), "json"),
+                properties, new SimpleMeterRegistry(), 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.stop();
+    }
+
+    @Test
+    void deveReenviarApenasMensagensDoFiltroEDevolverAsDemaisADlq() throws Exception {
+        DeadLetterReplayReportDTO report = replay(useCase, null, "QueryTimeoutException", null, 1000.0, false);
+
+        assertEquals(2, report.getInspected());
+        assertEquals(1, report.getMatched());
+        assertEquals(1, report.getReplayed());
+        assertEquals(failedPolicy, report.getMessages().get(0).getPolicyId());
+
+        ArgumentCaptor<AMQP.BasicProperties> props = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).basicPublish(eq("policy.exchange"), eq("policy.status.updated"), props.capture(), any(byte[].class));
+        assertEquals(1, props.getValue().getHeaders().get("x-dlq-replays"));
+        assertFalse(props.getValue().getHeaders().containsKey(DeadLetterRecoverer.EXCEPTION_TYPE_HEADER));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicPublish(eq(""), eq("policy.dlq"), any(), any(byte[].class));
+        verify(channel).basicAck(2, false);
+        verify(channel, times(2)).waitForConfirmsOrDie(5000);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void deveFiltrarPorApolice() throws Exception {
+        DeadLetterReplayReportDTO report = replay(useCase, otherPolicy, null, null, 1000.0, false);
+
+        assertEquals(1, report.getReplayed());
+        verify(channel).basicPublish(eq("policy.exchange"), eq("policy.status.updated"), any(), any(byte[].class));
+        verify(channel).basicPublish(eq(""), eq("policy.dlq"), any(), any(byte[].class));
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+    }
+
+    @Test
+    void naoDeveReenviarNadaEmDryRun() throws Exception {
+        DeadLetterReplayReportDTO report = replay(useCase, null, null, null, null, true);
+
+        assertTrue(report.isDryRun());
+        assertEquals(2, report.getMatched());
+        assertEquals(0, report.getReplayed());
+        assertEquals(2, report.getMessages().size());
+        // nada é republicado nem confirmado: as duas mensagens voltam às posições originais da DLQ
+        verify(channel, never()).basicPublish(anyString(), anyString(), any(), any(byte[].class));
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(channel).basicNack(2, true, true);
+    }
+
+    @Test
+    void deveExecutarEmSegundoPlanoERecusarReplayConcorrente() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(channel.messageCount("policy.dlq")).thenAnswer(invocation -> {
+            release.await();
+            return 2L;
+        });
+
+        DeadLetterReplayReportDTO started = useCase.start(null, null, null, 1000.0, false);
+
+        assertTrue(started.isRunning());
+        assertNotNull(started.getStartedAt());
+        assertTrue(useCase.progress().isRunning());
+        assertThrows(BusinessException.class, () -> useCase.start(null, null, null, 1000.0, true));
+
+        release.countDown();
+        DeadLetterReplayReportDTO report = awaitCompletion(useCase);
+        assertNotNull(report.getFinishedAt());
+        assertEquals(2, report.getReplayed());
+    }
+
+    @Test
+    void deveRespeitarLimiteDeMensagens() throws Exception {
+        DeadLetterReplayReportDTO report = replay(useCase, null, null, 1, 1000.0, false);
+
+        assertEquals(1, report.getInspected());
+        assertEquals(1, report.getReplayed());
+        verify(channel, times(1)).basicGet("policy.dlq", false);
+    }
+
+    @Test
+    void deveLimitarVarreduraEInformarMensagensRestantes() throws Exception {
+        when(channel.messageCount("policy.dlq")).thenReturn(10L);
+        properties.getDeadLetters().setReplayScanLimit(2);
+
+        DeadLetterReplayReportDTO report = replay(useCase, failedPolicy, null, null, 1000.0, false);
+
+        assertEquals(2, report.getInspected());
+        assertEquals(1, report.getReplayed());
+        assertEquals(8, report.getRemaining());
+        verify(channel, times(2)).basicGet("policy.dlq", false);
+    }
+
+    @Test
+    void deveInterromperReplayQuandoRateLimiterNegarPermissao() throws Exception {
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.acquirePermission()).thenReturn(true, false);
+        ReplayDeadLettersUseCase throttled = spy(useCase);
+        doReturn(rateLimiter).when(throttled).rateLimiter(anyDouble());
+
+        DeadLetterReplayReportDTO report = replay(throttled, null, null, null, null, false);
+
+        assertEquals(2, report.getMatched());
+        assertEquals(1, report.getReplayed());
+        assertEquals(1, report.getSkipped());
+        verify(channel).basicAck(1, false);
+        verify(channel).basicNack(2, false, true);
+        verify(channel, times(1)).basicPublish(eq("policy.exchange"), anyString(), any(), any(byte[].class));
+    }
+
+    @Test
+    void deveRecusarTaxaOuLimiteInvalidos() {
+        assertThrows(InvalidDeadLetterReplayException.class, () -> useCase.start(null, null, 0, null, false));
+        assertThrows(InvalidDeadLetterReplayException.class, () -> useCase.start(null, null, null, -1.0, false));
+    }
+
+    private static DeadLetterReplayReportDTO replay(ReplayDeadLettersUseCase useCase, UUID policyId, String errorType,
+                                                    Integer limit, Double ratePerSecond, boolean dryRun) {
+        useCase.start(policyId, errorType, limit, ratePerSecond, dryRun);
+        return awaitCompletion(useCase);
+    }
+
+    private static DeadLetterReplayReportDTO awaitCompletion(ReplayDeadLettersUseCase useCase) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (useCase.progress().isRunning()) {
+            assertTrue(System.currentTimeMillis() < deadline, "replay da DLQ não terminou a tempo");
+            Thread.onSpinWait();
+        }
+        return useCase.progress();
+    }
+
+    private static GetResponse deadLetter(long deliveryTag, UUID policyId, String exceptionType) {
+        AMQP.BasicProperties props = new AMQP.BasicProperties.Builder()
+                .contentType("application/json")
+                .headers(Map.of(DeadLetterRecoverer.EXCEPTION_TYPE_HEADER, exceptionType,
+                        "x-exception-message", "falha",
+                        "x-original-routingKey", "policy.status.updated.shard-1"))
+                .build();
+        byte[] body = ("{\"policyId\":\"" + policyId + "\",\"paymentConfirmed\":true,\"subscriptionAuthorized\":true}")
+                .getBytes(StandardCharsets.UTF_8);
+        return new GetResponse(new Envelope(deliveryTag, false, "", "policy.dlq"), props, body, 0);
+    }
+}
@@ -0,0 +1,121 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.config.ApprovalRulesProperties;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.InvalidApprovalRulesException;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyDecisionView;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.ApprovalSimulationGroupDTO;
+import com.itau.insurance.interfaces.dto.ApprovalSimulationReportDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SimulateApprovalRulesUseCaseTest {
+
+    private PolicyRequestRepository repository;
+    private SimulateApprovalRulesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PolicyRequestRepository.class);
+        useCase = new SimulateApprovalRulesUseCase(repository, new ApprovalRuleEngine(new ApprovalRulesProperties()), 2, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.shutdown();
+    }
+
+    @Test
+    void deveContarDecisoesQueMudariamPorCategoriaEClassificacao() {
+        List<PolicyDecisionView> decisions = new ArrayList<>();
+        // AUTO/REGULAR: limite atual 350.000, candidato 200.000 -> 300.000 passa a ser rejeitada
+        decisions.add(decision("AUTO", 300_000, RiskClassification.REGULAR));
+        decisions.add(decision("auto", 100_000, RiskClassification.REGULAR));
+        // VIDA/HIGH_RISK: limite atual 125.000, candidato 200.000 -> 150.000 passa a ser aprovada
+        decisions.add(decision("VIDA", 150_000, RiskClassification.HIGH_RISK));
+        decisions.add(decision("VIDA", 500_000, RiskClassification.HIGH_RISK));
+        givenPages(decisions);
+
+        ApprovalRulesProperties candidate = new ApprovalRulesProperties();
+        candidate.getClassifications().get(RiskClassification.REGULAR).getCategories().put("AUTO", BigDecimal.valueOf(200_000));
+        candidate.getClassifications().get(RiskClassification.HIGH_RISK).getCategories().put("VIDA", BigDecimal.valueOf(200_000));
+
+        ApprovalSimulationReportDTO report = useCase.execute(candidate);
+
+        assertEquals(4, report.getEvaluated());
+        assertEquals(1, report.getFlippedToApproved());
+        assertEquals(1, report.getFlippedToRejected());
+        assertEquals(2, report.getGroups().size());
+
+        ApprovalSimulationGroupDTO auto = report.getGroups().get(0);
+        assertEquals("AUTO", auto.getCategory());
+        assertEquals(RiskClassification.REGULAR, auto.getRiskClassification());
+        assertEquals(2, auto.getEvaluated());
+        assertEquals(2, auto.getApprovedByCurrent());
+        assertEquals(1, auto.getApprovedByCandidate());
+        assertEquals(1, auto.getFlippedToRejected());
+
+        ApprovalSimulationGroupDTO vida = report.getGroups().get(1);
+        assertEquals("VIDA", vida.getCategory());
+        assertEquals(1, vida.getFlippedToApproved());
+        assertEquals(0, vida.getApprovedByCurrent());
+    }
+
+    @Test
+    void deveRejeitarConjuntoCandidatoInvalidoAntesDeLerOHistorico() {
+        ApprovalRulesProperties candidate = new ApprovalRulesProperties();
+        candidate.getClassifications().remove(RiskClassification.REGULAR);
+
+        assertThrows(InvalidApprovalRulesException.class, () -> useCase.execute(candidate));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveBuscarPaginasNaThreadChamadora() {
+        List<PolicyDecisionView> decisions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            decisions.add(decision("AUTO", 100_000, RiskClassification.REGULAR));
+        }
+        Set<Thread> fetchThreads = ConcurrentHashMap.newKeySet();
+        when(repository.findDecisionsAfter(any(), any())).thenAnswer(invocation -> {
+            fetchThreads.add(Thread.currentThread());
+            UUID after = invocation.getArgument(0);
+            int from = after.equals(new UUID(0L, 0L)) ? 0 : decisions.indexOf(decisionWithId(decisions, after)) + 1;
+            return decisions.subList(from, Math.min(from + 3, decisions.size()));
+        });
+
+        assertEquals(4, useCase.execute(new ApprovalRulesProperties()).getEvaluated());
+        assertEquals(Set.of(Thread.currentThread()), fetchThreads);
+    }
+
+    private void givenPages(List<PolicyDecisionView> decisions) {
+        // páginas de 3: a segunda consulta parte do último id da primeira
+        when(repository.findDecisionsAfter(eq(new UUID(0L, 0L)), eq(Limit.of(3)))).thenReturn(decisions.subList(0, 3));
+        when(repository.findDecisionsAfter(eq(decisions.get(2).id()), eq(Limit.of(3)))).thenReturn(decisions.subList(3, 4));
+        when(repository.findDecisionsAfter(eq(decisions.get(3).id()), any())).thenReturn(List.of());
+    }
+
+    private static PolicyDecisionView decisionWithId(List<PolicyDecisionView> decisions, UUID id) {
+        return decisions.stream().filter(decision -> decision.id().equals(id)).findFirst().orElseThrow();
+    }
+
+    private static PolicyDecisionView decision(String category, long insuredAmount, RiskClassification classification) {
+        return new PolicyDecisionView(UUID.randomUUID(), category, BigDecimal.valueOf(insuredAmount), classification);
+    }
+}
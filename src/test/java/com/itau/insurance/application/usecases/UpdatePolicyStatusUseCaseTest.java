@@ -1,9 +1,11 @@
 package com.itau.insurance.application.usecases;
 
 import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
 import com.itau.insurance.infrastructure.messaging.EventPublisher;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -43,7 +45,7 @@ class UpdatePolicyStatusUseCaseTest {
         assertEquals(RequestStatus.APPROVED, result.getStatus());
         assertNotNull(result.getFinishedAt());
         assertEquals(1, result.getHistory().size());
-        verify(eventPublisher).publishPolicyEvent(result, true, true);
+        verify(eventPublisher).publishPolicyEvent(result);
         verify(repository).save(result);
     }
 
@@ -62,7 +64,7 @@ class UpdatePolicyStatusUseCaseTest {
 
         assertEquals(RequestStatus.REJECTED, result.getStatus());
         verify(repository, never()).save(any());
-        verify(eventPublisher, never()).publishPolicyEvent(any(), anyBoolean(), anyBoolean());
+        verify(eventPublisher, never()).publishPolicyEvent(any());
     }
 
     @Test
@@ -112,7 +114,7 @@ class UpdatePolicyStatusUseCaseTest {
 
         assertEquals(RequestStatus.APPROVED, result.getStatus());
         verify(repository, never()).save(any());
-        verify(eventPublisher, never()).publishPolicyEvent(any(), anyBoolean(), anyBoolean());
+        verify(eventPublisher, never()).publishPolicyEvent(any());
     }
 
     @Test
@@ -137,8 +139,8 @@ class UpdatePolicyStatusUseCaseTest {
 
         when(repository.findById(id)).thenReturn(Optional.empty());
 
-        RuntimeException ex = assertThrows(RuntimeException.class, () -> useCase.execute(id, true, true));
-        assertEquals("Solicitação não encontrada: " + id, ex.getMessage());
+        assertThrows(PolicyNotFoundException.class, () -> useCase.execute(id, true, true));
+        verify(eventPublisher, never()).publishPolicyEvent(any());
     }
 
     @Test
@@ -158,7 +160,61 @@ class UpdatePolicyStatusUseCaseTest {
 
         // Verifica que não salvou nem publicou
         verify(repository, never()).save(any());
-        verify(eventPublisher, never()).publishPolicyEvent(any(), anyBoolean(), anyBoolean());
+        verify(eventPublisher, never()).publishPolicyEvent(any());
     }
 
+    @Test
+    void deveColapsarAtualizacoesDaMesmaApoliceNaTransicaoFinal() {
+        UUID policyId = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder()
+                .id(policyId)
+                .status(RequestStatus.VALIDATED)
+                .history(new ArrayList<>())
+                .build();
+
+        when(repository.fetchHistory(Set.of(policyId))).thenReturn(List.of(policy));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<PolicyRequestEntity> result = useCase.executeBatch(List.of(
+                update(policyId, false, false),
+                update(policyId, true, true),
+                update(policyId, false, true)));
+
+        assertEquals(List.of(policy), result);
+        assertEquals(RequestStatus.APPROVED, policy.getStatus());
+        assertEquals(1, policy.getHistory().size());
+        assertNotNull(policy.getFinishedAt());
+        verify(eventPublisher).publishPolicyEvent(policy);
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void deveIgnorarNoLoteApolicesFinalizadasOuInexistentes() {
+        UUID finalizedId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        PolicyRequestEntity finalized = PolicyRequestEntity.builder()
+                .id(finalizedId)
+                .status(RequestStatus.CANCELLED)
+                .history(new ArrayList<>())
+                .build();
+
+        when(repository.fetchHistory(Set.of(finalizedId, missingId))).thenReturn(List.of(finalized));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<PolicyRequestEntity> result = useCase.executeBatch(List.of(
+                update(finalizedId, true, true),
+                update(missingId, true, true)));
+
+        assertTrue(result.isEmpty());
+        assertEquals(RequestStatus.CANCELLED, finalized.getStatus());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static PolicyStatusUpdateRequestDTO update(UUID policyId, boolean paymentConfirmed, boolean subscriptionAuthorized) {
+        PolicyStatusUpdateRequestDTO update = new PolicyStatusUpdateRequestDTO();
+        update.setPolicyId(policyId);
+        update.setPaymentConfirmed(paymentConfirmed);
+        update.setSubscriptionAuthorized(subscriptionAuthorized);
+        return update;
+    }
 }
@@ -0,0 +1,88 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.external.fraud.FraudAnalysisResponse;
+import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ValidatePolicyAsyncUseCaseTest {
+
+    private PolicyRequestRepository repository;
+    private FraudApiClient fraudApiClient;
+    private ValidatePolicyUseCase validatePolicyUseCase;
+    private ValidatePolicyAsyncUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PolicyRequestRepository.class);
+        fraudApiClient = mock(FraudApiClient.class);
+        validatePolicyUseCase = mock(ValidatePolicyUseCase.class);
+        useCase = new ValidatePolicyAsyncUseCase(repository, fraudApiClient, validatePolicyUseCase, 4, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.stop();
+    }
+
+    @Test
+    void deveAplicarResultadoQuandoAnaliseDeFraudeResponder() {
+        UUID policyId = UUID.randomUUID();
+        when(repository.existsById(policyId)).thenReturn(true);
+        when(fraudApiClient.analyzeAsync(policyId)).thenReturn(Mono.just(
+                FraudAnalysisResponse.builder().classification(RiskClassification.PREFERENTIAL).build()));
+        useCase.start();
+
+        useCase.submit(policyId);
+
+        verify(validatePolicyUseCase, timeout(2000)).applyAnalysis(policyId, RiskClassification.PREFERENTIAL);
+        verify(fraudApiClient, never()).analyze(any());
+    }
+
+    @Test
+    void deveContinuarProcessandoAposFalhaNaApiDeFraude() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        when(repository.existsById(any())).thenReturn(true);
+        when(fraudApiClient.analyzeAsync(failing)).thenReturn(Mono.error(new RuntimeException("timeout")));
+        when(fraudApiClient.analyzeAsync(healthy)).thenReturn(Mono.just(
+                FraudAnalysisResponse.builder().classification(RiskClassification.REGULAR).build()));
+        useCase.start();
+
+        useCase.submit(failing);
+        useCase.submit(healthy);
+
+        verify(validatePolicyUseCase, timeout(2000)).applyAnalysis(healthy, RiskClassification.REGULAR);
+        verify(validatePolicyUseCase, never()).applyAnalysis(eq(failing), any());
+    }
+
+    @Test
+    void deveLancarExcecaoQuandoApoliceNaoExistir() {
+        UUID policyId = UUID.randomUUID();
+        when(repository.existsById(policyId)).thenReturn(false);
+
+        assertThrows(PolicyNotFoundException.class, () -> useCase.submit(policyId));
+    }
+
+    @Test
+    void deveRecusarQuandoFilaEstiverCheia() {
+        when(repository.existsById(any())).thenReturn(true);
+        // pipeline não iniciado: nada é consumido e a fila de capacidade 8 enche
+        for (int i = 0; i < 8; i++) {
+            useCase.submit(UUID.randomUUID());
+        }
+
+        assertThrows(BusinessException.class, () -> useCase.submit(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,151 @@
+package com.itau.insurance.application.usecases;
+
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.infrastructure.external.fraud.FraudAnalysisResponse;
+import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import com.itau.insurance.interfaces.dto.ValidationBatchProgressDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ValidatePolicyBatchUseCaseTest {
+
+    private PolicyRequestRepository repository;
+    private FraudApiClient fraudApiClient;
+    private ValidatePolicyUseCase validatePolicyUseCase;
+    private ConcurrentMapCacheManager cacheManager;
+    private ValidatePolicyBatchUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PolicyRequestRepository.class);
+        fraudApiClient = mock(FraudApiClient.class);
+        validatePolicyUseCase = mock(ValidatePolicyUseCase.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.POLICIES_CACHE);
+        useCase = new ValidatePolicyBatchUseCase(repository, fraudApiClient, validatePolicyUseCase, cacheManager, 2, 4, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.stop();
+    }
+
+    @Test
+    void deveValidarTodasAsPaginasDeSolicitacoesRecebidas() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(repository.findFirstIdsByStatus(RequestStatus.RECEIVED, Limit.of(2))).thenReturn(List.of(first, second));
+        when(repository.findIdsByStatusAfter(RequestStatus.RECEIVED, second, Limit.of(2))).thenReturn(List.of(third));
+        when(fraudApiClient.analyzeAsync(any())).thenReturn(Mono.just(
+                FraudAnalysisResponse.builder().classification(RiskClassification.REGULAR).build()));
+        when(validatePolicyUseCase.applyAnalyses(anyMap())).thenAnswer(invocation -> {
+            Map<UUID, RiskClassification> classifications = invocation.getArgument(0);
+            return classifications.keySet().stream()
+                    .map(id -> PolicyRequestEntity.builder().id(id).status(RequestStatus.VALIDATED).build())
+                    .toList();
+        });
+        cacheManager.getCache(CacheConfig.POLICIES_CACHE).put(first, "stale");
+
+        useCase.start();
+
+        ValidationBatchProgressDTO progress = awaitCompletion();
+        assertEquals(3, progress.getScanned());
+        assertEquals(3, progress.getValidated());
+        assertEquals(0, progress.getFailed());
+        assertNull(cacheManager.getCache(CacheConfig.POLICIES_CACHE).get(first));
+        verify(fraudApiClient, never()).analyze(any());
+    }
+
+    @Test
+    void deveContabilizarFalhasDaApiDeFraudeSemInterromperOLote() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        when(repository.findFirstIdsByStatus(RequestStatus.RECEIVED, Limit.of(2))).thenReturn(List.of(failing, healthy));
+        when(repository.findIdsByStatusAfter(RequestStatus.RECEIVED, healthy, Limit.of(2))).thenReturn(List.of());
+        when(fraudApiClient.analyzeAsync(failing)).thenReturn(Mono.error(new RuntimeException("timeout")));
+        when(fraudApiClient.analyzeAsync(healthy)).thenReturn(Mono.just(
+                FraudAnalysisResponse.builder().classification(RiskClassification.HIGH_RISK).build()));
+        when(validatePolicyUseCase.applyAnalyses(Map.of(healthy, RiskClassification.HIGH_RISK))).thenReturn(List.of(
+                PolicyRequestEntity.builder().id(healthy).status(RequestStatus.REJECTED).build()));
+
+        useCase.start();
+
+        ValidationBatchProgressDTO progress = awaitCompletion();
+        assertEquals(2, progress.getScanned());
+        assertEquals(1, progress.getRejected());
+        assertEquals(1, progress.getFailed());
+    }
+
+    @Test
+    void deveAguardarGravacaoLentaSemEstourarOBufferDeLotes() {
+        // o primeiro id chega sozinho e sai pelo timeout num lote parcial; os demais chegam juntos depois e enchem a
+        // fila do publishOn enquanto a primeira gravação demora, deixando o último lote parcial sem demanda
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(2_001).toList();
+        useCase = new ValidatePolicyBatchUseCase(repository, fraudApiClient, validatePolicyUseCase, cacheManager, 5_000, 4_096, 2);
+        when(repository.findFirstIdsByStatus(RequestStatus.RECEIVED, Limit.of(5_000))).thenReturn(ids);
+        Mono<FraudAnalysisResponse> analysis = Mono.just(
+                FraudAnalysisResponse.builder().classification(RiskClassification.REGULAR).build());
+        when(fraudApiClient.analyzeAsync(any())).thenReturn(analysis.delayElement(Duration.ofMillis(1_200)));
+        when(fraudApiClient.analyzeAsync(ids.get(0))).thenReturn(analysis);
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(validatePolicyUseCase.applyAnalyses(anyMap())).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                Thread.sleep(2_500);
+            }
+            Map<UUID, RiskClassification> classifications = invocation.getArgument(0);
+            return classifications.keySet().stream()
+                    .map(id -> PolicyRequestEntity.builder().id(id).status(RequestStatus.VALIDATED).build())
+                    .toList();
+        });
+
+        useCase.start();
+
+        ValidationBatchProgressDTO progress = awaitCompletion(15_000);
+        assertEquals(2_001, progress.getValidated());
+        assertEquals(0, progress.getFailed());
+    }
+
+    @Test
+    void deveRecusarNovaExecucaoEnquantoOutraEstiverEmAndamento() {
+        when(repository.findFirstIdsByStatus(any(), any())).thenReturn(List.of(UUID.randomUUID()));
+        when(fraudApiClient.analyzeAsync(any())).thenReturn(Mono.never());
+
+        useCase.start();
+
+        assertTrue(useCase.progress().isRunning());
+        assertThrows(BusinessException.class, () -> useCase.start());
+    }
+
+    private ValidationBatchProgressDTO awaitCompletion() {
+        return awaitCompletion(5000);
+    }
+
+    private ValidationBatchProgressDTO awaitCompletion(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (useCase.progress().isRunning()) {
+            assertTrue(System.currentTimeMillis() < deadline, "validação em lote não terminou a tempo");
+            Thread.onSpinWait();
+        }
+        return useCase.progress();
+    }
+}
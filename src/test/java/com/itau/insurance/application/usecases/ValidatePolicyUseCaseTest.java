@@ -1,7 +1,12 @@
 package com.itau.insurance.application.usecases;
 
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.config.ApprovalRulesProperties;
 import com.itau.insurance.domain.enums.RequestStatus;
 import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.exceptions.BusinessException;
+import com.itau.insurance.exceptions.InvalidRiskClassificationException;
+import com.itau.insurance.exceptions.PolicyNotFoundException;
 import com.itau.insurance.infrastructure.external.fraud.FraudApiClient;
 import com.itau.insurance.infrastructure.external.fraud.FraudAnalysisResponse;
 import com.itau.insurance.infrastructure.messaging.EventPublisher;
@@ -9,6 +14,8 @@ import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
 import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -21,6 +28,7 @@ class ValidatePolicyUseCaseTest {
     private FraudApiClient fraudApiClient;
     private PolicyRequestRepository repository;
     private EventPublisher eventPublisher;
+    private PlatformTransactionManager transactionManager;
     private ValidatePolicyUseCase useCase;
 
     @BeforeEach
@@ -28,7 +36,71 @@ class ValidatePolicyUseCaseTest {
         fraudApiClient = mock(FraudApiClient.class);
         repository = mock(PolicyRequestRepository.class);
         eventPublisher = mock(EventPublisher.class);
-        useCase = new ValidatePolicyUseCase(fraudApiClient, repository, eventPublisher);
+        transactionManager = mock(PlatformTransactionManager.class);
+        useCase = new ValidatePolicyUseCase(fraudApiClient, repository, eventPublisher,
+                new ApprovalRuleEngine(new ApprovalRulesProperties()), new TransactionTemplate(transactionManager));
+        when(repository.existsById(any())).thenReturn(true);
+    }
+
+    @Test
+    void deveConsultarApiDeFraudeForaDaTransacao() {
+        UUID policyId = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder()
+                .id(policyId)
+                .status(RequestStatus.RECEIVED)
+                .category("AUTO")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .history(new ArrayList<>())
+                .build();
+
+        when(repository.findById(policyId)).thenReturn(Optional.of(policy));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fraudApiClient.analyze(policyId)).thenAnswer(invocation -> {
+            verifyNoInteractions(transactionManager);
+            return FraudAnalysisResponse.builder().classification(RiskClassification.REGULAR).build();
+        });
+
+        useCase.execute(policyId);
+
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void deveDescartarDecisaoQuandoApoliceForCanceladaDuranteConsultaDeFraude() {
+        UUID policyId = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder()
+                .id(policyId)
+                .status(RequestStatus.RECEIVED)
+                .category("AUTO")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .history(new ArrayList<>())
+                .build();
+
+        when(repository.findById(policyId)).thenReturn(Optional.of(policy));
+        when(fraudApiClient.analyze(policyId)).thenAnswer(invocation -> {
+            // cancelamento commitado enquanto a API de fraude respondia
+            policy.setStatus(RequestStatus.CANCELLED);
+            return FraudAnalysisResponse.builder().classification(RiskClassification.REGULAR).build();
+        });
+
+        assertThrows(BusinessException.class, () -> useCase.execute(policyId));
+
+        assertEquals(RequestStatus.CANCELLED, policy.getStatus());
+        assertNull(policy.getRiskClassification());
+        assertTrue(policy.getHistory().isEmpty());
+        verify(repository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deveFalharSemConsultarApiQuandoApoliceNaoExistir() {
+        UUID policyId = UUID.randomUUID();
+        when(repository.existsById(policyId)).thenReturn(false);
+
+        assertThrows(PolicyNotFoundException.class, () -> useCase.execute(policyId));
+
+        verifyNoInteractions(fraudApiClient);
     }
 
     @Test
@@ -36,6 +108,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("VIDA")
                 .insuredAmount(BigDecimal.valueOf(300_000))
                 .history(new ArrayList<>())
@@ -52,6 +125,7 @@ class ValidatePolicyUseCaseTest {
         PolicyRequestEntity result = useCase.execute(policyId);
 
         assertEquals(RequestStatus.VALIDATED, result.getStatus());
+        assertEquals(RiskClassification.REGULAR, result.getRiskClassification());
         verify(eventPublisher).publishPolicyEvent(result);
         verify(repository).save(result);
     }
@@ -61,6 +135,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("AUTO")
                 .insuredAmount(BigDecimal.valueOf(1_000_000)) // alto demais
                 .history(new ArrayList<>())
@@ -86,6 +161,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("EMPRESARIAL")
                 .insuredAmount(BigDecimal.valueOf(200_000)) // < 255_000
                 .history(new ArrayList<>())
@@ -109,6 +185,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("VIDA")
                 .insuredAmount(BigDecimal.valueOf(750_000)) // dentro
                 .history(new ArrayList<>())
@@ -132,6 +209,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("AUTO")
                 .insuredAmount(BigDecimal.valueOf(100_000)) // > 75_000
                 .history(new ArrayList<>())
@@ -155,6 +233,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("AUTO")
                 .insuredAmount(BigDecimal.valueOf(50_000))
                 .history(new ArrayList<>())
@@ -167,7 +246,7 @@ class ValidatePolicyUseCaseTest {
         when(repository.findById(policyId)).thenReturn(Optional.of(policy));
         when(fraudApiClient.analyze(policyId)).thenReturn(response);
 
-        assertThrows(RuntimeException.class, () -> useCase.execute(policyId));
+        assertThrows(InvalidRiskClassificationException.class, () -> useCase.execute(policyId));
     }
 
     @Test
@@ -175,6 +254,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("AUTO")
                 .insuredAmount(BigDecimal.valueOf(240_000)) // <= 250_000
                 .history(new ArrayList<>())
@@ -197,6 +277,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("RESIDENCIAL")
                 .insuredAmount(BigDecimal.valueOf(200_000)) // > 150_000
                 .history(new ArrayList<>())
@@ -219,6 +300,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("AUTO")
                 .insuredAmount(BigDecimal.valueOf(400_000)) // <= 450_000
                 .history(new ArrayList<>())
@@ -241,6 +323,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("EMPRESARIAL")
                 .insuredAmount(BigDecimal.valueOf(100_000)) // > 55_000
                 .history(new ArrayList<>())
@@ -263,6 +346,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("AUTO")
                 .insuredAmount(BigDecimal.valueOf(50_000)) // <= 75_000
                 .history(new ArrayList<>())
@@ -285,6 +369,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("EMPRESARIAL")
                 .insuredAmount(BigDecimal.valueOf(300_000)) // <= 375_000
                 .history(new ArrayList<>())
@@ -307,6 +392,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("VIDA")
                 .insuredAmount(BigDecimal.valueOf(180_000)) // <= 200_000
                 .history(new ArrayList<>())
@@ -329,6 +415,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("RESIDENCIAL")
                 .insuredAmount(BigDecimal.valueOf(400_000)) // <= 450_000
                 .history(new ArrayList<>())
@@ -351,6 +438,7 @@ class ValidatePolicyUseCaseTest {
         UUID policyId = UUID.randomUUID();
         PolicyRequestEntity policy = PolicyRequestEntity.builder()
                 .id(policyId)
+                .status(RequestStatus.RECEIVED)
                 .category("AUTO")
                 .insuredAmount(BigDecimal.valueOf(340_000)) // <= 350.000
                 .history(new ArrayList<>())
@@ -369,6 +457,59 @@ class ValidatePolicyUseCaseTest {
         assertEquals(RequestStatus.VALIDATED, result.getStatus());
     }
 
+    @Test
+    void deveAplicarClassificacaoJaObtidaSemConsultarApiDeFraude() {
+        UUID policyId = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder()
+                .id(policyId)
+                .status(RequestStatus.RECEIVED)
+                .category("AUTO")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .history(new ArrayList<>())
+                .build();
+
+        when(repository.findById(policyId)).thenReturn(Optional.of(policy));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PolicyRequestEntity result = useCase.applyAnalysis(policyId, RiskClassification.REGULAR);
+
+        assertEquals(RequestStatus.VALIDATED, result.getStatus());
+        assertEquals(1, result.getHistory().size());
+        verify(eventPublisher).publishPolicyEvent(result);
+        verifyNoInteractions(fraudApiClient);
+    }
+
+    @Test
+    void deveAplicarAnalisesEmLoteIgnorandoSolicitacoesJaProcessadas() {
+        UUID receivedId = UUID.randomUUID();
+        UUID cancelledId = UUID.randomUUID();
+        PolicyRequestEntity received = PolicyRequestEntity.builder()
+                .id(receivedId)
+                .status(RequestStatus.RECEIVED)
+                .category("AUTO")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .history(new ArrayList<>())
+                .build();
+        PolicyRequestEntity cancelled = PolicyRequestEntity.builder()
+                .id(cancelledId)
+                .status(RequestStatus.CANCELLED)
+                .category("AUTO")
+                .insuredAmount(BigDecimal.valueOf(100_000))
+                .history(new ArrayList<>())
+                .build();
+        Map<UUID, RiskClassification> classifications = Map.of(
+                receivedId, RiskClassification.REGULAR,
+                cancelledId, RiskClassification.REGULAR);
+
+        when(repository.fetchHistory(classifications.keySet())).thenReturn(List.of(received, cancelled));
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
+        List<PolicyRequestEntity> result = useCase.applyAnalyses(classifications);
 
+        assertEquals(List.of(received), result);
+        assertEquals(RequestStatus.VALIDATED, received.getStatus());
+        assertEquals(RequestStatus.CANCELLED, cancelled.getStatus());
+        verify(eventPublisher).publishPolicyEvents(result);
+        verifyNoInteractions(fraudApiClient);
+    }
 }
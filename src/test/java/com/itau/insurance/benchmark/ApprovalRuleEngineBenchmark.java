@@ -0,0 +1,115 @@
+package com.itau.insurance.benchmark;
+
+import com.itau.insurance.application.rules.ApprovalRuleEngine;
+import com.itau.insurance.config.ApprovalRulesProperties;
+import com.itau.insurance.domain.enums.RiskClassification;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a decisão de aprovação do {@link ApprovalRuleEngine} com o switch que existia em
+ * {@code ValidatePolicyUseCase.shouldApprove} (reproduzido abaixo), sobre uma mistura de categorias e classificações.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.itau.insurance.benchmark.ApprovalRuleEngineBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApprovalRuleEngineBenchmark {
+
+    private static final String[] CATEGORIES = {"VIDA", "AUTO", "RESIDENCIAL", "EMPRESARIAL"};
+    private static final long[] AMOUNTS = {50_000, 140_000, 300_000, 420_000, 900_000};
+
+    /** UPPER: categorias como os canais enviam hoje; MIXED: grafias variadas, que exigem a comparação sem caixa. */
+    @Param({"UPPER", "MIXED"})
+    private String casing;
+
+    private ApprovalRuleEngine engine;
+    private String[] categories;
+    private BigDecimal[] amounts;
+    private RiskClassification[] classifications;
+
+    @Setup
+    public void setUp() {
+        engine = new ApprovalRuleEngine(new ApprovalRulesProperties());
+
+        int size = CATEGORIES.length * AMOUNTS.length * RiskClassification.values().length;
+        categories = new String[size];
+        amounts = new BigDecimal[size];
+        classifications = new RiskClassification[size];
+
+        int i = 0;
+        for (String category : CATEGORIES) {
+            for (long amount : AMOUNTS) {
+                for (RiskClassification classification : RiskClassification.values()) {
+                    // cópias novas, como chegam do JSON a cada requisição
+                    categories[i] = "MIXED".equals(casing) && i % 2 == 0
+                            ? category.charAt(0) + category.substring(1).toLowerCase()
+                            : new String(category);
+                    amounts[i] = new BigDecimal(Long.toString(amount));
+                    classifications[i] = classification;
+                    i++;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacySwitch(Blackhole blackhole) {
+        for (int i = 0; i < categories.length; i++) {
+            blackhole.consume(legacyShouldApprove(classifications[i], categories[i], amounts[i]));
+        }
+    }
+
+    @Benchmark
+    public void ruleEngine(Blackhole blackhole) {
+        for (int i = 0; i < categories.length; i++) {
+            blackhole.consume(engine.shouldApprove(classifications[i], categories[i], amounts[i]));
+        }
+    }
+
+    private static boolean legacyShouldApprove(RiskClassification classification, String rawCategory, BigDecimal value) {
+        String category = rawCategory.toUpperCase();
+
+        return switch (classification) {
+            case REGULAR -> switch (category) {
+                case "VIDA", "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(500_000)) <= 0;
+                case "AUTO" -> value.compareTo(BigDecimal.valueOf(350_000)) <= 0;
+                default -> value.compareTo(BigDecimal.valueOf(255_000)) <= 0;
+            };
+            case HIGH_RISK -> switch (category) {
+                case "AUTO" -> value.compareTo(BigDecimal.valueOf(250_000)) <= 0;
+                case "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(150_000)) <= 0;
+                default -> value.compareTo(BigDecimal.valueOf(125_000)) <= 0;
+            };
+            case PREFERENTIAL -> switch (category) {
+                case "VIDA" -> value.compareTo(BigDecimal.valueOf(800_000)) <= 0;
+                case "AUTO", "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(450_000)) <= 0;
+                default -> value.compareTo(BigDecimal.valueOf(375_000)) <= 0;
+            };
+            case NO_INFORMATION -> switch (category) {
+                case "VIDA", "RESIDENCIAL" -> value.compareTo(BigDecimal.valueOf(200_000)) <= 0;
+                case "AUTO" -> value.compareTo(BigDecimal.valueOf(75_000)) <= 0;
+                default -> value.compareTo(BigDecimal.valueOf(55_000)) <= 0;
+            };
+        };
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ApprovalRuleEngineBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
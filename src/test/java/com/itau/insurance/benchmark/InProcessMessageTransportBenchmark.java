@@ -0,0 +1,80 @@
+package com.itau.insurance.benchmark;
+
+import com.itau.insurance.infrastructure.messaging.transport.InProcessMessageTransport;
+import com.itau.insurance.infrastructure.messaging.transport.TransportMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Vazão do transporte em memória, sem broker: cada operação publica um lote de comandos e aguarda a thread
+ * consumidora entregá-lo a um listener vazio, ou seja, mede publicação + entrega de ponta a ponta.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.itau.insurance.benchmark.InProcessMessageTransportBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InProcessMessageTransportBenchmark {
+
+    private static final String ROUTING_KEY = "policy.status.updated";
+
+    @Param({"1", "200"})
+    private int batchSize;
+
+    private final AtomicLong delivered = new AtomicLong();
+    private InProcessMessageTransport transport;
+    private List<TransportMessage> batch;
+    private long expected;
+
+    @Setup
+    public void setUp() {
+        transport = new InProcessMessageTransport(8192, 100, 1, 0, (messages, cause) -> { });
+        transport.subscribeBatch(ROUTING_KEY, messages -> delivered.addAndGet(messages.size()));
+        transport.start();
+
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new TransportMessage("policy.exchange", ROUTING_KEY, new Message(new byte[34], new MessageProperties())));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        transport.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(200)
+    public long publishAndDeliver() {
+        // normaliza para mensagens/s: 200 mensagens por operação, em lotes de batchSize
+        for (int published = 0; published < 200; published += batchSize) {
+            transport.publish(batch);
+        }
+        expected += 200;
+        while (delivered.get() < expected) {
+            LockSupport.parkNanos(1_000);
+        }
+        return expected;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(InProcessMessageTransportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,158 @@
+package com.itau.insurance.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.InsurancePolicyServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Teste de carga da ingestão de apólices: {@code load.requests} apólices criadas uma a uma
+ * (POST /policies, {@code load.concurrency} em voo) contra as mesmas apólices enviadas em lotes de
+ * {@code load.batch-size} (POST /policies/batch, também com {@code load.concurrency} lotes em voo).
+ * A aplicação sobe sem broker (profile in-process) e, por padrão, com H2 em memória; {@code load.datasource-url},
+ * {@code load.datasource-username} e {@code load.datasource-password} apontam para outro banco (ex.: PostgreSQL),
+ * onde o ganho do lote cresce com a latência de rede de cada ida ao banco.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.itau.insurance.benchmark.PolicyIngestionLoadTest \
+ *     -Dload.requests=20000 -Dload.concurrency=32 -Dload.batch-size=500
+ * </pre>
+ */
+public class PolicyIngestionLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int requests = Integer.getInteger("load.requests", 20_000);
+        int warmup = Integer.getInteger("load.warmup", 5_000);
+        int concurrency = Integer.getInteger("load.concurrency", 32);
+        int batchSize = Integer.getInteger("load.batch-size", 500);
+        String url = System.getProperty("load.datasource-url", "jdbc:h2:mem:ingestion;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        String driver = url.startsWith("jdbc:h2:") ? "org.h2.Driver" : "org.postgresql.Driver";
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InsurancePolicyServiceApplication.class)
+                .profiles("in-process")
+                .run(arguments(Map.ofEntries(
+                        Map.entry("server.port", "0"),
+                        Map.entry("spring.datasource.url", url),
+                        Map.entry("spring.datasource.driver-class-name", driver),
+                        Map.entry("spring.datasource.username", System.getProperty("load.datasource-username", "sa")),
+                        Map.entry("spring.datasource.password", System.getProperty("load.datasource-password", "")),
+                        Map.entry("spring.jpa.show-sql", "false"),
+                        Map.entry("logging.level.root", "WARN"),
+                        Map.entry("policy.batch.chunk-size", String.valueOf(batchSize)))))) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+            fire(client, singleRequests(baseUrl, warmup), concurrency);
+            fire(client, batchRequests(baseUrl, warmup, batchSize), concurrency);
+
+            long start = System.nanoTime();
+            int singleFailures = fire(client, singleRequests(baseUrl, requests), concurrency);
+            double single = (System.nanoTime() - start) / 1e9;
+
+            start = System.nanoTime();
+            int batchFailures = fire(client, batchRequests(baseUrl, requests, batchSize), concurrency);
+            double batch = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("unitário: %d apólices em %.2fs (%.0f apólices/s), falhas %d%n",
+                    requests, single, requests / single, singleFailures);
+            System.out.printf("lote %d : %d apólices em %.2fs (%.0f apólices/s), falhas %d%n",
+                    batchSize, requests, batch, requests / batch, batchFailures);
+            System.out.printf("ganho   : %.1fx%n", single / batch);
+        }
+    }
+
+    // Argumentos de linha de comando: precedem o application.yml, ao contrário das default properties
+    private static String[] arguments(Map<String, String> properties) {
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static List<HttpRequest> singleRequests(String baseUrl, int count) {
+        List<HttpRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(post(baseUrl + "/policies", policy()));
+        }
+        return requests;
+    }
+
+    private static List<HttpRequest> batchRequests(String baseUrl, int count, int batchSize) {
+        List<HttpRequest> requests = new ArrayList<>();
+        for (int sent = 0; sent < count; sent += batchSize) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < Math.min(batchSize, count - sent); i++) {
+                body.append(i == 0 ? "" : ",").append(policy());
+            }
+            requests.add(post(baseUrl + "/policies/batch", body.append(']').toString()));
+        }
+        return requests;
+    }
+
+    private static String policy() {
+        return """
+                {"customerId":"%s","productId":"%s","category":"AUTO","salesChannel":"MOBILE",
+                 "paymentMethod":"CREDIT_CARD","totalMonthlyPremiumAmount":75.25,"insuredAmount":100000,
+                 "coverages":{"Roubo":100000},"assistances":["Guincho até 250km"]}
+                """.formatted(UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    private static HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static int fire(HttpClient client, List<HttpRequest> requests, int concurrency) throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(requests.size());
+            for (HttpRequest request : requests) {
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() >= 300 || hasItemErrors(response)) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return failures.get();
+    }
+
+    private static boolean hasItemErrors(HttpResponse<String> response) throws Exception {
+        return response.request().uri().getPath().endsWith("/batch")
+                && MAPPER.readTree(response.body()).path("failed").asInt() > 0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.itau.insurance.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.messaging.codec.BinaryPolicyMessageCodec;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodec;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara os codecs JSON e binário das mensagens de apólice: ns/op de codificação e decodificação
+ * (comando e evento) e, no início da execução, bytes por mensagem.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.itau.insurance.benchmark.PolicyMessageCodecBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyMessageCodecBenchmark {
+
+    @Param({"application/json", BinaryPolicyMessageCodec.CONTENT_TYPE})
+    private String contentType;
+
+    private PolicyMessageCodec codec;
+    private PolicyStatusUpdateRequestDTO command;
+    private PolicyStatusEventDTO event;
+    private byte[] encodedCommand;
+    private byte[] encodedEvent;
+
+    @Setup
+    public void setUp() {
+        codec = codecs().forContentType(contentType);
+        command = sampleCommand();
+        event = sampleEvent();
+        encodedCommand = codec.encodeCommand(command);
+        encodedEvent = codec.encodeEvent(event);
+    }
+
+    @Benchmark
+    public byte[] encodeCommand() {
+        return codec.encodeCommand(command);
+    }
+
+    @Benchmark
+    public PolicyStatusUpdateRequestDTO decodeCommand() {
+        return codec.decodeCommand(encodedCommand);
+    }
+
+    @Benchmark
+    public byte[] encodeEvent() {
+        return codec.encodeEvent(event);
+    }
+
+    @Benchmark
+    public PolicyStatusEventDTO decodeEvent() {
+        return codec.decodeEvent(encodedEvent);
+    }
+
+    // mesmo ObjectMapper que o Spring Boot configura (datas ISO-8601)
+    private static PolicyMessageCodecs codecs() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new PolicyMessageCodecs(objectMapper, "json");
+    }
+
+    private static PolicyStatusUpdateRequestDTO sampleCommand() {
+        PolicyStatusUpdateRequestDTO command = new PolicyStatusUpdateRequestDTO();
+        command.setPolicyId(UUID.randomUUID());
+        command.setPaymentConfirmed(true);
+        command.setSubscriptionAuthorized(true);
+        return command;
+    }
+
+    private static PolicyStatusEventDTO sampleEvent() {
+        return PolicyStatusEventDTO.builder()
+                .policyId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .status(RequestStatus.APPROVED)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        PolicyMessageCodecs codecs = codecs();
+        for (String type : new String[]{"application/json", BinaryPolicyMessageCodec.CONTENT_TYPE}) {
+            PolicyMessageCodec codec = codecs.forContentType(type);
+            System.out.printf("%-40s comando: %3d bytes, evento: %3d bytes%n", type,
+                    codec.encodeCommand(sampleCommand()).length, codec.encodeEvent(sampleEvent()).length);
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(PolicyMessageCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
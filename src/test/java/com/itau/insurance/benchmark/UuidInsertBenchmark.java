@@ -0,0 +1,85 @@
+package com.itau.insurance.benchmark;
+
+import com.itau.insurance.infrastructure.persistence.generator.UuidV7Generator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compara vazão de inserção e tamanho do índice de chave primária no Postgres entre
+ * UUID v4 (aleatório, gerador anterior) e UUIDv7 ({@link UuidV7Generator}).
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.itau.insurance.benchmark.UuidInsertBenchmark \
+ *     -Dbench.url=jdbc:postgresql://localhost:5432/insurance -Dbench.rows=1000000
+ * </pre>
+ */
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("bench.url", "jdbc:postgresql://localhost:5432/insurance");
+        String user = System.getProperty("bench.user", "postgres");
+        String password = System.getProperty("bench.password", "postgres");
+        int rows = Integer.getInteger("bench.rows", 1_000_000);
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            connection.setAutoCommit(false);
+
+            run(connection, "bench_uuid_v4", rows, UUID::randomUUID);
+            run(connection, "bench_uuid_v7", rows, UuidV7Generator::nextUuid);
+        }
+    }
+
+    private static void run(Connection connection, String table, int rows, Supplier<UUID> generator) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, created_at timestamp NOT NULL DEFAULT now())");
+            statement.execute("CHECKPOINT");
+            connection.commit();
+        }
+
+        long walBefore = currentWalLsn(connection);
+        long start = System.nanoTime();
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id) VALUES (?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, generator.get());
+                insert.addBatch();
+
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long walBytes = currentWalLsn(connection) - walBefore;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            System.out.printf("%s: %d linhas em %.2fs (%.0f linhas/s), índice PK %.1f MB, WAL %.1f MB%n",
+                    table, rows, seconds, rows / seconds, rs.getLong(1) / 1_048_576.0, walBytes / 1_048_576.0);
+        }
+        connection.commit();
+    }
+
+    private static long currentWalLsn(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn() - '0/0'::pg_lsn")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
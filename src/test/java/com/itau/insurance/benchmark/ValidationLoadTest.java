@@ -0,0 +1,208 @@
+package com.itau.insurance.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.InsurancePolicyServiceApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Teste de carga da validação (POST /policies/{id}/validate) em três modos: pilha servlet com threads de
+ * plataforma, com threads virtuais (profile virtual-threads) e pilha reativa com R2DBC (profile reactive).
+ * A API de fraude é um stub local que responde após {@code load.fraud-delay-ms}; a aplicação sobe uma vez por
+ * modo ({@code load.modes}), sem broker (profile in-process) e com H2 em memória, e cada rodada dispara
+ * {@code load.requests} validações com {@code load.concurrency} em voo.
+ * O bulkhead, o pool de conexões e os timeouts da API de fraude são ampliados para não limitarem a comparação
+ * (sem isso, o circuito abre sob saturação e o fallback mascara a latência).
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.itau.insurance.benchmark.ValidationLoadTest \
+ *     -Dload.fraud-delay-ms=100 -Dload.concurrency=400 -Dload.requests=4000
+ * </pre>
+ */
+public class ValidationLoadTest {
+
+    private static final int CREATE_CHUNK = 500;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        long fraudDelayMs = Long.getLong("load.fraud-delay-ms", 100);
+        int concurrency = Integer.getInteger("load.concurrency", 400);
+        int requests = Integer.getInteger("load.requests", 4_000);
+        int warmup = Integer.getInteger("load.warmup", 1_000);
+        String[] modes = System.getProperty("load.modes", "platform,virtual,reactive").split(",");
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        HttpServer fraudApi = fraudApiStub(fraudDelayMs);
+        try {
+            for (String mode : modes) {
+                run(mode, fraudApi.getAddress().getPort(), concurrency, requests, warmup);
+            }
+        } finally {
+            fraudApi.stop(0);
+        }
+    }
+
+    private static void run(String mode, int fraudApiPort, int concurrency, int requests, int warmup) throws Exception {
+        List<String> profiles = new ArrayList<>(List.of("in-process"));
+        switch (mode) {
+            case "virtual" -> profiles.add("virtual-threads");
+            case "reactive" -> profiles.add("reactive");
+            default -> { }
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InsurancePolicyServiceApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run(arguments(Map.ofEntries(
+                        Map.entry("server.port", "0"),
+                        Map.entry("spring.datasource.url", "jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"),
+                        Map.entry("spring.datasource.driver-class-name", "org.h2.Driver"),
+                        Map.entry("spring.datasource.username", "sa"),
+                        Map.entry("spring.datasource.password", ""),
+                        Map.entry("spring.r2dbc.url", "r2dbc:h2:mem:///load-" + mode + ";DB_CLOSE_DELAY=-1"),
+                        Map.entry("spring.r2dbc.username", "sa"),
+                        Map.entry("spring.r2dbc.password", ""),
+                        Map.entry("spring.jpa.show-sql", "false"),
+                        Map.entry("logging.level.root", "WARN"),
+                        Map.entry("external.fraud-api.base-url", "http://localhost:" + fraudApiPort),
+                        Map.entry("external.fraud-api.max-connections", String.valueOf(concurrency * 2)),
+                        Map.entry("external.fraud-api.pending-acquire-timeout", "30s"),
+                        Map.entry("external.fraud-api.response-timeout", "30s"),
+                        Map.entry("external.fraud-api.call-timeout", "30s"),
+                        Map.entry("resilience4j.circuitbreaker.instances.fraudApi.slow-call-duration-threshold", "30s"),
+                        Map.entry("resilience4j.bulkhead.instances.fraudApi.max-concurrent-calls", String.valueOf(concurrency * 2)))))) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+            List<UUID> ids = createPolicies(client, baseUrl, warmup + requests);
+            fire(client, baseUrl, ids.subList(0, warmup), concurrency);
+
+            long start = System.nanoTime();
+            Result result = fire(client, baseUrl, ids.subList(warmup, ids.size()), concurrency);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%-8s: %d validações em %.2fs (%.0f req/s), p50 %.1f ms, p99 %.1f ms, falhas %d%n",
+                    mode, requests, seconds, requests / seconds,
+                    result.percentile(0.50), result.percentile(0.99), result.failures());
+        }
+    }
+
+    // Argumentos de linha de comando: precedem o application.yml, ao contrário das default properties
+    private static String[] arguments(Map<String, String> properties) {
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static List<UUID> createPolicies(HttpClient client, String baseUrl, int count) throws Exception {
+        List<UUID> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < Math.min(CREATE_CHUNK, count - ids.size()); i++) {
+                body.append(i == 0 ? "" : ",").append("""
+                        {"customerId":"%s","productId":"%s","category":"AUTO","salesChannel":"MOBILE",
+                         "paymentMethod":"CREDIT_CARD","totalMonthlyPremiumAmount":75.25,"insuredAmount":100000,
+                         "coverages":{"Roubo":100000},"assistances":["Guincho até 250km"]}
+                        """.formatted(UUID.randomUUID(), UUID.randomUUID()));
+            }
+            body.append(']');
+
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/policies/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            for (JsonNode item : MAPPER.readTree(response.body()).path("items")) {
+                ids.add(UUID.fromString(item.path("id").asText()));
+            }
+        }
+        return ids;
+    }
+
+    private static Result fire(HttpClient client, String baseUrl, List<UUID> ids, int concurrency) throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[ids.size()];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                int index = i;
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/policies/" + ids.get(i) + "/validate"))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - start;
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new Result(latencies, failures.get());
+    }
+
+    private static HttpServer fraudApiStub(long delayMs) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 4_096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/fraud/", exchange -> {
+            String id = exchange.getRequestURI().getPath().substring("/fraud/".length());
+            byte[] body = """
+                    {"orderId":"%s","customerId":"%s","analyzedAt":"2024-05-10T12:00:00",
+                     "classification":"REGULAR","occurrences":[]}
+                    """.formatted(id, UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private record Result(long[] latencies, int failures) {
+
+        double percentile(double p) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1e6;
+        }
+    }
+}
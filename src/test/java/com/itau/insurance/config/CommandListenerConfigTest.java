@@ -0,0 +1,63 @@
+package com.itau.insurance.config;
+
+import com.itau.insurance.infrastructure.messaging.CommandShardRouter;
+import com.itau.insurance.infrastructure.messaging.EventConsumer;
+import com.itau.insurance.infrastructure.messaging.PolicyCommandShards;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CommandListenerConfigTest {
+
+    @Test
+    void deveIniciarFilaSemShardsComOMinimoDeConsumidoresDoAjusteAdaptativo() {
+        MessagingProperties properties = new MessagingProperties();
+        properties.getConsumer().getAdaptive().setEnabled(true);
+        properties.getConsumer().getAdaptive().setMinConsumers(3);
+
+        assertEquals(Map.of("policy-commands-policy.queue", "3"), concurrencies(properties));
+    }
+
+    @Test
+    void deveManterUmConsumidorPorShardERoteador() {
+        MessagingProperties properties = new MessagingProperties();
+        properties.getCommands().setShards(2);
+        properties.getConsumer().getAdaptive().setEnabled(true);
+        properties.getConsumer().getAdaptive().setMinConsumers(3);
+
+        assertEquals(Map.of(
+                "policy-commands-policy.queue.shard-0", "1",
+                "policy-commands-policy.queue.shard-1", "1",
+                "policy-commands-router", "1",
+                "policy-commands-router-legacy", "1"), concurrencies(properties));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> concurrencies(MessagingProperties properties) {
+        ObjectProvider<EventConsumer> eventConsumer = mock(ObjectProvider.class);
+        when(eventConsumer.getObject()).thenReturn(mock(EventConsumer.class));
+        BeanFactory beanFactory = mock(BeanFactory.class);
+        when(beanFactory.getBean(any(String.class), eq(RabbitListenerContainerFactory.class)))
+                .thenReturn(mock(RabbitListenerContainerFactory.class));
+        RabbitListenerEndpointRegistrar registrar = mock(RabbitListenerEndpointRegistrar.class);
+
+        new CommandListenerConfig(new PolicyCommandShards(properties), properties, mock(CommandShardRouter.class),
+                eventConsumer, mock(ObjectProvider.class), beanFactory).configureRabbitListeners(registrar);
+
+        ArgumentCaptor<SimpleRabbitListenerEndpoint> endpoints = ArgumentCaptor.forClass(SimpleRabbitListenerEndpoint.class);
+        verify(registrar, atLeastOnce()).registerEndpoint(endpoints.capture(), any());
+        return endpoints.getAllValues().stream()
+                .collect(Collectors.toMap(SimpleRabbitListenerEndpoint::getId, SimpleRabbitListenerEndpoint::getConcurrency));
+    }
+}
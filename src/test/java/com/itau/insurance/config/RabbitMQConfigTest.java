@@ -0,0 +1,82 @@
+package com.itau.insurance.config;
+
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import com.itau.insurance.infrastructure.messaging.PolicyCommandShards;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.RabbitRetryTemplateCustomizer;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RabbitMQConfigTest {
+
+    @Test
+    void naoDeveRepetirFalhaPermanenteDoListener() {
+        AtomicInteger attempts = run(new ListenerExecutionFailedException("falha no listener",
+                new PolicyNotFoundException(UUID.randomUUID())));
+
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void deveRepetirFalhaTransitoriaAteOLimite() {
+        AtomicInteger attempts = run(new ListenerExecutionFailedException("falha no listener",
+                new IllegalStateException("banco indisponível")));
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void deveDeclararPortaDeEntradaComSingleActiveConsumerQuandoHouverSharding() {
+        MessagingProperties properties = new MessagingProperties();
+        properties.getCommands().setShards(4);
+        RabbitMQConfig config = new RabbitMQConfig();
+
+        Declarables declarables = config.commandIngress(config.policyQueue(properties), config.policyExchange(properties),
+                new PolicyCommandShards(properties), properties);
+
+        Queue ingress = declarables.getDeclarablesByType(Queue.class).get(0);
+        assertEquals("policy.queue.ingress", ingress.getName());
+        assertEquals(true, ingress.getArguments().get("x-single-active-consumer"));
+        Binding binding = declarables.getDeclarablesByType(Binding.class).get(0);
+        assertEquals("policy.queue.ingress", binding.getDestination());
+        assertEquals("policy.status.updated", binding.getRoutingKey());
+    }
+
+    @Test
+    void deveLigarAFilaDeComandosSemShardingSemRedeclaraLa() {
+        MessagingProperties properties = new MessagingProperties();
+        RabbitMQConfig config = new RabbitMQConfig();
+
+        Declarables declarables = config.commandIngress(config.policyQueue(properties), config.policyExchange(properties),
+                new PolicyCommandShards(properties), properties);
+
+        assertTrue(declarables.getDeclarablesByType(Queue.class).isEmpty());
+        Binding binding = declarables.getDeclarablesByType(Binding.class).get(0);
+        assertEquals("policy.queue", binding.getDestination());
+        assertEquals("policy.status.updated", binding.getRoutingKey());
+    }
+
+    private static AtomicInteger run(RuntimeException failure) {
+        RetryTemplate retryTemplate = new RetryTemplate();
+        new RabbitMQConfig().nonRetryableFailuresCustomizer(new RabbitProperties())
+                .customize(RabbitRetryTemplateCustomizer.Target.LISTENER, retryTemplate);
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = retryTemplate.execute(context -> {
+            attempts.incrementAndGet();
+            throw failure;
+        }, context -> "recuperado");
+
+        assertEquals("recuperado", result);
+        return attempts;
+    }
+}
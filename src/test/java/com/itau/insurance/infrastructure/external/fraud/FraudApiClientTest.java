@@ -0,0 +1,114 @@
+package com.itau.insurance.infrastructure.external.fraud;
+
+import com.itau.insurance.domain.enums.RiskClassification;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FraudApiClientTest {
+
+    private AtomicInteger requests;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private FraudApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        requests = new AtomicInteger();
+        meterRegistry = new SimpleMeterRegistry();
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(100)).thenReturn(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"classification\":\"REGULAR\"}")
+                            .build());
+                })
+                .build();
+
+        client = newClient(webClient, true);
+    }
+
+    @Test
+    void deveAgruparChamadasConcorrentesParaAMesmaApolice() {
+        UUID policyId = UUID.randomUUID();
+
+        List<FraudAnalysisResponse> responses = Flux.range(0, 10)
+                .flatMap(i -> client.analyzeAsync(policyId))
+                .collectList()
+                .block();
+
+        assertEquals(10, responses.size());
+        assertEquals(1, requests.get());
+        assertEquals(1.0, meterRegistry.counter("fraud.api.upstream.calls").count());
+    }
+
+    @Test
+    void deveReaproveitarResultadoDentroDoTtl() {
+        UUID policyId = UUID.randomUUID();
+
+        client.analyze(policyId);
+        FraudAnalysisResponse cached = client.analyze(policyId);
+        client.analyze(UUID.randomUUID());
+
+        assertNotNull(cached);
+        assertEquals(2, requests.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void deveClassificarComoNoInformationQuandoCircuitoEstiverAberto() {
+        circuitBreakerRegistry.circuitBreaker(FraudApiClient.RESILIENCE_INSTANCE).transitionToOpenState();
+
+        FraudAnalysisResponse response = client.analyze(UUID.randomUUID());
+
+        assertEquals(RiskClassification.NO_INFORMATION, response.getClassification());
+        assertEquals(0, requests.get());
+        assertEquals(1.0, meterRegistry.counter("fraud.api.fallbacks").count());
+    }
+
+    @Test
+    void devePropagarErroComCircuitoAbertoQuandoFallbackDesabilitado() {
+        client = newClient(WebClient.create(), false);
+        circuitBreakerRegistry.circuitBreaker(FraudApiClient.RESILIENCE_INSTANCE).transitionToOpenState();
+
+        assertThrows(CallNotPermittedException.class, () -> client.analyze(UUID.randomUUID()));
+    }
+
+    @Test
+    void deveFalharPorTimeoutQuandoApiNaoResponder() {
+        WebClient slow = WebClient.builder()
+                .exchangeFunction(request -> Mono.never())
+                .build();
+        client = new FraudApiClient(slow, meterRegistry, circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                "http://fraud", Duration.ofMillis(50), true, Duration.ofMinutes(1), 100);
+
+        assertThrows(RuntimeException.class, () -> client.analyze(UUID.randomUUID()));
+        assertEquals(1, circuitBreakerRegistry.circuitBreaker(FraudApiClient.RESILIENCE_INSTANCE)
+                .getMetrics().getNumberOfFailedCalls());
+    }
+
+    private FraudApiClient newClient(WebClient webClient, boolean fallbackEnabled) {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        return new FraudApiClient(webClient, meterRegistry, circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                "http://fraud", Duration.ofSeconds(5), fallbackEnabled, Duration.ofMinutes(1), 100);
+    }
+}
@@ -0,0 +1,83 @@
+package com.itau.insurance.infrastructure.idempotency;
+
+import com.itau.insurance.infrastructure.persistence.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProcessedEventRegistryTest {
+
+    private ProcessedEventRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProcessedEventRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void deveReconhecerDuplicataEmMemoriaSemConsultarBanco() {
+        ProcessedEventRegistry registry = registry(false);
+
+        assertFalse(registry.isDuplicate("evt-1", ProcessedEventRegistry.SOURCE_AMQP));
+        registry.markProcessed("evt-1");
+
+        assertTrue(registry.isDuplicate("evt-1", ProcessedEventRegistry.SOURCE_AMQP));
+        assertEquals(1.0, meterRegistry.counter("policy.events.duplicates", "source", "amqp").count());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveTratarEventoSemIdComoNovo() {
+        ProcessedEventRegistry registry = registry(true);
+
+        registry.markProcessed(null);
+
+        assertFalse(registry.isDuplicate(null, ProcessedEventRegistry.SOURCE_HTTP));
+        assertFalse(registry.isDuplicate(" ", ProcessedEventRegistry.SOURCE_HTTP));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveConsultarTabelaApenasQuandoIdNaoEstiverEmMemoria() {
+        ProcessedEventRegistry registry = registry(true);
+        when(repository.existsById("evt-antigo")).thenReturn(true);
+
+        assertTrue(registry.isDuplicate("evt-antigo", ProcessedEventRegistry.SOURCE_AMQP));
+        assertTrue(registry.isDuplicate("evt-antigo", ProcessedEventRegistry.SOURCE_AMQP));
+
+        verify(repository, times(1)).existsById("evt-antigo");
+    }
+
+    @Test
+    void deveGravarIdProcessadoQuandoPersistenciaHabilitada() {
+        ProcessedEventRegistry registry = registry(true);
+
+        registry.markProcessed("evt-2");
+
+        verify(repository).insertIgnoringDuplicate(eq("evt-2"), any(LocalDateTime.class));
+        assertTrue(registry.isDuplicate("evt-2", ProcessedEventRegistry.SOURCE_HTTP));
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    void deveIgnorarExpurgoQuandoPersistenciaDesabilitada() {
+        registry(false).purgeExpired();
+        registry(true).purgeExpired();
+
+        verify(repository, times(1)).deleteProcessedBefore(any(LocalDateTime.class));
+    }
+
+    private ProcessedEventRegistry registry(boolean persistenceEnabled) {
+        return new ProcessedEventRegistry(repository, meterRegistry, Duration.ofMinutes(10), 1_000,
+                persistenceEnabled, Duration.ofDays(7));
+    }
+}
@@ -0,0 +1,139 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.config.MessagingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AdaptiveConsumerControllerTest {
+
+    private RabbitListenerEndpointRegistry registry;
+    private AmqpAdmin amqpAdmin;
+    private SimpleMessageListenerContainer container;
+    private StatusUpdateLatency latency;
+    private SimpleMeterRegistry meterRegistry;
+    private MessagingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(RabbitListenerEndpointRegistry.class);
+        amqpAdmin = mock(AmqpAdmin.class);
+        container = mock(SimpleMessageListenerContainer.class);
+        meterRegistry = new SimpleMeterRegistry();
+        latency = new StatusUpdateLatency(meterRegistry);
+
+        properties = new MessagingProperties();
+        MessagingProperties.Adaptive adaptive = properties.getConsumer().getAdaptive();
+        adaptive.setTargetLatencyMs(20);
+        adaptive.setBacklogThreshold(100);
+        adaptive.setMinPrefetch(10);
+        adaptive.setMaxPrefetch(400);
+        adaptive.setMinConsumers(1);
+        adaptive.setMaxConsumers(4);
+        adaptive.setRestartCooldownMs(0);
+
+        when(registry.getListenerContainer("policy-commands-policy.queue")).thenReturn(container);
+        when(container.isRunning()).thenReturn(true);
+    }
+
+    @Test
+    void deveReduzirPrefetchQuandoLatenciaPassarDoAlvo() {
+        AdaptiveConsumerController controller = controller(1, 100);
+        latency.record(50_000_000L * 10, 10);
+        queueDepth(5000);
+
+        controller.adjust();
+
+        assertEquals(50, controller.prefetch());
+        verify(container).setPrefetchCount(50);
+        verify(container).setBatchSize(50);
+        verify(container).stop();
+        verify(container).start();
+        assertEquals(1.0, meterRegistry.counter("messaging.consumer.adaptive.adjustments", "reason", "latency").count());
+        assertEquals(50.0, meterRegistry.get("messaging.consumer.adaptive.latency").gauge().value(), 0.001);
+    }
+
+    @Test
+    void deveAmpliarPrefetchEConsumidoresComBacklogELatenciaSaudavel() {
+        AdaptiveConsumerController controller = controller(1, 100);
+        latency.record(2_000_000L * 10, 10);
+        queueDepth(5000);
+
+        controller.adjust();
+
+        assertEquals(200, controller.prefetch());
+        assertEquals(2, controller.consumers());
+        verify(container).setMaxConcurrentConsumers(2);
+        verify(container).setConcurrentConsumers(2);
+        verify(container).setBatchSize(100);
+        assertEquals(5000.0, meterRegistry.get("messaging.consumer.adaptive.queue.depth").gauge().value());
+    }
+
+    @Test
+    void deveRespeitarLimitesEManterUmConsumidorPorShard() {
+        properties.getCommands().setShards(2);
+        when(registry.getListenerContainer(startsWith("policy-commands-policy.queue.shard-"))).thenReturn(container);
+        AdaptiveConsumerController controller = controller(2, 0);
+        queueDepth(5000);
+
+        for (int i = 0; i < 5; i++) {
+            controller.adjust();
+        }
+
+        assertEquals(400, controller.prefetch());
+        assertEquals(1, controller.consumers());
+        verify(container, never()).setConcurrentConsumers(anyInt());
+        verify(container, never()).setBatchSize(anyInt());
+    }
+
+    @Test
+    void naoDeveReiniciarContainersDentroDoCooldown() {
+        properties.getConsumer().getAdaptive().setRestartCooldownMs(60_000);
+        AdaptiveConsumerController controller = controller(1, 100);
+        queueDepth(5000);
+
+        controller.adjust();
+        controller.adjust();
+
+        assertEquals(200, controller.prefetch());
+        verify(container, times(1)).stop();
+    }
+
+    @Test
+    void deveManterConfiguracaoSemBacklogNemLentidao() {
+        AdaptiveConsumerController controller = controller(1, 100);
+        latency.record(5_000_000L, 1);
+        queueDepth(10);
+
+        controller.adjust();
+
+        assertEquals(100, controller.prefetch());
+        verify(container, never()).setPrefetchCount(anyInt());
+        verify(container, never()).stop();
+    }
+
+    private AdaptiveConsumerController controller(int shards, int batchSize) {
+        properties.getCommands().setShards(shards);
+        AdaptiveConsumerController controller = new AdaptiveConsumerController(registry, amqpAdmin,
+                new PolicyCommandShards(properties), properties, latency, meterRegistry, 100, batchSize);
+        controller.registerGauges();
+        return controller;
+    }
+
+    private void queueDepth(int messages) {
+        Properties queueProperties = new Properties();
+        queueProperties.put(RabbitAdmin.QUEUE_MESSAGE_COUNT, messages);
+        when(amqpAdmin.getQueueProperties("policy.queue")).thenReturn(queueProperties);
+        when(amqpAdmin.getQueueProperties(startsWith("policy.queue.shard-"))).thenReturn(new Properties());
+    }
+}
@@ -0,0 +1,114 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.application.usecases.UpdatePolicyStatusUseCase;
+import com.itau.insurance.config.CacheConfig;
+import com.itau.insurance.infrastructure.idempotency.ProcessedEventRegistry;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.infrastructure.persistence.repository.ProcessedEventRepository;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BatchEventConsumerTest {
+
+    private UpdatePolicyStatusUseCase updatePolicyStatusUseCase;
+    private ConcurrentMapCacheManager cacheManager;
+    private DeadLetterRecoverer deadLetterRecoverer;
+    private BatchEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        updatePolicyStatusUseCase = mock(UpdatePolicyStatusUseCase.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.POLICIES_CACHE);
+        deadLetterRecoverer = mock(DeadLetterRecoverer.class);
+        consumer = new BatchEventConsumer(updatePolicyStatusUseCase,
+                new PolicyMessageCodecs(new ObjectMapper(), "json"), cacheManager,
+                new ProcessedEventRegistry(mock(ProcessedEventRepository.class), new SimpleMeterRegistry(),
+                        Duration.ofMinutes(10), 1_000, false, Duration.ofDays(7)),
+                deadLetterRecoverer, new StatusUpdateLatency(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void deveAplicarLoteNumaUnicaChamadaIgnorandoMensagensInvalidas() {
+        UUID policyId = UUID.randomUUID();
+        cacheManager.getCache(CacheConfig.POLICIES_CACHE).put(policyId, "stale");
+
+        consumer.receiveEvents(List.of(
+                message("{\"policyId\":\"" + policyId + "\",\"paymentConfirmed\":false,\"subscriptionAuthorized\":false}"),
+                message("não é json"),
+                message("{\"policyId\":\"" + policyId + "\",\"paymentConfirmed\":true,\"subscriptionAuthorized\":true}")));
+
+        verify(updatePolicyStatusUseCase).executeBatch(argThat(updates -> updates.size() == 2));
+        verify(deadLetterRecoverer).recover(argThat((Message message) ->
+                new String(message.getBody(), StandardCharsets.UTF_8).equals("não é json")), any());
+        assertNull(cacheManager.getCache(CacheConfig.POLICIES_CACHE).get(policyId));
+    }
+
+    @Test
+    void deveReprocessarPorApoliceQuandoLoteFalhar() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        when(updatePolicyStatusUseCase.executeBatch(anyList())).thenAnswer(invocation -> {
+            List<PolicyStatusUpdateRequestDTO> updates = invocation.getArgument(0);
+            if (updates.stream().anyMatch(update -> update.getPolicyId().equals(failing))) {
+                throw new IllegalStateException("falha de gravação");
+            }
+            return List.of();
+        });
+
+        consumer.receiveEvents(List.of(
+                message("{\"policyId\":\"" + failing + "\",\"paymentConfirmed\":true,\"subscriptionAuthorized\":true}"),
+                message("{\"policyId\":\"" + healthy + "\",\"paymentConfirmed\":true,\"subscriptionAuthorized\":false}")));
+
+        verify(updatePolicyStatusUseCase).executeBatch(argThat(updates -> updates.size() == 2));
+        verify(updatePolicyStatusUseCase).executeBatch(argThat(updates ->
+                updates.size() == 1 && updates.get(0).getPolicyId().equals(healthy)));
+        verify(updatePolicyStatusUseCase).executeBatch(argThat(updates ->
+                updates.size() == 1 && updates.get(0).getPolicyId().equals(failing)));
+        verify(deadLetterRecoverer, times(1)).recover(argThat((Message message) ->
+                new String(message.getBody(), StandardCharsets.UTF_8).contains(failing.toString())), any(IllegalStateException.class));
+    }
+
+    @Test
+    void deveDescartarEventosJaProcessadosEReentregasDentroDoLote() {
+        UUID policyId = UUID.randomUUID();
+        String body = "{\"eventId\":\"" + UUID.randomUUID() + "\",\"policyId\":\"" + policyId
+                + "\",\"paymentConfirmed\":true,\"subscriptionAuthorized\":true}";
+
+        consumer.receiveEvents(List.of(message(body), message(body)));
+        consumer.receiveEvents(List.of(message(body)));
+
+        verify(updatePolicyStatusUseCase, times(1)).executeBatch(argThat(updates -> updates.size() == 1));
+        verifyNoMoreInteractions(updatePolicyStatusUseCase);
+    }
+
+    @Test
+    void deveUsarMessageIdQuandoComandoNaoTrouxerEventId() {
+        Message first = message("{\"policyId\":\"" + UUID.randomUUID() + "\",\"paymentConfirmed\":true,\"subscriptionAuthorized\":false}");
+        first.getMessageProperties().setMessageId("msg-1");
+        Message redelivered = new Message(first.getBody(), first.getMessageProperties());
+
+        consumer.receiveEvents(List.of(first));
+        consumer.receiveEvents(List.of(redelivered));
+
+        verify(updatePolicyStatusUseCase, times(1)).executeBatch(anyList());
+    }
+
+    private static Message message(String body) {
+        return new Message(body.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+}
@@ -0,0 +1,111 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.config.MessagingProperties;
+import com.itau.insurance.infrastructure.messaging.codec.BinaryPolicyMessageCodec;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CommandShardRouterTest {
+
+    private PolicyCommandShards shards;
+    private RabbitOperations operations;
+    private CommandShardRouter router;
+
+    @BeforeEach
+    void setUp() {
+        MessagingProperties properties = new MessagingProperties();
+        properties.getCommands().setShards(4);
+        shards = new PolicyCommandShards(properties);
+
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        operations = mock(RabbitOperations.class);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+
+        router = new CommandShardRouter(rabbitTemplate, new PolicyMessageCodecs(new ObjectMapper(), "json"),
+                shards, properties, 1000);
+    }
+
+    @Test
+    void deveEnviarComandosDaMesmaApoliceSempreAoMesmoShard() {
+        UUID policyId = UUID.randomUUID();
+        Message first = json(policyId, false);
+        Message second = binary(policyId);
+
+        router.route(List.of(first, second));
+
+        String expected = "policy.status.updated.shard-" + shards.shardOf(policyId);
+        verify(operations).send("policy.exchange", expected, first);
+        verify(operations).send("policy.exchange", expected, second);
+        verify(operations).waitForConfirmsOrDie(1000);
+    }
+
+    @Test
+    void deveEncaminharMensagemIlegivelAoShardZero() {
+        Message invalid = new Message("não é json".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+
+        assertEquals("policy.status.updated.shard-0", router.routingKeyOf(invalid));
+    }
+
+    @Test
+    void deveDistribuirApolicesEntreTodosOsShards() {
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            int shard = shards.shardOf(UUID.randomUUID());
+            assertTrue(shard >= 0 && shard < 4);
+            used.add(shard);
+        }
+
+        assertEquals(4, used.size());
+        assertEquals(List.of("policy.queue.shard-0", "policy.queue.shard-1", "policy.queue.shard-2", "policy.queue.shard-3"),
+                shards.consumerQueues());
+    }
+
+    @Test
+    void deveConsumirDaFilaDeComandosQuandoNaoHouverSharding() {
+        PolicyCommandShards single = new PolicyCommandShards(new MessagingProperties());
+
+        assertFalse(single.isSharded());
+        assertEquals(List.of("policy.queue"), single.consumerQueues());        assertEquals("policy.queue", single.ingressQueue());
+    }
+
+    @Test
+    void deveUsarPortaDeEntradaPropriaQuandoHouverSharding() {
+        MessagingProperties properties = new MessagingProperties();
+        properties.getCommands().setShards(4);
+
+        assertEquals("policy.queue.ingress", new PolicyCommandShards(properties).ingressQueue());
+    }
+
+    private static Message json(UUID policyId, boolean paymentConfirmed) {
+        String body = "{\"policyId\":\"" + policyId + "\",\"paymentConfirmed\":" + paymentConfirmed + "}";
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private static Message binary(UUID policyId) {
+        PolicyStatusUpdateRequestDTO command = new PolicyStatusUpdateRequestDTO();
+        command.setPolicyId(policyId);
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(BinaryPolicyMessageCodec.CONTENT_TYPE);
+        return new Message(new BinaryPolicyMessageCodec().encodeCommand(command), properties);
+    }
+}
@@ -0,0 +1,34 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DeadLetterRecovererTest {
+
+    @Test
+    void devePublicarNaDlqComTipoDaExcecaoOriginal() {
+        AmqpTemplate template = mock(AmqpTemplate.class);
+        DeadLetterRecoverer recoverer = new DeadLetterRecoverer(template, "policy.dlq");
+        Message message = new Message("{}".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+
+        recoverer.recover(List.of(message), new ListenerExecutionFailedException("falha no listener",
+                new QueryTimeoutException("timeout"), message));
+
+        ArgumentCaptor<Message> published = ArgumentCaptor.forClass(Message.class);
+        verify(template).send(eq(""), eq("policy.dlq"), published.capture());
+        assertEquals(QueryTimeoutException.class.getName(),
+                published.getValue().getMessageProperties().getHeaders().get(DeadLetterRecoverer.EXCEPTION_TYPE_HEADER));
+    }
+}
@@ -0,0 +1,97 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.itau.insurance.config.MessagingProperties;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.infrastructure.persistence.entity.OutboxEventEntity;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
+import com.itau.insurance.infrastructure.persistence.repository.OutboxEventRepository;
+import com.itau.insurance.infrastructure.streaming.PolicyStatusChangedEvent;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventPublisherTest {
+
+    private OutboxEventRepository outboxRepository;
+    private ApplicationEventPublisher applicationEventPublisher;
+    private ObjectMapper objectMapper;
+    private EventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxEventRepository.class);
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        publisher = new EventPublisher(outboxRepository, applicationEventPublisher, new PolicyMessageCodecs(objectMapper, "json"), new MessagingProperties());
+    }
+
+    @Test
+    void deveUsarRoutingKeyPorTransicao() {
+        assertEquals("policy.created", publisher.routingKeyFor(RequestStatus.RECEIVED));
+        assertEquals("policy.validated", publisher.routingKeyFor(RequestStatus.VALIDATED));
+        assertEquals("policy.approved", publisher.routingKeyFor(RequestStatus.APPROVED));
+        assertEquals("policy.cancelled", publisher.routingKeyFor(RequestStatus.CANCELLED));
+    }
+
+    @Test
+    void deveRegistrarEventoDeDominioForaDaRoutingKeyDeComandos() throws Exception {
+        PolicyRequestEntity policy = PolicyRequestEntity.builder()
+                .id(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .status(RequestStatus.APPROVED)
+                .build();
+
+        publisher.publishPolicyEvent(policy);
+
+        ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(outboxRepository).save(captor.capture());
+        OutboxEventEntity outbox = captor.getValue();
+        assertEquals("policy.exchange", outbox.getExchange());
+        assertEquals("policy.approved", outbox.getRoutingKey());
+        assertNotEquals(new MessagingProperties().getCommands().getRoutingKey(), outbox.getRoutingKey());
+
+        PolicyStatusEventDTO event = objectMapper.readValue(outbox.getPayload(), PolicyStatusEventDTO.class);
+        assertEquals(policy.getId(), event.getPolicyId());
+        assertEquals(policy.getCustomerId(), event.getCustomerId());
+        assertEquals(RequestStatus.APPROVED, event.getStatus());
+    }
+
+    @Test
+    void deveAnunciarUltimaTransicaoDoHistoricoParaOsStreams() {
+        LocalDateTime now = LocalDateTime.now();
+        StatusHistoryEntity validated = StatusHistoryEntity.builder()
+                .id(UUID.randomUUID()).status(RequestStatus.VALIDATED).timestamp(now).build();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder()
+                .id(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .status(RequestStatus.VALIDATED)
+                .history(List.of(
+                        StatusHistoryEntity.builder().id(UUID.randomUUID()).status(RequestStatus.RECEIVED).timestamp(now).build(),
+                        validated))
+                .build();
+        PolicyRequestEntity withoutHistory = PolicyRequestEntity.builder().id(UUID.randomUUID()).build();
+
+        publisher.publishPolicyEvents(List.of(policy, withoutHistory));
+
+        ArgumentCaptor<PolicyStatusChangedEvent> captor = ArgumentCaptor.forClass(PolicyStatusChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        PolicyStatusEventDTO change = captor.getValue().changes().get(0);
+        assertEquals(1, captor.getValue().changes().size());
+        assertEquals(validated.getId(), change.getEventId());
+        assertEquals(policy.getCustomerId(), change.getCustomerId());
+        assertEquals(RequestStatus.VALIDATED, change.getStatus());
+    }
+}
@@ -0,0 +1,97 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.insurance.application.usecases.UpdatePolicyStatusUseCase;
+import com.itau.insurance.config.MessagingConfig;
+import com.itau.insurance.infrastructure.idempotency.ProcessedEventRegistry;
+import com.itau.insurance.infrastructure.messaging.codec.PolicyMessageCodecs;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.repository.ProcessedEventRepository;
+import com.itau.insurance.interfaces.controller.EventController;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventRequestDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Fluxo completo sem broker: {@code POST /events/status} → transporte em memória → consumidor → caso de uso,
+ * com a mesma configuração do profile in-process.
+ */
+class InProcessCommandGatewayTest {
+
+    private final UpdatePolicyStatusUseCase updatePolicyStatusUseCase = mock(UpdatePolicyStatusUseCase.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withPropertyValues("messaging.transport=in-process", "messaging.codec=binary")
+            .withUserConfiguration(MessagingConfig.class, InProcessCommandGateway.class, EventConsumer.class,
+                    BatchEventConsumer.class, StatusUpdateLatency.class, EventController.class)
+            .withBean(UpdatePolicyStatusUseCase.class, () -> updatePolicyStatusUseCase)
+            .withBean(PolicyMessageCodecs.class, () -> new PolicyMessageCodecs(new ObjectMapper(), "binary"))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(CacheManager.class, ConcurrentMapCacheManager::new)
+            .withBean(ProcessedEventRegistry.class, () -> new ProcessedEventRegistry(mock(ProcessedEventRepository.class),
+                    new SimpleMeterRegistry(), Duration.ofMinutes(10), 1_000, false, Duration.ofDays(7)));
+
+    @Test
+    void deveEntregarComandoRecebidoPorHttpAoConsumidorEmLote() {
+        UUID policyId = UUID.randomUUID();
+        when(updatePolicyStatusUseCase.executeBatch(anyList())).thenReturn(List.of(new PolicyRequestEntity()));
+
+        contextRunner.withPropertyValues("messaging.consumer.batch.enabled=true").run(context -> {
+            EventController controller = context.getBean(EventController.class);
+
+            ResponseEntity<String> accepted = controller.processStatusEvent(request(policyId), "pagamento-1");
+
+            assertEquals(202, accepted.getStatusCode().value());
+            verify(updatePolicyStatusUseCase, timeout(5_000)).executeBatch(argThat((List<PolicyStatusUpdateRequestDTO> updates) ->
+                    updates.size() == 1 && policyId.equals(updates.get(0).getPolicyId()) && updates.get(0).isPaymentConfirmed()));
+
+            // marcado como processado pelo consumidor: o reenvio é reconhecido já na porta de entrada
+            ResponseEntity<String> retry = awaitDuplicate(controller, request(policyId), "pagamento-1");
+            assertTrue(retry.getBody().contains("Evento já processado"));
+            verify(updatePolicyStatusUseCase, times(1)).executeBatch(anyList());
+        });
+    }
+
+    @Test
+    void deveEntregarComandoRecebidoPorHttpAoConsumidorUnitario() {
+        UUID policyId = UUID.randomUUID();
+        when(updatePolicyStatusUseCase.execute(policyId, true, false)).thenReturn(new PolicyRequestEntity());
+
+        contextRunner.withPropertyValues("messaging.consumer.batch.enabled=false").run(context -> {
+            context.getBean(EventController.class).processStatusEvent(request(policyId), null);
+
+            verify(updatePolicyStatusUseCase, timeout(5_000)).execute(policyId, true, false);
+        });
+    }
+
+    private static PolicyStatusEventRequestDTO request(UUID policyId) {
+        PolicyStatusEventRequestDTO request = new PolicyStatusEventRequestDTO();
+        request.setId(policyId);
+        request.setPaymentConfirmed(true);
+        return request;
+    }
+
+    private static ResponseEntity<String> awaitDuplicate(EventController controller, PolicyStatusEventRequestDTO request,
+                                                         String idempotencyKey) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        ResponseEntity<String> response;
+        do {
+            response = controller.processStatusEvent(request, idempotencyKey);
+        } while (response.getStatusCode().value() != 200 && System.currentTimeMillis() < deadline);
+        return response;
+    }
+}
@@ -0,0 +1,92 @@
+package com.itau.insurance.infrastructure.messaging;
+
+import com.itau.insurance.infrastructure.messaging.transport.RabbitMessageTransport;
+import com.itau.insurance.infrastructure.persistence.entity.OutboxEventEntity;
+import com.itau.insurance.infrastructure.persistence.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private OutboxEventRepository repository;
+    private RabbitTemplate rabbitTemplate;
+    private RabbitOperations operations;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        rabbitTemplate = mock(RabbitTemplate.class);
+        operations = mock(RabbitOperations.class);
+        relay = new OutboxRelay(repository, new RabbitMessageTransport(rabbitTemplate, 1000),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 2);
+
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    @Test
+    void devePublicarLoteAguardarConfirmsERemoverDoOutbox() {
+        OutboxEventEntity first = event();
+        OutboxEventEntity second = event();
+        when(repository.findNextBatch(Limit.of(2))).thenReturn(List.of(first, second));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        verify(operations).send(eq("policy.exchange"), eq("policy.validated"),
+                argThat((Message m) -> m.getMessageProperties().getMessageId().equals(first.getId().toString())));
+        verify(operations, times(2)).send(anyString(), anyString(), any(Message.class));
+        verify(operations).waitForConfirmsOrDie(1000);
+        verify(repository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+    }
+
+    @Test
+    void naoDeveRemoverEventosQuandoBrokerNaoConfirmar() {
+        when(repository.findNextBatch(Limit.of(2))).thenReturn(List.of(event()));
+        doThrow(new AmqpException("nack")).when(operations).waitForConfirmsOrDie(anyLong());
+
+        relay.relay();
+
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void deveDrenarEnquantoHouverLotesCompletos() {
+        when(repository.findNextBatch(Limit.of(2)))
+                .thenReturn(List.of(event(), event()))
+                .thenReturn(List.of(event()));
+
+        relay.relay();
+
+        verify(repository, times(2)).findNextBatch(Limit.of(2));
+        verify(operations, times(3)).send(anyString(), anyString(), any(Message.class));
+    }
+
+    private OutboxEventEntity event() {
+        return OutboxEventEntity.builder()
+                .id(UUID.randomUUID())
+                .exchange("policy.exchange")
+                .routingKey("policy.validated")
+                .contentType("application/json")
+                .payload("{}".getBytes(StandardCharsets.UTF_8))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.itau.insurance.infrastructure.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyMessageCodecsTest {
+
+    private final PolicyMessageCodecs codecs =
+            new PolicyMessageCodecs(new ObjectMapper().registerModule(new JavaTimeModule()), "binary");
+
+    @Test
+    void deveCodificarComandoBinarioEm18Bytes() {
+        PolicyStatusUpdateRequestDTO command = new PolicyStatusUpdateRequestDTO();
+        command.setPolicyId(UUID.randomUUID());
+        command.setPaymentConfirmed(true);
+
+        PolicyMessageCodec codec = codecs.outbound();
+        byte[] body = codec.encodeCommand(command);
+
+        assertEquals(18, body.length);
+        assertEquals(command, codec.decodeCommand(body));
+    }
+
+    @Test
+    void deveIncluirEventIdNoComandoBinarioQuandoPresente() {
+        PolicyStatusUpdateRequestDTO command = new PolicyStatusUpdateRequestDTO();
+        command.setEventId(UUID.randomUUID());
+        command.setPolicyId(UUID.randomUUID());
+        command.setSubscriptionAuthorized(true);
+
+        byte[] body = codecs.outbound().encodeCommand(command);
+
+        assertEquals(34, body.length);
+        assertEquals(command, codecs.outbound().decodeCommand(body));
+    }
+
+    @Test
+    void deveRecusarComandoBinarioSemPolicyId() {
+        PolicyStatusUpdateRequestDTO command = new PolicyStatusUpdateRequestDTO();
+        command.setPaymentConfirmed(true);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> codecs.outbound().encodeCommand(command));
+        assertEquals("Comando binário exige policyId", ex.getMessage());
+    }
+
+    @Test
+    void deveFazerIdaEVoltaDoEventoBinario() {
+        PolicyStatusEventDTO event = PolicyStatusEventDTO.builder()
+                .eventId(UUID.randomUUID())
+                .policyId(UUID.randomUUID())
+                .customerId(UUID.randomUUID())
+                .status(RequestStatus.APPROVED)
+                .timestamp(LocalDateTime.of(2024, 5, 10, 14, 30, 15, 123_456_789))
+                .build();
+
+        PolicyMessageCodec codec = codecs.forContentType(BinaryPolicyMessageCodec.CONTENT_TYPE);
+
+        assertEquals(event, codec.decodeEvent(codec.encodeEvent(event)));
+    }
+
+    @Test
+    void deveOmitirCamposNulosDoEventoBinario() {
+        PolicyStatusEventDTO event = PolicyStatusEventDTO.builder().policyId(UUID.randomUUID()).build();
+
+        byte[] body = codecs.outbound().encodeEvent(event);
+
+        assertEquals(18, body.length);
+        assertEquals(event, codecs.outbound().decodeEvent(body));
+    }
+
+    @Test
+    void deveTratarMensagensSemContentTypeComoJson() {
+        UUID policyId = UUID.randomUUID();
+        byte[] body = ("{\"policyId\":\"" + policyId + "\",\"paymentConfirmed\":true,\"subscriptionAuthorized\":true}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        for (String contentType : Arrays.asList(null, "application/json; charset=UTF-8", "application/octet-stream")) {
+            PolicyStatusUpdateRequestDTO command = codecs.forContentType(contentType).decodeCommand(body);
+
+            assertEquals(policyId, command.getPolicyId());
+            assertTrue(command.isSubscriptionAuthorized());
+        }
+    }
+
+    @Test
+    void deveRecusarContentTypeDesconhecidoEMensagemBinariaTruncada() {
+        assertThrows(MessageConversionException.class, () -> codecs.forContentType("application/xml"));
+        assertThrows(MessageConversionException.class, () -> codecs.outbound().decodeCommand(new byte[]{1, 2, 3}));
+        assertThrows(MessageConversionException.class, () -> codecs.outbound().decodeCommand(new byte[18]));
+    }
+}
@@ -0,0 +1,165 @@
+package com.itau.insurance.infrastructure.messaging.transport;
+
+import com.itau.insurance.exceptions.PolicyNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InProcessMessageTransportTest {
+
+    private final MessageBatchRecoverer recoverer = mock(MessageBatchRecoverer.class);
+    private InProcessMessageTransport transport;
+
+    @AfterEach
+    void tearDown() {
+        if (transport != null) {
+            transport.stop();
+        }
+    }
+
+    @Test
+    void deveEntregarEmOrdemMesmoComBufferMenorQueOLote() throws Exception {
+        transport = new InProcessMessageTransport(4, 3, 1, 0, recoverer);
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(50);
+        transport.subscribeBatch("policy.status.updated", messages -> messages.forEach(message -> {
+            received.add(body(message));
+            done.countDown();
+        }));
+        transport.start();
+
+        transport.publish(IntStream.range(0, 50).mapToObj(i -> command(String.valueOf(i))).toList());
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 50).mapToObj(String::valueOf).toList(), received);
+        assertEquals(0, transport.pending());
+    }
+
+    @Test
+    void deveEnviarFalhaPermanenteAoRecovererSemRepetir() throws Exception {
+        transport = new InProcessMessageTransport(16, 10, 3, 1, recoverer);
+        List<String> attempts = new CopyOnWriteArrayList<>();
+        CountDownLatch recovered = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            recovered.countDown();
+            return null;
+        }).when(recoverer).recover(anyList(), any());
+        transport.subscribe("policy.status.updated", message -> {
+            attempts.add(body(message));
+            throw new PolicyNotFoundException(UUID.randomUUID());
+        });
+        transport.start();
+
+        transport.publish(List.of(command("inexistente")));
+
+        assertTrue(recovered.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("inexistente"), attempts);
+        verify(recoverer).recover(anyList(), any(PolicyNotFoundException.class));
+    }
+
+    @Test
+    void deveRotearPorPadraoTopic() throws Exception {
+        transport = new InProcessMessageTransport(16, 10, 1, 0, recoverer);
+        List<String> approvals = new CopyOnWriteArrayList<>();
+        List<String> allEvents = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+        transport.subscribe("policy.approved", message -> {
+            approvals.add(body(message));
+            done.countDown();
+        });
+        transport.subscribe("policy.#", message -> {
+            allEvents.add(body(message));
+            done.countDown();
+        });
+        transport.start();
+
+        transport.publish(List.of(event("policy.created", "a"), event("policy.approved", "b"), event("policy.status.updated", "c")));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("b"), approvals);
+        assertEquals(List.of("a", "b", "c"), allEvents);
+    }
+
+    @Test
+    void deveRepetirFalhasEEnviarAoRecovererAoEsgotarTentativas() throws Exception {
+        transport = new InProcessMessageTransport(16, 10, 3, 1, recoverer);
+        List<String> attempts = new CopyOnWriteArrayList<>();
+        CountDownLatch recovered = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            recovered.countDown();
+            return null;
+        }).when(recoverer).recover(anyList(), any());
+        transport.subscribe("policy.status.updated", message -> {
+            attempts.add(body(message));
+            if (body(message).equals("ruim")) {
+                throw new IllegalStateException("falha");
+            }
+        });
+        transport.start();
+
+        transport.publish(List.of(command("ruim"), command("bom")));
+
+        assertTrue(recovered.await(5, TimeUnit.SECONDS));
+        transport.stop();
+        assertEquals(List.of("ruim", "ruim", "ruim", "bom"), attempts);
+        verify(recoverer).recover(argThat((List<Message> messages) ->
+                messages.size() == 1 && body(messages.get(0)).equals("ruim")), any(IllegalStateException.class));
+    }
+
+    @Test
+    void deveDrenarPendentesAoPararERecusarNovasPublicacoes() {
+        transport = new InProcessMessageTransport(64, 10, 1, 0, recoverer);
+        List<String> received = new ArrayList<>();
+        transport.subscribe("policy.status.updated", message -> received.add(body(message)));
+
+        transport.publish(List.of(command("1"), command("2")));
+        transport.start();
+        transport.stop();
+
+        assertEquals(List.of("1", "2"), received);
+        assertThrows(IllegalStateException.class, () -> transport.publish(List.of(command("3"))));
+    }
+
+    @Test
+    void deveArredondarCapacidadeParaPotenciaDeDois() {
+        assertEquals(8, new InProcessMessageTransport(5, 1, 1, 0, recoverer).capacity());
+        assertEquals(8, new InProcessMessageTransport(8, 1, 1, 0, recoverer).capacity());
+    }
+
+    @Test
+    void deveCasarCuringasComoExchangeTopic() {
+        assertTrue(InProcessMessageTransport.matches("policy.*", "policy.approved"));
+        assertFalse(InProcessMessageTransport.matches("policy.*", "policy.status.updated"));
+        assertTrue(InProcessMessageTransport.matches("policy.#", "policy.status.updated.shard-1"));
+        assertTrue(InProcessMessageTransport.matches("#.updated", "policy.status.updated"));
+        assertFalse(InProcessMessageTransport.matches("policy.approved", "policy.rejected"));
+    }
+
+    private static TransportMessage command(String body) {
+        return event("policy.status.updated", body);
+    }
+
+    private static TransportMessage event(String routingKey, String body) {
+        return new TransportMessage("policy.exchange", routingKey,
+                new Message(body.getBytes(StandardCharsets.UTF_8), new MessageProperties()));
+    }
+
+    private static String body(Message message) {
+        return new String(message.getBody(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,73 @@
+package com.itau.insurance.infrastructure.persistence.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void deveGerarUuidVersao7ComVarianteRfc() {
+        UUID uuid = UuidV7Generator.nextUuid();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void deveCodificarTimestampNosPrimeiros48Bits() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.nextUuid();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void deveManterOrdemCrescenteMesmoComRelogioParado() {
+        long now = System.currentTimeMillis();
+
+        long first = UuidV7Generator.nextState(now);
+        long second = UuidV7Generator.nextState(now);
+        long afterClockRollback = UuidV7Generator.nextState(now - 1_000);
+
+        assertTrue(second > first);
+        assertTrue(afterClockRollback > second);
+    }
+
+    @Test
+    void deveGerarValoresUnicosEOrdenadosPorThreadSobConcorrencia() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                List<UUID> generated = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    generated.add(UuidV7Generator.nextUuid());
+                }
+                return generated;
+            }));
+        }
+
+        Set<UUID> all = new HashSet<>();
+        for (Future<List<UUID>> future : futures) {
+            List<UUID> generated = future.get();
+            for (int i = 1; i < generated.size(); i++) {
+                assertTrue(Long.compareUnsigned(generated.get(i - 1).getMostSignificantBits(),
+                        generated.get(i).getMostSignificantBits()) < 0);
+            }
+            all.addAll(generated);
+        }
+        executor.shutdown();
+
+        assertEquals(threads * perThread, all.size());
+    }
+}
@@ -0,0 +1,155 @@
+package com.itau.insurance.infrastructure.persistence.reactive;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.domain.enums.RiskClassification;
+import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.entity.StatusHistoryEntity;
+import com.itau.insurance.infrastructure.persistence.repository.PolicyRequestRepository;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// O schema é o gerado pelo Hibernate: o R2DBC aponta para o mesmo banco H2 em memória do JPA
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-repository;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReactivePolicyRequestRepositoryTest {
+
+    @Autowired
+    private PolicyRequestRepository jpaRepository;
+
+    private ReactivePolicyRequestRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseClient client = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem://sa@/reactive-repository;DB_CLOSE_DELAY=-1"));
+        repository = new ReactivePolicyRequestRepository(client);
+    }
+
+    @Test
+    void deveGravarApoliceComColecoesLegivelPeloJpa() {
+        PolicyRequestEntity policy = policy();
+
+        PolicyRequestEntity saved = repository.insert(policy).block();
+
+        assertNotNull(saved.getId());
+        PolicyRequestEntity loaded = jpaRepository.fetchHistory(List.of(saved.getId())).get(0);
+        assertEquals(RequestStatus.RECEIVED, loaded.getStatus());
+        assertEquals(policy.getCustomerId(), loaded.getCustomerId());
+        assertEquals(1, loaded.getHistory().size());
+        assertEquals(2, jpaRepository.fetchCoverages(List.of(saved.getId())).get(0).getCoverages().size());
+        assertEquals(List.of("Guincho"), jpaRepository.fetchAssistances(List.of(saved.getId())).get(0).getAssistances());
+    }
+
+    @Test
+    void deveLerApoliceComTodasAsColecoes() {
+        PolicyRequestEntity policy = repository.insert(policy()).block();
+
+        StepVerifier.create(repository.findById(policy.getId()))
+                .assertNext(loaded -> {
+                    assertEquals(policy.getInsuredAmount().compareTo(loaded.getInsuredAmount()), 0);
+                    assertEquals(policy.getCoverages().keySet(), loaded.getCoverages().keySet());
+                    assertEquals(List.of("Guincho"), loaded.getAssistances());
+                    assertEquals(RequestStatus.RECEIVED, loaded.getHistory().get(0).getStatus());
+                    assertNull(loaded.getRiskClassification());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deveAtualizarStatusGravandoApenasHistoricoNovo() {
+        PolicyRequestEntity policy = repository.insert(policy()).block();
+        policy.setStatus(RequestStatus.VALIDATED);
+        policy.setRiskClassification(RiskClassification.REGULAR);
+        policy.getHistory().add(StatusHistoryEntity.builder()
+                .status(RequestStatus.VALIDATED)
+                .timestamp(LocalDateTime.now().plusSeconds(1))
+                .build());
+
+        repository.update(policy).block();
+
+        StepVerifier.create(repository.findById(policy.getId()))
+                .assertNext(loaded -> {
+                    assertEquals(RequestStatus.VALIDATED, loaded.getStatus());
+                    assertEquals(RiskClassification.REGULAR, loaded.getRiskClassification());
+                    assertEquals(1L, loaded.getVersion());
+                    assertEquals(List.of(RequestStatus.RECEIVED, RequestStatus.VALIDATED),
+                            loaded.getHistory().stream().map(StatusHistoryEntity::getStatus).toList());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRejeitarAtualizacaoSobreVersaoDesatualizada() {
+        PolicyRequestEntity policy = repository.insert(policy()).block();
+        PolicyRequestEntity stale = repository.findById(policy.getId()).block();
+        policy.setStatus(RequestStatus.VALIDATED);
+        repository.update(policy).block();
+
+        stale.setStatus(RequestStatus.CANCELLED);
+
+        StepVerifier.create(repository.update(stale))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        StepVerifier.create(repository.findVersionById(policy.getId())).expectNext(1L).verifyComplete();
+    }
+
+    @Test
+    void deveIndicarSeApoliceExiste() {
+        PolicyRequestEntity policy = repository.insert(policy()).block();
+
+        StepVerifier.create(repository.existsById(policy.getId())).expectNext(true).verifyComplete();
+        StepVerifier.create(repository.existsById(UUID.randomUUID())).expectNext(false).verifyComplete();
+        StepVerifier.create(repository.findById(UUID.randomUUID())).verifyComplete();
+    }
+
+    private PolicyRequestEntity policy() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Map<String, BigDecimal> coverages = new LinkedHashMap<>();
+        coverages.put("Roubo", BigDecimal.valueOf(100_000));
+        coverages.put("Colisão", BigDecimal.valueOf(50_000));
+
+        return PolicyRequestEntity.builder()
+                .customerId(UUID.randomUUID())
+                .productId(UUID.randomUUID())
+                .category("AUTO")
+                .salesChannel("MOBILE")
+                .paymentMethod("CREDIT_CARD")
+                .totalMonthlyPremiumAmount(BigDecimal.valueOf(75.25))
+                .insuredAmount(BigDecimal.valueOf(275_000.50))
+                .status(RequestStatus.RECEIVED)
+                .createdAt(now)
+                .coverages(coverages)
+                .assistances(new ArrayList<>(List.of("Guincho")))
+                .history(new ArrayList<>(List.of(StatusHistoryEntity.builder()
+                        .status(RequestStatus.RECEIVED)
+                        .timestamp(now)
+                        .build())))
+                .build();
+    }
+}
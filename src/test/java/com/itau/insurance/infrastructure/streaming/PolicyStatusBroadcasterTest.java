@@ -0,0 +1,98 @@
+package com.itau.insurance.infrastructure.streaming;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyStatusBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PolicyStatusBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new PolicyStatusBroadcaster(2, meterRegistry);
+    }
+
+    @Test
+    void deveEntregarTransicaoAosTopicosDaApoliceEDoCliente() {
+        UUID customerId = UUID.randomUUID();
+        PolicyStatusEventDTO change = change(UUID.randomUUID(), customerId, RequestStatus.VALIDATED);
+        PolicyStatusEventDTO otherCustomer = change(UUID.randomUUID(), UUID.randomUUID(), RequestStatus.PENDING);
+
+        StepVerifier.create(broadcaster.policyEvents(change.getPolicyId()))
+                .then(() -> broadcaster.onStatusChanged(new PolicyStatusChangedEvent(List.of(otherCustomer, change))))
+                .expectNext(change)
+                .thenCancel()
+                .verify();
+
+        StepVerifier.create(broadcaster.customerEvents(customerId))
+                .then(() -> broadcaster.onStatusChanged(new PolicyStatusChangedEvent(List.of(otherCustomer, change))))
+                .expectNext(change)
+                .thenCancel()
+                .verify();
+
+        assertEquals(2.0, meterRegistry.counter("policy.stream.events").count());
+    }
+
+    @Test
+    void deveRemoverTopicoQuandoUltimoAssinanteSair() {
+        PolicyStatusEventDTO change = change(UUID.randomUUID(), UUID.randomUUID(), RequestStatus.APPROVED);
+
+        StepVerifier.create(broadcaster.policyEvents(change.getPolicyId()))
+                .then(() -> assertEquals(1, broadcaster.subscriberCount()))
+                .thenCancel()
+                .verify();
+
+        broadcaster.onStatusChanged(new PolicyStatusChangedEvent(List.of(change)));
+
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(0.0, meterRegistry.counter("policy.stream.events").count());
+    }
+
+    @Test
+    void deveDesligarAssinanteLentoSemAfetarOsDemais() {
+        UUID policyId = UUID.randomUUID();
+        List<PolicyStatusEventDTO> changes = List.of(
+                change(policyId, UUID.randomUUID(), RequestStatus.VALIDATED),
+                change(policyId, UUID.randomUUID(), RequestStatus.PENDING),
+                change(policyId, UUID.randomUUID(), RequestStatus.APPROVED));
+
+        StepVerifier fast = StepVerifier.create(broadcaster.policyEvents(policyId))
+                .expectNextSequence(changes)
+                .thenCancel()
+                .verifyLater();
+
+        // sem demanda, o terceiro evento estoura o buffer de 2 e encerra só este assinante
+        StepVerifier.create(broadcaster.policyEvents(policyId), 0)
+                .then(() -> changes.forEach(change ->
+                        broadcaster.onStatusChanged(new PolicyStatusChangedEvent(List.of(change)))))
+                .thenRequest(10)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        fast.verify();
+        assertEquals(1.0, meterRegistry.counter("policy.stream.evicted").count());
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private PolicyStatusEventDTO change(UUID policyId, UUID customerId, RequestStatus status) {
+        return PolicyStatusEventDTO.builder()
+                .eventId(UUID.randomUUID())
+                .policyId(policyId)
+                .customerId(customerId)
+                .status(status)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
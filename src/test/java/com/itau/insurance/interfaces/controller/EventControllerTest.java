@@ -2,26 +2,41 @@ package com.itau.insurance.interfaces.controller;
 
 import com.itau.insurance.application.usecases.UpdatePolicyStatusUseCase;
 import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.exceptions.InvalidStatusEventException;
+import com.itau.insurance.infrastructure.idempotency.ProcessedEventRegistry;
+import com.itau.insurance.infrastructure.messaging.InProcessCommandGateway;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.infrastructure.persistence.repository.ProcessedEventRepository;
 import com.itau.insurance.interfaces.dto.PolicyStatusEventRequestDTO;
+import com.itau.insurance.interfaces.dto.PolicyStatusUpdateRequestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class EventControllerTest {
 
     private UpdatePolicyStatusUseCase updatePolicyStatusUseCase;
+    private ProcessedEventRegistry processedEvents;
+    private ObjectProvider<InProcessCommandGateway> commandGateway;
     private EventController controller;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
         updatePolicyStatusUseCase = mock(UpdatePolicyStatusUseCase.class);
-        controller = new EventController(updatePolicyStatusUseCase);
+        processedEvents = new ProcessedEventRegistry(mock(ProcessedEventRepository.class), new SimpleMeterRegistry(),
+                Duration.ofMinutes(10), 1_000, false, Duration.ofDays(7));
+        commandGateway = mock(ObjectProvider.class);
+        controller = new EventController(updatePolicyStatusUseCase, processedEvents, commandGateway);
     }
 
     @Test
@@ -41,10 +56,58 @@ class EventControllerTest {
                 request.isSubscriptionAuthorized())
         ).thenReturn(entity);
 
-        ResponseEntity<String> response = controller.processStatusEvent(request);
+        ResponseEntity<String> response = controller.processStatusEvent(request, null);
 
         assertEquals(200, response.getStatusCodeValue());
         assertTrue(response.getBody().contains("Status atualizado para: APPROVED"));
         verify(updatePolicyStatusUseCase).execute(id, true, true);
     }
+
+    @Test
+    void deveIgnorarReenvioComMesmaIdempotencyKey() {
+        UUID id = UUID.randomUUID();
+        PolicyStatusEventRequestDTO request = new PolicyStatusEventRequestDTO();
+        request.setId(id);
+        request.setPaymentConfirmed(true);
+
+        PolicyRequestEntity entity = new PolicyRequestEntity();
+        entity.setStatus(RequestStatus.PENDING);
+        when(updatePolicyStatusUseCase.execute(id, true, false)).thenReturn(entity);
+
+        controller.processStatusEvent(request, "pagamento-123");
+        ResponseEntity<String> retry = controller.processStatusEvent(request, "pagamento-123");
+
+        assertEquals(200, retry.getStatusCodeValue());
+        assertTrue(retry.getBody().contains("Evento já processado"));
+        verify(updatePolicyStatusUseCase, times(1)).execute(id, true, false);
+    }
+
+    @Test
+    void deveRecusarEventoSemIdDaApoliceAntesDeEnfileirar() {
+        InProcessCommandGateway gateway = mock(InProcessCommandGateway.class);
+        when(commandGateway.getIfAvailable()).thenReturn(gateway);
+        PolicyStatusEventRequestDTO request = new PolicyStatusEventRequestDTO();
+        request.setPaymentConfirmed(true);
+
+        assertThrows(InvalidStatusEventException.class, () -> controller.processStatusEvent(request, "pagamento-sem-id"));
+        verifyNoInteractions(gateway, updatePolicyStatusUseCase);
+    }
+
+    @Test
+    void deveEnfileirarComandoNoTransporteEmMemoria() {
+        InProcessCommandGateway gateway = mock(InProcessCommandGateway.class);
+        when(commandGateway.getIfAvailable()).thenReturn(gateway);
+        UUID id = UUID.randomUUID();
+        PolicyStatusEventRequestDTO request = new PolicyStatusEventRequestDTO();
+        request.setId(id);
+        request.setSubscriptionAuthorized(true);
+
+        ResponseEntity<String> response = controller.processStatusEvent(request, "subscricao-1");
+
+        assertEquals(202, response.getStatusCode().value());
+        verify(gateway).send(argThat((PolicyStatusUpdateRequestDTO command) ->
+                id.equals(command.getPolicyId()) && !command.isPaymentConfirmed() && command.isSubscriptionAuthorized()),
+                eq("subscricao-1"));
+        verifyNoInteractions(updatePolicyStatusUseCase);
+    }
 }
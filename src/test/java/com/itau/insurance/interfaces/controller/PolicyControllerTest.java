@@ -1,14 +1,24 @@
 package com.itau.insurance.interfaces.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.insurance.application.usecases.*;
 import com.itau.insurance.domain.enums.RequestStatus;
 import com.itau.insurance.exceptions.NotFoundException;
 import com.itau.insurance.infrastructure.persistence.entity.PolicyRequestEntity;
+import com.itau.insurance.interfaces.dto.PolicyBatchItemResultDTO;
+import com.itau.insurance.interfaces.dto.PolicyBatchResponseDTO;
+import com.itau.insurance.exceptions.InvalidFieldSelectionException;
+import com.itau.insurance.interfaces.dto.PolicyFields;
+import com.itau.insurance.interfaces.dto.PolicyPageResponseDTO;
+import com.itau.insurance.interfaces.dto.PolicyResponseDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -21,7 +31,9 @@ class PolicyControllerTest {
     private CreatePolicyUseCase createPolicyUseCase;
     private FindPolicyUseCase findPolicyUseCase;
     private ValidatePolicyUseCase validatePolicyUseCase;
+    private ValidatePolicyAsyncUseCase validatePolicyAsyncUseCase;
     private CancelPolicyUseCase cancelPolicyUseCase;
+    private CreatePolicyBatchUseCase createPolicyBatchUseCase;
     private PolicyController controller;
 
     @BeforeEach
@@ -29,13 +41,19 @@ class PolicyControllerTest {
         createPolicyUseCase = mock(CreatePolicyUseCase.class);
         findPolicyUseCase = mock(FindPolicyUseCase.class);
         validatePolicyUseCase = mock(ValidatePolicyUseCase.class);
+        validatePolicyAsyncUseCase = mock(ValidatePolicyAsyncUseCase.class);
         cancelPolicyUseCase = mock(CancelPolicyUseCase.class);
+        createPolicyBatchUseCase = mock(CreatePolicyBatchUseCase.class);
 
         controller = new PolicyController(
                 createPolicyUseCase,
                 findPolicyUseCase,
                 validatePolicyUseCase,
-                cancelPolicyUseCase
+                validatePolicyAsyncUseCase,
+                cancelPolicyUseCase,
+                createPolicyBatchUseCase,
+                mock(PolicyEventStreams.class),
+                new ObjectMapper().findAndRegisterModules()
         );
     }
 
@@ -47,10 +65,10 @@ class PolicyControllerTest {
 
         when(findPolicyUseCase.findById(policyId)).thenReturn(mockPolicy);
 
-        ResponseEntity<PolicyRequestEntity> response = controller.getById(policyId);
+        ResponseEntity<PolicyResponseDTO> response = controller.getById(policyId, null, null);
 
         assertEquals(200, response.getStatusCodeValue());
-        assertEquals(mockPolicy, response.getBody());
+        assertEquals(policyId, response.getBody().getId());
     }
 
     @Test
@@ -59,7 +77,7 @@ class PolicyControllerTest {
 
         when(findPolicyUseCase.findById(policyId)).thenThrow(new RuntimeException("Not found"));
 
-        assertThrows(RuntimeException.class, () -> controller.getById(policyId));
+        assertThrows(RuntimeException.class, () -> controller.getById(policyId, null, null));
     }
 
     @Test
@@ -85,12 +103,24 @@ class PolicyControllerTest {
 
         when(validatePolicyUseCase.execute(policyId)).thenReturn(policy);
 
-        ResponseEntity<String> response = controller.validatePolicy(policyId);
+        ResponseEntity<String> response = controller.validatePolicy(policyId, false);
 
         assertEquals(200, response.getStatusCodeValue());
         assertEquals("Solicitação " + policyId + " validada com status: VALIDATED", response.getBody());
     }
 
+    @Test
+    void deveAceitarValidacaoAssincronaERetornarAccepted() {
+        UUID policyId = UUID.randomUUID();
+
+        ResponseEntity<String> response = controller.validatePolicy(policyId, true);
+
+        assertEquals(202, response.getStatusCodeValue());
+        assertEquals("/policies/" + policyId, response.getHeaders().getLocation().toString());
+        verify(validatePolicyAsyncUseCase).submit(policyId);
+        verifyNoInteractions(validatePolicyUseCase);
+    }
+
     @Test
     void deveCancelarPolicyComSucesso() {
         UUID policyId = UUID.randomUUID();
@@ -131,25 +161,28 @@ class PolicyControllerTest {
     }
 
     @Test
-    void deveRetornarListaDePoliciesQuandoExistirem() {
+    void deveRetornarPaginaDePoliciesQuandoExistirem() {
         UUID customerId = UUID.randomUUID();
-        List<PolicyRequestEntity> policies = List.of(new PolicyRequestEntity(), new PolicyRequestEntity());
+        PolicyPageResponseDTO page = new PolicyPageResponseDTO(
+                List.of(new PolicyResponseDTO(), new PolicyResponseDTO()), "token");
 
-        when(findPolicyUseCase.findByCustomerId(customerId)).thenReturn(policies);
+        when(findPolicyUseCase.findByCustomerId(customerId, null, 50, PolicyFields.all())).thenReturn(page);
 
-        ResponseEntity<List<PolicyRequestEntity>> response = controller.getByCustomerId(customerId);
+        ResponseEntity<PolicyPageResponseDTO> response = controller.getByCustomerId(customerId, 50, null, null);
 
         assertNotNull(response.getBody());
-        assertEquals(2, response.getBody().size());
+        assertEquals(2, response.getBody().getItems().size());
+        assertEquals("token", response.getBody().getNext());
     }
 
     @Test
     void deveRetornarNoContentQuandoNaoHouverPolicies() {
         UUID customerId = UUID.randomUUID();
 
-        when(findPolicyUseCase.findByCustomerId(customerId)).thenReturn(Collections.emptyList());
+        when(findPolicyUseCase.findByCustomerId(customerId, "token", 50, PolicyFields.all()))
+                .thenReturn(new PolicyPageResponseDTO(Collections.emptyList(), null));
 
-        ResponseEntity<List<PolicyRequestEntity>> response = controller.getByCustomerId(customerId);
+        ResponseEntity<PolicyPageResponseDTO> response = controller.getByCustomerId(customerId, 50, "token", null);
 
         assertEquals(204, response.getStatusCodeValue());
         assertNull(response.getBody());
@@ -165,26 +198,134 @@ class PolicyControllerTest {
 
         when(findPolicyUseCase.findById(policyId)).thenReturn(policy);
 
-        ResponseEntity<PolicyRequestEntity> response = controller.getById(policyId);
+        ResponseEntity<PolicyResponseDTO> response = controller.getById(policyId, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(policyId, response.getBody().getId());
+        assertEquals("AUTO", response.getBody().getCategory());
         verify(findPolicyUseCase).findById(policyId);
     }
 
+    @Test
+    void deveUsarLeituraProjetadaQuandoCamposForemSelecionados() {
+        UUID policyId = UUID.randomUUID();
+        PolicyFields fields = PolicyFields.parse("id,status");
+        PolicyResponseDTO projected = PolicyResponseDTO.builder().id(policyId).status(RequestStatus.RECEIVED).build();
+
+        when(findPolicyUseCase.findById(policyId, fields)).thenReturn(projected);
+
+        ResponseEntity<PolicyResponseDTO> response = controller.getById(policyId, "id, status", null);
+
+        assertSame(projected, response.getBody());
+        verify(findPolicyUseCase, never()).findById(policyId);
+    }
+
+    @Test
+    void deveResponderNotModifiedSemCarregarApoliceQuandoVersaoNaoMudou() {
+        UUID policyId = UUID.randomUUID();
+
+        when(findPolicyUseCase.findVersion(policyId)).thenReturn(3L);
+
+        ResponseEntity<PolicyResponseDTO> response = controller.getById(policyId, null, "W/\"2\", \"3\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(findPolicyUseCase, never()).findById(policyId);
+    }
+
+    @Test
+    void deveRetornarApoliceComNovoETagQuandoVersaoMudou() {
+        UUID policyId = UUID.randomUUID();
+        PolicyRequestEntity policy = PolicyRequestEntity.builder().id(policyId).version(4L).build();
+
+        when(findPolicyUseCase.findVersion(policyId)).thenReturn(4L);
+        when(findPolicyUseCase.findById(policyId, 4L)).thenReturn(policy);
+
+        ResponseEntity<PolicyResponseDTO> response = controller.getById(policyId, null, "\"3\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+        assertEquals(policyId, response.getBody().getId());
+        // a versão já lida do banco acompanha a leitura, para que o cache não sirva uma entidade anterior a ela
+        verify(findPolicyUseCase, never()).findById(policyId);
+    }
+
+    @Test
+    void deveDiferenciarETagPorSelecaoDeCampos() {
+        PolicyFields fields = PolicyFields.parse("status,id");
+
+        assertEquals(PolicyController.etag(1, PolicyFields.parse("id,status")), PolicyController.etag(1, fields));
+        assertNotEquals(PolicyController.etag(1, PolicyFields.all()), PolicyController.etag(1, fields));
+        assertFalse(PolicyController.matches("\"1\"", PolicyController.etag(1, fields)));
+        assertTrue(PolicyController.matches("*", PolicyController.etag(1, fields)));
+    }
+
+    @Test
+    void deveRejeitarCampoDesconhecidoNaSelecao() {
+        UUID policyId = UUID.randomUUID();
+
+        assertThrows(InvalidFieldSelectionException.class, () -> controller.getById(policyId, "id,premio", null));
+        verifyNoInteractions(findPolicyUseCase);
+    }
+
     @Test
     void deveRetornarNotFoundQuandoPolicyNaoExistir() {
         UUID policyId = UUID.randomUUID();
 
         when(findPolicyUseCase.findById(policyId)).thenThrow(new NotFoundException("Solicitação não encontrada"));
 
-        NotFoundException exception = assertThrows(NotFoundException.class, () -> controller.getById(policyId));
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> controller.getById(policyId, null, null));
 
         assertEquals("Solicitação não encontrada", exception.getMessage());
         verify(findPolicyUseCase).findById(policyId);
     }
 
+    @Test
+    void deveCriarLoteDeApolicesViaJson() {
+        List<PolicyRequestEntity> requests = List.of(new PolicyRequestEntity(), new PolicyRequestEntity());
+        PolicyBatchResponseDTO expected = PolicyBatchResponseDTO.builder()
+                .total(2)
+                .created(2)
+                .items(List.of(
+                        PolicyBatchItemResultDTO.created(0, UUID.randomUUID()),
+                        PolicyBatchItemResultDTO.created(1, UUID.randomUUID())))
+                .build();
+
+        when(createPolicyBatchUseCase.execute(requests)).thenReturn(expected);
+
+        ResponseEntity<PolicyBatchResponseDTO> response = controller.createBatch(requests);
 
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(expected, response.getBody());
+    }
+
+    @Test
+    void deveCriarLoteViaNdjsonInformandoLinhasInvalidas() throws Exception {
+        String body = "{\"category\":\"VIDA\"}\n"
+                + "{ invalido\n"
+                + "\n"
+                + "{\"category\":\"AUTO\"}\n";
+
+        when(createPolicyBatchUseCase.execute(anyList())).thenAnswer(invocation -> {
+            List<PolicyRequestEntity> requests = invocation.getArgument(0);
+            List<PolicyBatchItemResultDTO> items = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                items.add(requests.get(i) == null
+                        ? PolicyBatchItemResultDTO.failed(i, "A solicitação de apólice está nula")
+                        : PolicyBatchItemResultDTO.created(i, UUID.randomUUID()));
+            }
+            return PolicyBatchResponseDTO.builder().total(requests.size()).created(2).failed(1).items(items).build();
+        });
+
+        ResponseEntity<PolicyBatchResponseDTO> response = controller.createBatchNdjson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
 
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(3, response.getBody().getTotal());
+        assertNotNull(response.getBody().getItems().get(0).getId());
+        assertTrue(response.getBody().getItems().get(1).getError().startsWith("JSON inválido"));
+        assertNotNull(response.getBody().getItems().get(2).getId());
+    }
 }
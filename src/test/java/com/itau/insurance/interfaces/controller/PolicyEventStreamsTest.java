@@ -0,0 +1,92 @@
+package com.itau.insurance.interfaces.controller;
+
+import com.itau.insurance.domain.enums.RequestStatus;
+import com.itau.insurance.infrastructure.streaming.PolicyStatusBroadcaster;
+import com.itau.insurance.infrastructure.streaming.PolicyStatusChangedEvent;
+import com.itau.insurance.interfaces.dto.PolicyStatusEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicyEventStreamsTest {
+
+    private PolicyStatusBroadcaster broadcaster;
+    private PolicyEventStreams streams;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new PolicyStatusBroadcaster(16, new SimpleMeterRegistry());
+        streams = new PolicyEventStreams(broadcaster, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void deveEnviarEstadoAtualETransicoesSeguintesAteOStatusFinal() {
+        UUID policyId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        PolicyStatusEventDTO current = change(policyId, RequestStatus.VALIDATED, now);
+        PolicyStatusEventDTO approved = change(policyId, RequestStatus.APPROVED, now.plusSeconds(1));
+
+        // a transição lida como estado atual também chega pelo tópico e não deve ser repetida
+        Mono<PolicyStatusEventDTO> snapshot = Mono.fromCallable(() -> {
+            broadcaster.onStatusChanged(new PolicyStatusChangedEvent(List.of(current)));
+            return current;
+        });
+
+        StepVerifier.create(streams.policy(policyId, snapshot))
+                .assertNext(event -> {
+                    assertEquals("status", event.event());
+                    assertEquals(current.getEventId().toString(), event.id());
+                    assertEquals(RequestStatus.VALIDATED, event.data().getStatus());
+                })
+                .then(() -> broadcaster.onStatusChanged(new PolicyStatusChangedEvent(List.of(approved))))
+                .assertNext(event -> assertEquals(RequestStatus.APPROVED, event.data().getStatus()))
+                .verifyComplete();
+
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void deveEncerrarLogoQuandoApoliceJaEstiverFinalizada() {
+        UUID policyId = UUID.randomUUID();
+        PolicyStatusEventDTO cancelled = change(policyId, RequestStatus.CANCELLED, LocalDateTime.now());
+
+        StepVerifier.create(streams.policy(policyId, Mono.just(cancelled)))
+                .assertNext(event -> assertEquals(RequestStatus.CANCELLED, event.data().getStatus()))
+                .verifyComplete();
+
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void deveEnviarHeartbeatEnquantoNaoHouverTransicoes() {
+        StepVerifier.withVirtualTime(() -> new PolicyEventStreams(broadcaster, Duration.ofSeconds(15))
+                        .customer(UUID.randomUUID()))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(30))
+                .assertNext(event -> assertEquals("heartbeat", event.comment()))
+                .assertNext(event -> assertEquals("heartbeat", event.comment()))
+                .thenCancel()
+                .verify();
+
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private PolicyStatusEventDTO change(UUID policyId, RequestStatus status, LocalDateTime timestamp) {
+        return PolicyStatusEventDTO.builder()
+                .eventId(UUID.randomUUID())
+                .policyId(policyId)
+                .customerId(UUID.randomUUID())
+                .status(status)
+                .timestamp(timestamp)
+                .build();
+    }
+}